@@ -0,0 +1,128 @@
+/*
+ * Copyright 2026 IEXEC BLOCKCHAIN TECH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.iexec.commons.poco;
+
+import com.iexec.commons.poco.chain.SignerService;
+import com.iexec.commons.poco.eip712.EIP712Domain;
+import com.iexec.commons.poco.order.AppOrder;
+import com.iexec.commons.poco.order.DatasetOrder;
+import com.iexec.commons.poco.order.OrderTag;
+import com.iexec.commons.poco.order.RequestOrder;
+import com.iexec.commons.poco.order.WorkerpoolOrder;
+import com.iexec.commons.poco.utils.BytesUtils;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.web3j.crypto.Credentials;
+
+import java.math.BigInteger;
+
+/**
+ * Values shared by benchmarks, taken from unit tests data.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class BenchmarkFixtures {
+
+    public static final long CHAIN_ID = 133;
+    public static final String HUB_ADDRESS = "0x3eca1B216A7DF1C7689aEb259fFB83ADFB894E7f";
+    public static final String PRIVATE_KEY = "0x6dacd24b3d49d0c50c555aa728c60a57aa08beb363e3a90cce2e4e5d327c6ee2";
+    public static final Credentials CREDENTIALS = Credentials.create(PRIVATE_KEY);
+
+    public static final String CHAIN_DEAL_ID = "0x1e5a1d0b87c3a4d6b48ef5e1b5e1c7b0a1c5f2d3f3f8fa7e0ab4d66d6ac21b4b";
+    public static final String CHAIN_TASK_ID = "0x5125c4ca7176e40d8c5386072a6f262029609a5d3a896fbf592cd965e65098d9";
+    public static final String RESULT_DIGEST = "0x0000000000000000000000000000000000000000000000000000000000000001";
+    public static final String RESULT_HASH = "0xd51d2a3e1ca0df7b4b9ed3e4ab0ea5ad0f0a4f4cfc1b7a7a0efb5d0f0f1e9a3c";
+    public static final String RESULT_SEAL = "0x1e3e5f0aFC3d7d3b2dF6A4d2cF0E0B1a2c3d4e5f60718293a4b5c6d7e8f90a1b";
+    public static final String ENCLAVE_CHALLENGE = "0x3eca1B216A7DF1C7689aEb259fFB83ADFB894E7f";
+    public static final String SIGNATURE = "0x1b0dca3a5ce3fa0b5d9fd2cc6a3e1c7cd58b4bd9a1c2d9c0d5f3a0e8b58b7b7e5c3a4ac4b57e3ae0fae9c4e7a86e8e7b3e6ee3c5e5c3dd4a1bc1dc2a25c8e9d1c";
+    public static final String WORKER1 = "0x1a69b2eb604db8eba185df03ea4f5288dcbbd248";
+    public static final String WORKER2 = "0x87ca4b8a4f8ab1f4b6a1bc3d4d3af2a4e02ea1b4";
+
+    public static final String APP_ADDRESS = "0x6709CAe77CDa2cbA8Cb90A4F5a4eFfb5c8Fe8367";
+    public static final String DATASET_ADDRESS = "0x2EbD509d777B187E8394566bA6ec093B9dd73DF1";
+    public static final String WORKERPOOL_ADDRESS = "0x506fA5EaCa52B5d2F133452a45FFA68aD1CfB3C5";
+    private static final String SALT = "0xbe858b0eee90cf2e85297bd3df81373f6b4de20c67a3e1f5db1a9d5be8abc3c4";
+    private static final String PARAMS = "{\"iexec_tee_post_compute_fingerprint\":\"76bfdee97e692b729e989694f3a566cf0e1de95fc456ff5ee88c75b1cb865e33|1eb627c1c94bbca03178b099b13fb4d1|13076027fc67accba753a3ed2edf03227dfd013b450d68833a5589ec44132100\",\"iexec_tee_post_compute_image\":\"iexechub/tee-worker-post-compute:1.0.0\",\"iexec_result_storage_provider\":\"ipfs\",\"iexec_result_storage_proxy\":\"https://result.viviani.iex.ec\",\"iexec_result_encryption\":false,\"iexec_input_files\":[],\"iexec_args\":\"Alice\"}";
+
+    public static EIP712Domain domain() {
+        return new EIP712Domain(CHAIN_ID, HUB_ADDRESS);
+    }
+
+    public static SignerService signer() {
+        return new SignerService(null, CHAIN_ID, CREDENTIALS);
+    }
+
+    public static AppOrder appOrder() {
+        return AppOrder.builder()
+                .app(APP_ADDRESS)
+                .appprice(BigInteger.ZERO)
+                .volume(BigInteger.ONE)
+                .tag(OrderTag.TEE_SCONE.getValue())
+                .datasetrestrict(BytesUtils.EMPTY_ADDRESS)
+                .workerpoolrestrict(BytesUtils.EMPTY_ADDRESS)
+                .requesterrestrict(BytesUtils.EMPTY_ADDRESS)
+                .salt(SALT)
+                .build();
+    }
+
+    public static DatasetOrder datasetOrder() {
+        return DatasetOrder.builder()
+                .dataset(DATASET_ADDRESS)
+                .datasetprice(BigInteger.ZERO)
+                .volume(BigInteger.ONE)
+                .tag(OrderTag.TEE_SCONE.getValue())
+                .apprestrict(BytesUtils.EMPTY_ADDRESS)
+                .workerpoolrestrict(BytesUtils.EMPTY_ADDRESS)
+                .requesterrestrict(BytesUtils.EMPTY_ADDRESS)
+                .salt(SALT)
+                .build();
+    }
+
+    public static WorkerpoolOrder workerpoolOrder() {
+        return WorkerpoolOrder.builder()
+                .workerpool(WORKERPOOL_ADDRESS)
+                .workerpoolprice(BigInteger.ZERO)
+                .volume(BigInteger.ONE)
+                .tag(OrderTag.TEE_SCONE.getValue())
+                .category(BigInteger.ZERO)
+                .trust(BigInteger.ONE)
+                .apprestrict(BytesUtils.EMPTY_ADDRESS)
+                .datasetrestrict(BytesUtils.EMPTY_ADDRESS)
+                .requesterrestrict(BytesUtils.EMPTY_ADDRESS)
+                .salt(SALT)
+                .build();
+    }
+
+    public static RequestOrder requestOrder() {
+        return RequestOrder.builder()
+                .app(APP_ADDRESS)
+                .appmaxprice(BigInteger.ZERO)
+                .dataset(DATASET_ADDRESS)
+                .datasetmaxprice(BigInteger.ZERO)
+                .workerpool(WORKERPOOL_ADDRESS)
+                .workerpoolmaxprice(BigInteger.ZERO)
+                .requester(CREDENTIALS.getAddress())
+                .volume(BigInteger.ONE)
+                .tag(OrderTag.TEE_SCONE.getValue())
+                .category(BigInteger.ZERO)
+                .trust(BigInteger.ONE)
+                .beneficiary(CREDENTIALS.getAddress())
+                .callback(BytesUtils.EMPTY_ADDRESS)
+                .params(PARAMS)
+                .salt(SALT)
+                .build();
+    }
+}
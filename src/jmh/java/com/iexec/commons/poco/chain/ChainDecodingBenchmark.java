@@ -0,0 +1,136 @@
+/*
+ * Copyright 2026 IEXEC BLOCKCHAIN TECH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.iexec.commons.poco.chain;
+
+import com.iexec.commons.poco.contract.generated.IexecHubContract;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.web3j.abi.FunctionEncoder;
+import org.web3j.abi.datatypes.Address;
+import org.web3j.abi.datatypes.DynamicArray;
+import org.web3j.abi.datatypes.DynamicBytes;
+import org.web3j.abi.datatypes.DynamicStruct;
+import org.web3j.abi.datatypes.Type;
+import org.web3j.abi.datatypes.Utf8String;
+import org.web3j.abi.datatypes.generated.Bytes32;
+import org.web3j.abi.datatypes.generated.Uint256;
+import org.web3j.abi.datatypes.generated.Uint8;
+import org.web3j.utils.Numeric;
+
+import java.math.BigInteger;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static com.iexec.commons.poco.BenchmarkFixtures.*;
+
+/**
+ * Measures the decoding of PoCo accessors call results and the computation of task IDs.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ChainDecodingBenchmark {
+
+    private ChainCategory category;
+    private String accountData;
+    private String categoryData;
+    private String contributionData;
+    private String dealData;
+    private String taskData;
+
+    private static String encode(final Type<?>... values) {
+        return "0x" + FunctionEncoder.encodeConstructor(List.of(values));
+    }
+
+    private static Bytes32 bytes32(final String value) {
+        return new Bytes32(Numeric.hexStringToByteArray(value));
+    }
+
+    @Setup
+    public void setUp() {
+        category = ChainCategory.builder().id(0).name("XS").description("{}").maxExecutionTime(300_000L).build();
+        accountData = encode(new Uint256(1_000_000_000L), new Uint256(500_000_000L));
+        categoryData = encode(new DynamicStruct(new Utf8String("XS"), new Utf8String("{}"), new Uint256(300)));
+        contributionData = encode(new Uint256(1), bytes32(RESULT_HASH), bytes32(RESULT_SEAL),
+                bytes32(RESULT_DIGEST), new Uint256(3));
+        dealData = encode(new IexecHubContract.Deal(
+                new IexecHubContract.Resource(APP_ADDRESS, WORKER1, BigInteger.ZERO),
+                new IexecHubContract.Resource(DATASET_ADDRESS, WORKER1, BigInteger.ZERO),
+                new IexecHubContract.Resource(WORKERPOOL_ADDRESS, WORKER2, BigInteger.ZERO),
+                BigInteger.ONE,
+                BigInteger.ZERO,
+                Numeric.hexStringToByteArray(RESULT_DIGEST),
+                CREDENTIALS.getAddress(),
+                CREDENTIALS.getAddress(),
+                "0x0000000000000000000000000000000000000000",
+                "{\"iexec_args\":\"d\u00e9j\u00e0 vu\"}",
+                BigInteger.valueOf(1_700_000_000L),
+                BigInteger.ZERO,
+                BigInteger.ONE,
+                BigInteger.ZERO,
+                BigInteger.ZERO));
+        taskData = encode(
+                new Uint8(3),
+                bytes32(CHAIN_DEAL_ID),
+                new Uint256(2),
+                new Uint256(300),
+                new Uint256(1_700_000_000L),
+                new Uint256(1_700_000_100L),
+                new Uint256(1_700_000_200L),
+                bytes32(RESULT_HASH),
+                new Uint256(1),
+                new Uint256(2),
+                new DynamicArray<>(Address.class, new Address(WORKER1), new Address(WORKER2)),
+                new DynamicBytes(new byte[]{0x01, 0x02, 0x03}));
+    }
+
+    // region fromRawData
+    @Benchmark
+    public ChainAccount account() {
+        return ChainAccount.fromRawData(accountData);
+    }
+
+    @Benchmark
+    public ChainCategory category() {
+        return ChainCategory.fromRawData(0, categoryData);
+    }
+
+    @Benchmark
+    public ChainContribution contribution() {
+        return ChainContribution.fromRawData(contributionData);
+    }
+
+    @Benchmark
+    public ChainDeal deal() {
+        return ChainDeal.fromRawData(CHAIN_DEAL_ID, dealData, category);
+    }
+
+    @Benchmark
+    public ChainTask task() {
+        return ChainTask.fromRawData(taskData);
+    }
+    // endregion
+
+    @Benchmark
+    public String generateChainTaskId() {
+        return ChainUtils.generateChainTaskId(CHAIN_DEAL_ID, 2);
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright 2026 IEXEC BLOCKCHAIN TECH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.iexec.commons.poco.encoding;
+
+import com.iexec.commons.poco.chain.SignerService;
+import com.iexec.commons.poco.eip712.EIP712Domain;
+import com.iexec.commons.poco.order.AppOrder;
+import com.iexec.commons.poco.order.DatasetOrder;
+import com.iexec.commons.poco.order.RequestOrder;
+import com.iexec.commons.poco.order.WorkerpoolOrder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import static com.iexec.commons.poco.BenchmarkFixtures.*;
+
+/**
+ * Measures the encoding of PoCo transactions payloads and the splitting of call results in words.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class EncodingBenchmark {
+
+    private AppOrder appOrder;
+    private DatasetOrder datasetOrder;
+    private WorkerpoolOrder workerpoolOrder;
+    private RequestOrder requestOrder;
+    private byte[] results;
+    private byte[] resultsCallback;
+    private String matchOrdersData;
+
+    @Setup
+    public void setUp() {
+        final EIP712Domain domain = domain();
+        final SignerService signer = signer();
+        appOrder = (AppOrder) signer.signOrderForDomain(appOrder(), domain);
+        datasetOrder = (DatasetOrder) signer.signOrderForDomain(datasetOrder(), domain);
+        workerpoolOrder = (WorkerpoolOrder) signer.signOrderForDomain(workerpoolOrder(), domain);
+        requestOrder = (RequestOrder) signer.signOrderForDomain(requestOrder(), domain);
+        results = new byte[256];
+        resultsCallback = new byte[64];
+        new Random(0).nextBytes(results);
+        new Random(1).nextBytes(resultsCallback);
+        matchOrdersData = MatchOrdersDataEncoder.encode(appOrder, datasetOrder, workerpoolOrder, requestOrder);
+    }
+
+    // region encoders
+    @Benchmark
+    public String matchOrders() {
+        return MatchOrdersDataEncoder.encode(appOrder, datasetOrder, workerpoolOrder, requestOrder);
+    }
+
+    @Benchmark
+    public String initialize() {
+        return PoCoDataEncoder.encodeInitialize(CHAIN_DEAL_ID, 3);
+    }
+
+    @Benchmark
+    public String contribute() {
+        return PoCoDataEncoder.encodeContribute(CHAIN_TASK_ID, RESULT_HASH, RESULT_SEAL, ENCLAVE_CHALLENGE, SIGNATURE, SIGNATURE);
+    }
+
+    @Benchmark
+    public String reveal() {
+        return PoCoDataEncoder.encodeReveal(CHAIN_TASK_ID, RESULT_DIGEST);
+    }
+
+    @Benchmark
+    public String finalizeTask() {
+        return PoCoDataEncoder.encodeFinalize(CHAIN_TASK_ID, results, resultsCallback);
+    }
+
+    @Benchmark
+    public String contributeAndFinalize() {
+        return PoCoDataEncoder.encodeContributeAndFinalize(CHAIN_TASK_ID, RESULT_DIGEST, results, resultsCallback,
+                ENCLAVE_CHALLENGE, SIGNATURE, SIGNATURE);
+    }
+    // endregion
+
+    // region decoders
+    @Benchmark
+    public String[] toParts() {
+        return PoCoDataDecoder.toParts(matchOrdersData);
+    }
+    // endregion
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright 2026 IEXEC BLOCKCHAIN TECH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.iexec.commons.poco.order;
+
+import com.iexec.commons.poco.eip712.EIP712Domain;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+import static com.iexec.commons.poco.BenchmarkFixtures.*;
+
+/**
+ * Measures EIP-712 hashing of orders and domain separator computation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class OrderHashBenchmark {
+
+    private EIP712Domain domain;
+    private AppOrder appOrder;
+    private DatasetOrder datasetOrder;
+    private WorkerpoolOrder workerpoolOrder;
+    private RequestOrder requestOrder;
+
+    @Setup
+    public void setUp() {
+        domain = domain();
+        appOrder = appOrder();
+        datasetOrder = datasetOrder();
+        workerpoolOrder = workerpoolOrder();
+        requestOrder = requestOrder();
+    }
+
+    // region computeHash
+    @Benchmark
+    public String appOrderHash() {
+        return appOrder.computeHash(domain);
+    }
+
+    @Benchmark
+    public String datasetOrderHash() {
+        return datasetOrder.computeHash(domain);
+    }
+
+    @Benchmark
+    public String workerpoolOrderHash() {
+        return workerpoolOrder.computeHash(domain);
+    }
+
+    @Benchmark
+    public String requestOrderHash() {
+        return requestOrder.computeHash(domain);
+    }
+    // endregion
+
+    // region domain separator
+    @Benchmark
+    public String domainSeparator() {
+        return domain.getDomainSeparator();
+    }
+
+    /**
+     * Includes the creation of the domain, where the separator is computed.
+     */
+    @Benchmark
+    public String newDomainSeparator() {
+        return new EIP712Domain(CHAIN_ID, HUB_ADDRESS).getDomainSeparator();
+    }
+    // endregion
+}
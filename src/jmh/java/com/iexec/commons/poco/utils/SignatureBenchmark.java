@@ -0,0 +1,93 @@
+/*
+ * Copyright 2026 IEXEC BLOCKCHAIN TECH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.iexec.commons.poco.utils;
+
+import com.iexec.commons.poco.security.Signature;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.web3j.crypto.ECKeyPair;
+import org.web3j.crypto.Sign;
+import org.web3j.utils.Numeric;
+
+import java.util.concurrent.TimeUnit;
+
+import static com.iexec.commons.poco.BenchmarkFixtures.CREDENTIALS;
+
+/**
+ * Measures signing and signature verification.
+ * <p>
+ * Verification is measured with and without the recovered signers cache of {@link SignatureUtils}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SignatureBenchmark {
+
+    private static final String HASH = "0xf0cea2ffdb802c106aef2a032b01c7d271a454473709016c2e2c406097acdfd3";
+
+    private ECKeyPair keyPair;
+    private String address;
+    private byte[] message;
+    private String prefixedHash;
+    private Signature signature;
+
+    @Setup
+    public void setUp() {
+        keyPair = CREDENTIALS.getEcKeyPair();
+        address = CREDENTIALS.getAddress();
+        message = Numeric.hexStringToByteArray(HASH);
+        prefixedHash = Numeric.toHexString(Sign.getEthereumMessageHash(message));
+        signature = SignatureUtils.signMessageHashAndGetSignature(HASH, keyPair);
+    }
+
+    // region signing
+    @Benchmark
+    public String signAsString() {
+        return SignatureUtils.signAsString(HASH, keyPair);
+    }
+
+    @Benchmark
+    public Signature signMessageHash() {
+        return SignatureUtils.signMessageHashAndGetSignature(HASH, keyPair);
+    }
+    // endregion
+
+    // region verification
+    @Benchmark
+    public boolean isSignatureValidCached() {
+        return SignatureUtils.isSignatureValid(message, signature, address);
+    }
+
+    @Benchmark
+    public boolean isSignatureValidUncached() {
+        SignatureUtils.RECOVERED_SIGNERS.invalidateAll();
+        return SignatureUtils.isSignatureValid(message, signature, address);
+    }
+
+    /**
+     * Legacy verification trying all recovery ids.
+     */
+    @Benchmark
+    public boolean doesSignatureMatchesAddress() {
+        return SignatureUtils.doesSignatureMatchesAddress(signature.getR(), signature.getS(), prefixedHash, address);
+    }
+    // endregion
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright 2026 IEXEC BLOCKCHAIN TECH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.iexec.commons.poco.utils;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.web3j.crypto.Keys;
+
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * Compares the hexadecimal string and address validators with the regular expressions they replace.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ValidationBenchmark {
+
+    private static final Pattern HEX_WITH_PREFIX_PATTERN = Pattern.compile("^0x\\p{XDigit}+$");
+
+    @Param({
+            "0x1ec09e1782a43a770d54e813379c730e0b29ad4b",
+            "0x1Ec09E1782a43a770D54e813379c730E0b29aD4B",
+            "0x00916a7d68e0ed8714fde137ed60de0e586e75467ae6ca0b090950f772ca9ac8"
+    })
+    public String value;
+
+    // region hex strings
+    @Benchmark
+    public boolean isHexStringWithPrefixRegex() {
+        return HEX_WITH_PREFIX_PATTERN.matcher(value).matches();
+    }
+
+    @Benchmark
+    public boolean isHexStringWithPrefix() {
+        return BytesUtils.isHexStringWithPrefix(value);
+    }
+    // endregion
+
+    // region addresses
+    @Benchmark
+    public boolean validateAddressRegex() {
+        if (!Pattern.compile("(?i)^(0x)?[0-9a-f]{40}$").matcher(value).find()) {
+            return false;
+        }
+        if (Pattern.compile("^(0x)?[0-9a-f]{40}$").matcher(value).find()
+                || Pattern.compile("^(0x)?[0-9A-F]{40}$").matcher(value).find()) {
+            return true;
+        }
+        return Keys.toChecksumAddress(value).equals(value);
+    }
+
+    @Benchmark
+    public boolean validateAddress() {
+        return EthAddress.validate(value);
+    }
+    // endregion
+}
@@ -0,0 +1,196 @@
+/*
+ * Copyright 2026 IEXEC BLOCKCHAIN TECH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.iexec.commons.poco.chain;
+
+import lombok.extern.slf4j.Slf4j;
+import org.web3j.protocol.Web3j;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongConsumer;
+
+/**
+ * Tracks the head of the chain with a single {@code eth_blockNumber} poll per block time.
+ * <p>
+ * The latest known block number is shared between all callers, listeners are notified when the head moves
+ * forward and blocking waiters are released as soon as the block they wait for is seen.
+ * The number of {@code eth_blockNumber} calls does not depend on the number of callers.
+ * <p>
+ * Polling starts on first use and runs on a single daemon thread until {@link #close()} is called.
+ */
+@Slf4j
+public class BlockHeadTracker implements AutoCloseable {
+
+    private final Web3j web3j;
+    private final Duration pollInterval;
+    private final List<LongConsumer> listeners = new CopyOnWriteArrayList<>();
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition headChanged = lock.newCondition();
+    private volatile long head;
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+    private volatile ScheduledExecutorService scheduler;
+
+    /**
+     * Creates a tracker, no call is sent to the blockchain node before its first use.
+     *
+     * @param web3j        Client used to query {@code eth_blockNumber}
+     * @param pollInterval Delay between two polls, usually the block time of the chain
+     */
+    public BlockHeadTracker(final Web3j web3j, final Duration pollInterval) {
+        this.web3j = web3j;
+        this.pollInterval = pollInterval;
+    }
+
+    /**
+     * Returns the latest known block number.
+     * <p>
+     * The head is queried synchronously only if no block number has been received yet.
+     *
+     * @return the block number, {@literal 0L} if it could not be retrieved
+     */
+    public long getHead() {
+        start();
+        if (head == 0L) {
+            poll();
+        }
+        return head;
+    }
+
+    /**
+     * Waits until the chain head reaches a block.
+     *
+     * @param blockNumber Block number to wait for
+     * @param timeout     Maximum time to wait
+     * @return {@literal true} if the block has been reached before the timeout, {@literal false} otherwise
+     */
+    public boolean awaitBlock(final long blockNumber, final Duration timeout) {
+        if (blockNumber <= getHead()) {
+            return true;
+        }
+        long remainingNanos = timeout.toNanos();
+        lock.lock();
+        try {
+            while (head < blockNumber) {
+                if (remainingNanos <= 0L) {
+                    return false;
+                }
+                remainingNanos = headChanged.awaitNanos(remainingNanos);
+            }
+            return true;
+        } catch (InterruptedException e) {
+            log.error("Interrupted while waiting for block [blockNumber:{}, head:{}]", blockNumber, head);
+            Thread.currentThread().interrupt();
+            return head >= blockNumber;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Registers a listener called with the new block number each time the head moves forward.
+     * <p>
+     * Listeners are called from the polling thread and must not block.
+     *
+     * @param listener Listener to register
+     */
+    public void addListener(final LongConsumer listener) {
+        listeners.add(listener);
+        start();
+    }
+
+    public void removeListener(final LongConsumer listener) {
+        listeners.remove(listener);
+    }
+
+    void poll() {
+        final long latest;
+        try {
+            latest = web3j.ethBlockNumber().send().getBlockNumber().longValue();
+        } catch (Exception e) {
+            final int failures = consecutiveFailures.incrementAndGet();
+            // the stack trace is only logged once per failure streak, an unreachable node would flood logs otherwise
+            if (failures == 1) {
+                log.warn("ethBlockNumber call failed [head:{}]", head, e);
+            } else {
+                log.warn("ethBlockNumber call failed again [head:{}, consecutiveFailures:{}, error:{}]",
+                        head, failures, e.getMessage());
+            }
+            return;
+        }
+        final int failures = consecutiveFailures.getAndSet(0);
+        if (failures > 0) {
+            log.info("ethBlockNumber call succeeded after failures [consecutiveFailures:{}]", failures);
+        }
+        publish(latest);
+    }
+
+    private void publish(final long latest) {
+        lock.lock();
+        try {
+            // ignore stale answers from lagging nodes, the head only moves forward
+            if (latest <= head) {
+                return;
+            }
+            head = latest;
+            headChanged.signalAll();
+        } finally {
+            lock.unlock();
+        }
+        log.trace("New chain head [blockNumber:{}]", latest);
+        for (final LongConsumer listener : listeners) {
+            try {
+                listener.accept(latest);
+            } catch (RuntimeException e) {
+                log.warn("Block head listener failed [blockNumber:{}]", latest, e);
+            }
+        }
+    }
+
+    private void start() {
+        if (scheduler != null) {
+            return;
+        }
+        synchronized (this) {
+            if (scheduler == null) {
+                final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                    final Thread thread = new Thread(runnable, "block-head-tracker");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+                executor.scheduleWithFixedDelay(this::poll, pollInterval.toMillis(), pollInterval.toMillis(), TimeUnit.MILLISECONDS);
+                scheduler = executor;
+            }
+        }
+    }
+
+    /**
+     * Stops polling, the last known head is still returned afterwards.
+     */
+    @Override
+    public synchronized void close() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright 2026 IEXEC BLOCKCHAIN TECH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.iexec.commons.poco.chain;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight recorder event of an on-chain read filling a cache of {@link IexecHubAbstractService}.
+ */
+@Name("com.iexec.commons.poco.CacheLoad")
+@Label("Cache Load")
+@Category({"iExec", "PoCo"})
+@Description("On-chain read performed on a cache miss")
+@StackTrace(false)
+class CacheLoadEvent extends Event {
+
+    @Label("Cache")
+    String cache;
+
+    @Label("Key")
+    String key;
+
+    @Label("Loaded")
+    @Description("Whether a value was read and cached")
+    boolean loaded;
+
+    void report(final String cache, final Object key, final boolean loaded) {
+        end();
+        if (shouldCommit()) {
+            this.cache = cache;
+            this.key = String.valueOf(key);
+            this.loaded = loaded;
+            commit();
+        }
+    }
+}
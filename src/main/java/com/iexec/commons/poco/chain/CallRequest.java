@@ -0,0 +1,40 @@
+/*
+ * Copyright 2026 IEXEC BLOCKCHAIN TECH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.iexec.commons.poco.chain;
+
+import lombok.Value;
+
+/**
+ * Describes a single {@code eth_call} to be packed in a JSON-RPC batch request.
+ *
+ * @see Web3jAbstractService#sendCallBatch(java.util.List)
+ */
+@Value
+public class CallRequest {
+    /**
+     * Wallet address sending the query, mandatory on Arbitrum
+     */
+    String from;
+    /**
+     * Contract address to send the call to
+     */
+    String to;
+    /**
+     * Encoded data representing the method to call with its parameters
+     */
+    String data;
+}
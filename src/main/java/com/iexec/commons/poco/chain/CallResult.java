@@ -0,0 +1,60 @@
+/*
+ * Copyright 2026 IEXEC BLOCKCHAIN TECH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.iexec.commons.poco.chain;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Value;
+import org.web3j.protocol.exceptions.JsonRpcError;
+
+/**
+ * Outcome of a single {@code eth_call} sent in a JSON-RPC batch request.
+ * <p>
+ * A result either holds the value returned by the called method or the decoded {@code JsonRpcError}.
+ * Errors are decoded the same way as in {@link Web3jAbstractService#sendCall(String, String, String)}.
+ */
+@Value
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class CallResult {
+    String value;
+    JsonRpcError error;
+
+    public static CallResult success(final String value) {
+        return new CallResult(value, null);
+    }
+
+    public static CallResult failure(final JsonRpcError error) {
+        return new CallResult(null, error);
+    }
+
+    public boolean isSuccess() {
+        return error == null;
+    }
+
+    /**
+     * Returns the call value or throws the decoded error, mimicking the behaviour of a single {@code sendCall}.
+     *
+     * @return The value returned by the called method
+     * @throws JsonRpcError if the call failed
+     */
+    public String getValueOrThrow() {
+        if (error != null) {
+            throw error;
+        }
+        return value;
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2020-2025 IEXEC BLOCKCHAIN TECH
+ * Copyright 2020-2026 IEXEC BLOCKCHAIN TECH
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,13 +16,11 @@
 
 package com.iexec.commons.poco.chain;
 
-import com.iexec.commons.poco.encoding.PoCoDataDecoder;
+import com.iexec.commons.poco.encoding.AbiReader;
 import lombok.Builder;
 import lombok.Value;
 import lombok.extern.slf4j.Slf4j;
 
-import static com.iexec.commons.poco.chain.Web3jAbstractService.toBigInt;
-
 @Slf4j
 @Value
 @Builder
@@ -32,11 +30,11 @@ public class ChainAccount {
 
     public static ChainAccount fromRawData(final String rawData) {
         log.debug("ChainAccount.fromRawData");
-        final String[] parts = PoCoDataDecoder.toParts(rawData);
-        if (parts.length == 2) {
+        final AbiReader reader = new AbiReader(rawData);
+        if (reader.wordCount() == 2) {
             return ChainAccount.builder()
-                    .deposit(toBigInt(parts[0]).longValue())
-                    .locked(toBigInt(parts[1]).longValue())
+                    .deposit(reader.readUint())
+                    .locked(reader.readUint())
                     .build();
         }
         return null;
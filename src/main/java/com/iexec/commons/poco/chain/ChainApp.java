@@ -1,5 +1,5 @@
 /*
- * Copyright 2020-2025 IEXEC BLOCKCHAIN TECH
+ * Copyright 2020-2026 IEXEC BLOCKCHAIN TECH
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,14 +16,12 @@
 
 package com.iexec.commons.poco.chain;
 
-import com.iexec.commons.poco.encoding.PoCoDataDecoder;
+import com.iexec.commons.poco.encoding.AbiReader;
 import com.iexec.commons.poco.tee.TeeEnclaveConfiguration;
 import lombok.Builder;
 import lombok.Value;
 import lombok.extern.slf4j.Slf4j;
 
-import static com.iexec.commons.poco.chain.Web3jAbstractService.toBigInt;
-
 @Slf4j
 @Value
 @Builder
@@ -36,18 +34,20 @@ public class ChainApp {
 
     public static ChainApp fromRawData(final String address, final String rawData) {
         log.debug("ChainApp.fromRawData [address:{}]", address);
-        final String[] parts = PoCoDataDecoder.toParts(rawData);
-        final int offset = toBigInt(parts[0]).intValue() / 32;
-        final int typeOffset = toBigInt(parts[offset + 2]).intValue() / 32;
-        final int multiaddrOffest = toBigInt(parts[offset + 3]).intValue() / 32;
-        final int enclaveOffset = toBigInt(parts[offset + 5]).intValue() / 32;
-        final String enclaveContrib = PoCoDataDecoder.decodeToAsciiString(parts, offset + enclaveOffset);
+        final AbiReader reader = new AbiReader(rawData);
+        final int offset = reader.readOffset();
+        // skip owner and name
+        reader.seek(offset).skip(2);
+        final int typeOffset = offset + reader.readOffset();
+        final int multiaddrOffset = offset + reader.readOffset();
+        final String checksum = reader.readBytes32();
+        final int enclaveOffset = offset + reader.readOffset();
         return ChainApp.builder()
                 .chainAppId(address)
-                .type(PoCoDataDecoder.decodeToAsciiString(parts, offset + typeOffset))
-                .multiaddr(PoCoDataDecoder.decodeToAsciiString(parts, offset + multiaddrOffest))
-                .checksum("0x" + parts[offset + 4])
-                .enclaveConfiguration(TeeEnclaveConfiguration.fromJsonString(enclaveContrib))
+                .type(reader.readDynamicString(typeOffset))
+                .multiaddr(reader.readDynamicString(multiaddrOffset))
+                .checksum(checksum)
+                .enclaveConfiguration(TeeEnclaveConfiguration.fromJsonString(reader.readDynamicString(enclaveOffset)))
                 .build();
     }
 }
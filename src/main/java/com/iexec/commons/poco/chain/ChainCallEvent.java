@@ -0,0 +1,68 @@
+/*
+ * Copyright 2026 IEXEC BLOCKCHAIN TECH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.iexec.commons.poco.chain;
+
+import com.iexec.commons.poco.metrics.Metrics;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight recorder event of a JSON-RPC request sent to the blockchain node.
+ * <p>
+ * Fields are only computed when the event is committed, an event costs nothing when JFR is disabled.
+ */
+@Name("com.iexec.commons.poco.ChainCall")
+@Label("Chain Call")
+@Category({"iExec", "PoCo"})
+@Description("JSON-RPC request sent to the blockchain node")
+@StackTrace(false)
+class ChainCallEvent extends Event {
+
+    @Label("Method")
+    String method;
+
+    @Label("Selector")
+    String selector;
+
+    @Label("Target")
+    String target;
+
+    @Label("Outcome")
+    String outcome;
+
+    /**
+     * Ends the event and commits it if it is enabled and lasted longer than its threshold.
+     *
+     * @param method JSON-RPC method
+     * @param target Address the request is sent to, {@literal null} for batch requests
+     * @param data   Encoded call, its selector is recorded
+     * @param failed Whether the request failed
+     */
+    void report(final String method, final String target, final String data, final boolean failed) {
+        end();
+        if (shouldCommit()) {
+            this.method = method;
+            this.selector = Metrics.selector(data);
+            this.target = target;
+            this.outcome = failed ? "failure" : "success";
+            commit();
+        }
+    }
+}
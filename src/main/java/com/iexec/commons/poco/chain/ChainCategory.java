@@ -1,5 +1,5 @@
 /*
- * Copyright 2020-2025 IEXEC BLOCKCHAIN TECH
+ * Copyright 2020-2026 IEXEC BLOCKCHAIN TECH
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,13 +16,11 @@
 
 package com.iexec.commons.poco.chain;
 
-import com.iexec.commons.poco.encoding.PoCoDataDecoder;
+import com.iexec.commons.poco.encoding.AbiReader;
 import lombok.Builder;
 import lombok.Value;
 import lombok.extern.slf4j.Slf4j;
 
-import static com.iexec.commons.poco.chain.Web3jAbstractService.toBigInt;
-
 @Slf4j
 @Value
 @Builder
@@ -34,15 +32,16 @@ public class ChainCategory {
 
     public static ChainCategory fromRawData(final long id, final String rawData) {
         log.debug("ChainCategory.fromRawData");
-        final String[] parts = PoCoDataDecoder.toParts(rawData);
-        final int offset = toBigInt(parts[0]).intValue() / 32;
-        final int nameContribOffset = toBigInt(parts[offset]).intValue() / 32;
-        final int descriptionContribOffset = toBigInt(parts[offset + 1]).intValue() / 32;
+        final AbiReader reader = new AbiReader(rawData);
+        final int offset = reader.readOffset();
+        reader.seek(offset);
+        final int nameOffset = offset + reader.readOffset();
+        final int descriptionOffset = offset + reader.readOffset();
         return ChainCategory.builder()
                 .id(id)
-                .name(PoCoDataDecoder.decodeToAsciiString(parts, offset + nameContribOffset))
-                .description(PoCoDataDecoder.decodeToAsciiString(parts, offset + descriptionContribOffset))
-                .maxExecutionTime(toBigInt(parts[offset + 2]).longValue() * 1000)
+                .name(reader.readDynamicString(nameOffset))
+                .description(reader.readDynamicString(descriptionOffset))
+                .maxExecutionTime(reader.readUint() * 1000)
                 .build();
     }
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright 2020-2025 IEXEC BLOCKCHAIN TECH
+ * Copyright 2020-2026 IEXEC BLOCKCHAIN TECH
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,15 +16,13 @@
 
 package com.iexec.commons.poco.chain;
 
-import com.iexec.commons.poco.encoding.PoCoDataDecoder;
+import com.iexec.commons.poco.encoding.AbiReader;
 import lombok.Builder;
 import lombok.Value;
 import lombok.extern.slf4j.Slf4j;
 
 import java.math.BigInteger;
 
-import static com.iexec.commons.poco.chain.Web3jAbstractService.toBigInt;
-
 @Slf4j
 @Value
 @Builder
@@ -37,14 +35,14 @@ public class ChainContribution {
 
     public static ChainContribution fromRawData(final String rawData) {
         log.debug("ChainContribution.fromRawData");
-        final String[] parts = PoCoDataDecoder.toParts(rawData);
-        if (parts.length == 5) {
+        final AbiReader reader = new AbiReader(rawData);
+        if (reader.wordCount() == 5) {
             return ChainContribution.builder()
-                    .status(ChainContributionStatus.values()[toBigInt(parts[0]).intValue()])
-                    .resultHash("0x" + parts[1])
-                    .resultSeal("0x" + parts[2])
-                    .enclaveChallenge("0x" + parts[3])
-                    .weight(toBigInt(parts[4]))
+                    .status(ChainContributionStatus.values()[(int) reader.readUint()])
+                    .resultHash(reader.readBytes32())
+                    .resultSeal(reader.readBytes32())
+                    .enclaveChallenge(reader.readBytes32())
+                    .weight(reader.readBigInteger())
                     .build();
         }
         return null;
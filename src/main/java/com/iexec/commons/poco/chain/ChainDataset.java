@@ -1,5 +1,5 @@
 /*
- * Copyright 2020-2025 IEXEC BLOCKCHAIN TECH
+ * Copyright 2020-2026 IEXEC BLOCKCHAIN TECH
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,14 +16,12 @@
 
 package com.iexec.commons.poco.chain;
 
-import com.iexec.commons.poco.encoding.PoCoDataDecoder;
+import com.iexec.commons.poco.encoding.AbiReader;
 import com.iexec.commons.poco.utils.MultiAddressHelper;
 import lombok.Builder;
 import lombok.Value;
 import lombok.extern.slf4j.Slf4j;
 
-import static com.iexec.commons.poco.chain.Web3jAbstractService.toBigInt;
-
 @Slf4j
 @Value
 @Builder
@@ -34,14 +32,16 @@ public class ChainDataset {
 
     public static ChainDataset fromRawData(final String address, final String rawData) {
         log.debug("ChainDataset.fromRawData [address:{}]", address);
-        final String[] parts = PoCoDataDecoder.toParts(rawData);
-        final int offset = toBigInt(parts[0]).intValue() / 32;
-        final int multiaddrOffset = toBigInt(parts[offset + 2]).intValue() / 32;
-        final String multiaddr = PoCoDataDecoder.decodeToHexString(parts, offset + multiaddrOffset);
+        final AbiReader reader = new AbiReader(rawData);
+        final int offset = reader.readOffset();
+        // skip owner and name
+        reader.seek(offset).skip(2);
+        final int multiaddrOffset = offset + reader.readOffset();
+        final String checksum = reader.readBytes32();
         return ChainDataset.builder()
                 .chainDatasetId(address)
-                .multiaddr(MultiAddressHelper.convertToURI(multiaddr))
-                .checksum("0x" + parts[offset + 3])
+                .multiaddr(MultiAddressHelper.convertToURI(reader.readDynamicBytes(multiaddrOffset)))
+                .checksum(checksum)
                 .build();
     }
 }
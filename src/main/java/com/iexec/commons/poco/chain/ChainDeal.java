@@ -1,5 +1,5 @@
 /*
- * Copyright 2020-2025 IEXEC BLOCKCHAIN TECH
+ * Copyright 2020-2026 IEXEC BLOCKCHAIN TECH
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,7 +16,11 @@
 
 package com.iexec.commons.poco.chain;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.iexec.commons.poco.contract.generated.IexecHubContract;
+import com.iexec.commons.poco.encoding.AbiReader;
+import com.iexec.commons.poco.utils.Address;
+import com.iexec.commons.poco.utils.Bytes32;
 import com.iexec.commons.poco.utils.BytesUtils;
 import lombok.Builder;
 import lombok.Value;
@@ -70,6 +74,24 @@ public class ChainDeal {
     BigInteger workerStake;
     BigInteger schedulerRewardRatio;
 
+    // region typed accessors
+    // absent or malformed values, such as empty or shortened IDs, are returned as null
+    @JsonIgnore
+    public Bytes32 getChainDealIdBytes32() {
+        return Bytes32.fromHexStringOrNull(chainDealId);
+    }
+
+    @JsonIgnore
+    public Bytes32 getTagBytes32() {
+        return Bytes32.fromHexStringOrNull(tag);
+    }
+
+    @JsonIgnore
+    public Address getRequesterAddress() {
+        return Address.fromHexStringOrNull(requester);
+    }
+    // endregion
+
     public boolean containsDataset() {
         return dataPointer != null && !BytesUtils.EMPTY_ADDRESS.equals(dataPointer);
     }
@@ -81,6 +103,52 @@ public class ChainDeal {
         return create(chainDealId, deal, category, null, null);
     }
 
+    /**
+     * Decodes the raw result of a {@code viewDeal} call.
+     * <p>
+     * The returned {@code Deal} struct contains three static {@code Resource} structs (pointer, owner, price)
+     * for app, dataset and workerpool followed by the deal fields, {@code params} being the only dynamic one.
+     *
+     * @param chainDealId ID of the deal
+     * @param rawData     Value returned by the {@code eth_call}
+     * @param category    Category of the deal
+     * @return The decoded deal, or an empty deal if there is no data or no category
+     */
+    public static ChainDeal fromRawData(final String chainDealId, final String rawData, final ChainCategory category) {
+        final AbiReader reader = new AbiReader(rawData);
+        if (category == null || reader.wordCount() < 21) {
+            return ChainDeal.builder().build();
+        }
+        final int offset = reader.readOffset();
+        reader.seek(offset);
+        // fields are read in the order of the Deal struct
+        return ChainDeal.builder()
+                .chainDealId(chainDealId)
+                .chainCategory(category)
+                .dappPointer(reader.readAddress())
+                .dappOwner(reader.readAddress())
+                .dappPrice(reader.readBigInteger())
+                .dataPointer(reader.readAddress())
+                .dataOwner(reader.readAddress())
+                .dataPrice(reader.readBigInteger())
+                .poolPointer(reader.readAddress())
+                .poolOwner(reader.readAddress())
+                .poolPrice(reader.readBigInteger())
+                .trust(reader.readBigInteger())
+                .category(reader.readBigInteger())
+                .tag(reader.readBytes32())
+                .requester(reader.readAddress())
+                .beneficiary(reader.readAddress())
+                .callback(reader.readAddress())
+                .params(DealParams.createFromString(reader.readDynamicString(offset + reader.readOffset())))
+                .startTime(reader.readBigInteger())
+                .botFirst(reader.readBigInteger())
+                .botSize(reader.readBigInteger())
+                .workerStake(reader.readBigInteger())
+                .schedulerRewardRatio(reader.readBigInteger())
+                .build();
+    }
+
     /**
      * @deprecated app, category and dataset will no more be embedded in deal to stick to on-chain models
      */
@@ -1,5 +1,5 @@
 /*
- * Copyright 2020-2025 IEXEC BLOCKCHAIN TECH
+ * Copyright 2020-2026 IEXEC BLOCKCHAIN TECH
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,6 +16,9 @@
 
 package com.iexec.commons.poco.chain;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.iexec.commons.poco.encoding.AbiReader;
+import com.iexec.commons.poco.utils.Bytes32;
 import com.iexec.commons.poco.utils.BytesUtils;
 import lombok.Builder;
 import lombok.Value;
@@ -23,6 +26,7 @@ import org.web3j.tuples.generated.Tuple12;
 
 import java.math.BigInteger;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.List;
 
 @Value
@@ -68,6 +72,59 @@ public class ChainTask {
         return finalDeadline <= Instant.now().toEpochMilli();
     }
 
+    // region typed accessors
+    // absent or malformed values, such as empty or shortened IDs, are returned as null
+    @JsonIgnore
+    public Bytes32 getChainTaskIdBytes32() {
+        return Bytes32.fromHexStringOrNull(chainTaskId);
+    }
+
+    @JsonIgnore
+    public Bytes32 getDealidBytes32() {
+        return Bytes32.fromHexStringOrNull(dealid);
+    }
+    // endregion
+
+    /**
+     * Decodes the raw result of a {@code viewTaskABILegacy} call.
+     *
+     * @param rawData Value returned by the {@code eth_call}
+     * @return The decoded task or {@literal null} if there is no data
+     */
+    public static ChainTask fromRawData(final String rawData) {
+        final AbiReader reader = new AbiReader(rawData);
+        if (reader.wordCount() < 12) {
+            return null;
+        }
+        final ChainTaskStatus status = ChainTaskStatus.getValue((int) reader.readUint());
+        final String dealid = reader.readBytes32();
+        final int idx = (int) reader.readUint();
+        final ChainTaskBuilder builder = ChainTask.builder()
+                .status(status)
+                .dealid(dealid)
+                .idx(idx)
+                .maxExecutionTime(reader.readUint() * 1000L)
+                .contributionDeadline(reader.readUint() * 1000L)
+                .revealDeadline(reader.readUint() * 1000L)
+                .finalDeadline(reader.readUint() * 1000L)
+                .consensusValue(reader.readBytes32())
+                .revealCounter((int) reader.readUint())
+                .winnerCounter((int) reader.readUint());
+        final int contributorsOffset = reader.readOffset();
+        final int resultsOffset = reader.readOffset();
+        reader.seek(contributorsOffset);
+        final int contributorsSize = (int) reader.readUint();
+        final List<String> contributors = new ArrayList<>(contributorsSize);
+        for (int i = 0; i < contributorsSize; i++) {
+            contributors.add(reader.readAddress());
+        }
+        return builder
+                .contributors(List.copyOf(contributors))
+                .results(reader.readDynamicHexString(resultsOffset))
+                .chainTaskId(ChainUtils.generateChainTaskId(dealid, idx))
+                .build();
+    }
+
     public static ChainTask tuple2ChainTask(Tuple12<BigInteger, byte[], BigInteger, BigInteger, BigInteger, BigInteger, BigInteger, byte[], BigInteger, BigInteger, List<String>, byte[]> chainTask) {
         if (chainTask != null) {
             return ChainTask.builder()
@@ -1,5 +1,5 @@
 /*
- * Copyright 2020-2025 IEXEC BLOCKCHAIN TECH
+ * Copyright 2020-2026 IEXEC BLOCKCHAIN TECH
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,15 +16,28 @@
 
 package com.iexec.commons.poco.chain;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.Scheduler;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
 import com.iexec.commons.poco.contract.generated.IexecHubContract;
 import com.iexec.commons.poco.eip712.EIP712Domain;
+import com.iexec.commons.poco.encoding.AbiReader;
 import com.iexec.commons.poco.encoding.MatchOrdersDataEncoder;
+import com.iexec.commons.poco.metrics.Metrics;
+import com.iexec.commons.poco.metrics.MetricsListener;
 import com.iexec.commons.poco.order.DatasetOrder;
 import com.iexec.commons.poco.task.TaskDescription;
+import com.iexec.commons.poco.utils.Address;
+import com.iexec.commons.poco.utils.Bytes32;
 import com.iexec.commons.poco.utils.BytesUtils;
 import com.iexec.commons.poco.utils.Retryer;
+import com.iexec.commons.poco.utils.SingleFlight;
 import lombok.Getter;
+import lombok.Value;
 import lombok.extern.slf4j.Slf4j;
+import net.jodah.failsafe.function.CheckedSupplier;
 import org.web3j.crypto.Credentials;
 import org.web3j.ens.EnsResolutionException;
 import org.web3j.tx.RawTransactionManager;
@@ -34,10 +47,21 @@ import org.web3j.utils.Numeric;
 
 import java.io.IOException;
 import java.math.BigInteger;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
 
+import static com.iexec.commons.poco.chain.ChainUtils.generateChainTaskId;
 import static com.iexec.commons.poco.chain.Web3jAbstractService.toBigInt;
 import static com.iexec.commons.poco.chain.Web3jAbstractService.toEthereumAddress;
 import static com.iexec.commons.poco.encoding.AccessorsEncoder.*;
@@ -54,6 +78,22 @@ public abstract class IexecHubAbstractService {
     public static final int POLLING_ATTEMPTS_PER_TX_HASH = 12;
     public static final int NB_BLOCKS_TO_WAIT_PER_RETRY = 6;
     public static final int MAX_RETRIES = 3;
+    public static final long TASK_DESCRIPTIONS_MAX_SIZE = 10_000;
+    public static final long DEALS_MAX_SIZE = 1_000;
+    public static final long ASSETS_MAX_SIZE = 1_000;
+    // final deadline of a task is its start time plus this ratio times the max execution time of its category
+    private static final long FINAL_DEADLINE_RATIO = 10;
+    // deals whose final deadline is unknown are read again after this delay
+    static final Duration UNKNOWN_DEADLINE_TTL = Duration.ofHours(1);
+    // cache names reported to the metrics listener
+    public static final String CATEGORIES_CACHE = "categories";
+    public static final String DEALS_CACHE = "deals";
+    public static final String APPS_CACHE = "apps";
+    public static final String DATASETS_CACHE = "datasets";
+    public static final String TASK_DESCRIPTIONS_CACHE = "taskDescriptions";
+
+    // Reads of deal models block on retries, each read runs on its own virtual thread
+    private static final ExecutorService DEAL_MODELS_EXECUTOR = Executors.newVirtualThreadPerTaskExecutor();
 
     protected final Credentials credentials;
     protected final RawTransactionManager txManager;
@@ -63,11 +103,20 @@ public abstract class IexecHubAbstractService {
     @Getter
     private final EIP712Domain ordersDomain;
     private final Web3jAbstractService web3jAbstractService;
+    // null when aggregated reads are disabled
+    private final MulticallAggregator multicallAggregator;
     private long maxNbOfPeriodsForConsensus = -1;
     private final long retryDelay;// ms
     private final int maxRetries;
     private final Map<Long, ChainCategory> categories = new ConcurrentHashMap<>();
-    private final Map<String, TaskDescription> taskDescriptions = new ConcurrentHashMap<>();
+    // deals, apps and datasets are immutable once on-chain
+    // caches are keyed by parsed IDs and addresses, malformed ones are never cached
+    private final Cache<Bytes32, ChainDeal> deals = buildDealsCache(DEALS_MAX_SIZE, categories);
+    private final Cache<Address, ChainApp> apps = Caffeine.newBuilder().maximumSize(ASSETS_MAX_SIZE).build();
+    private final Cache<Address, ChainDataset> datasets = Caffeine.newBuilder().maximumSize(ASSETS_MAX_SIZE).build();
+    private final Cache<Bytes32, TaskDescription> taskDescriptions;
+    private final SingleFlight<Long, ChainCategory> categoryLoads = new SingleFlight<>();
+    private final SingleFlight<String, TaskDescription> taskDescriptionLoads = new SingleFlight<>();
     private BigInteger lastKnownBalance = BigInteger.ZERO;
 
     protected IexecHubAbstractService(
@@ -92,11 +141,64 @@ public abstract class IexecHubAbstractService {
             String iexecHubAddress,
             int nbBlocksToWaitPerRetry,
             int maxRetries) {
+        this(credentials, web3jAbstractService, iexecHubAddress, null, nbBlocksToWaitPerRetry, maxRetries);
+    }
+
+    /**
+     * Constructor for the IexecHubAbstractService enabling aggregated reads with Multicall3
+     * <p>
+     * When a Multicall3 address is provided, category, app and dataset are read in a single call
+     * while building a task description.
+     *
+     * @param credentials            credentials for sending transaction
+     * @param web3jAbstractService   custom web3j service
+     * @param iexecHubAddress        address of the iExec Hub contract
+     * @param multicallAddress       address of the Multicall3 contract, {@literal null} to disable aggregated reads
+     * @param nbBlocksToWaitPerRetry nb block to wait per retry
+     * @param maxRetries             maximum reties
+     * @see com.iexec.commons.poco.encoding.MulticallDataEncoder#MULTICALL3_ADDRESS
+     */
+    protected IexecHubAbstractService(
+            Credentials credentials,
+            Web3jAbstractService web3jAbstractService,
+            String iexecHubAddress,
+            String multicallAddress,
+            int nbBlocksToWaitPerRetry,
+            int maxRetries) {
+        this(credentials, web3jAbstractService, iexecHubAddress, multicallAddress,
+                nbBlocksToWaitPerRetry, maxRetries, TASK_DESCRIPTIONS_MAX_SIZE);
+    }
+
+    /**
+     * Constructor for the IexecHubAbstractService with a custom task descriptions cache size
+     * <p>
+     * Cached task descriptions expire after their final deadline. When the cache is full,
+     * least recently used task descriptions are evicted first.
+     *
+     * @param credentials             credentials for sending transaction
+     * @param web3jAbstractService    custom web3j service
+     * @param iexecHubAddress         address of the iExec Hub contract
+     * @param multicallAddress        address of the Multicall3 contract, {@literal null} to disable aggregated reads
+     * @param nbBlocksToWaitPerRetry  nb block to wait per retry
+     * @param maxRetries              maximum reties
+     * @param taskDescriptionsMaxSize maximum number of cached task descriptions
+     */
+    protected IexecHubAbstractService(
+            Credentials credentials,
+            Web3jAbstractService web3jAbstractService,
+            String iexecHubAddress,
+            String multicallAddress,
+            int nbBlocksToWaitPerRetry,
+            int maxRetries,
+            long taskDescriptionsMaxSize) {
         this.credentials = credentials;
         this.web3jAbstractService = web3jAbstractService;
         this.iexecHubAddress = iexecHubAddress;
+        this.multicallAggregator = multicallAddress == null ? null
+                : new MulticallAggregator(web3jAbstractService, credentials.getAddress(), multicallAddress);
         this.retryDelay = nbBlocksToWaitPerRetry * this.web3jAbstractService.getBlockTime().toMillis();
         this.maxRetries = maxRetries;
+        this.taskDescriptions = buildTaskDescriptionsCache(taskDescriptionsMaxSize);
 
         txReceiptProcessor = new PollingTransactionReceiptProcessor(
                 web3jAbstractService.getWeb3j(),
@@ -114,14 +216,74 @@ public abstract class IexecHubAbstractService {
         iexecHubContract = getHubContract(web3jAbstractService.getContractGasProvider());
         ordersDomain = new EIP712Domain(web3jAbstractService.getChainId(), iexecHubAddress);
 
-        log.info("Abstract IexecHubService initialized (iexec proxy address) [hubAddress:{}]",
-                iexecHubContract.getContractAddress());
+        log.info("Abstract IexecHubService initialized (iexec proxy address) [hubAddress:{}, multicallAddress:{}]",
+                iexecHubContract.getContractAddress(), multicallAddress);
+    }
+
+    /**
+     * Builds a bounded cache whose entries expire once the final deadline of their task has been reached.
+     *
+     * @param maxSize maximum number of cached task descriptions
+     * @return The task descriptions cache
+     */
+    static Cache<Bytes32, TaskDescription> buildTaskDescriptionsCache(final long maxSize) {
+        return Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(Expiry.<Bytes32, TaskDescription>creating((chainTaskId, taskDescription) -> {
+                    // no final deadline should not happen on-chain, the entry is only subject to size eviction
+                    if (taskDescription.getFinalDeadline() <= 0) {
+                        return ChronoUnit.FOREVER.getDuration();
+                    }
+                    final long remainingMillis = taskDescription.getFinalDeadline() - Instant.now().toEpochMilli();
+                    return Duration.ofMillis(Math.max(0, remainingMillis));
+                }))
+                .scheduler(Scheduler.systemScheduler())
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * Builds a bounded cache whose entries expire once the final deadline of their deal has been reached.
+     * <p>
+     * No task of a deal can be computed anymore after this deadline.
+     * The category of a deal is read before the deal is cached, the deadline is computed from the cached category.
+     * If the category is not cached, the deadline is unknown and the deal expires after {@link #UNKNOWN_DEADLINE_TTL}.
+     *
+     * @param maxSize    maximum number of cached deals
+     * @param categories cached categories, by ID
+     * @return The deals cache
+     */
+    static Cache<Bytes32, ChainDeal> buildDealsCache(final long maxSize, final Map<Long, ChainCategory> categories) {
+        return Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(Expiry.<Bytes32, ChainDeal>creating((chainDealId, chainDeal) -> {
+                    final ChainCategory chainCategory = chainDeal.getCategory() != null
+                            ? categories.get(chainDeal.getCategory().longValue()) : null;
+                    if (chainCategory == null || chainCategory.getMaxExecutionTime() <= 0) {
+                        return UNKNOWN_DEADLINE_TTL;
+                    }
+                    final long finalDeadline = chainDeal.getStartTime().longValue() * 1000
+                            + chainCategory.getMaxExecutionTime() * FINAL_DEADLINE_RATIO;
+                    return Duration.ofMillis(Math.max(0, finalDeadline - Instant.now().toEpochMilli()));
+                }))
+                .scheduler(Scheduler.systemScheduler())
+                .build();
     }
 
     private static int scoreToWeight(int workerScore) {
         return Math.max(workerScore / 3, 3) - 1;
     }
 
+    private static <K, V> V getCached(final Cache<K, V> cache, final K key) {
+        return key != null ? cache.getIfPresent(key) : null;
+    }
+
+    private static <K, V> void putCached(final Cache<K, V> cache, final K key, final V value) {
+        if (key != null) {
+            cache.asMap().putIfAbsent(key, value);
+        }
+    }
+
     /**
      * Get an IexecHubContract instance.
      *
@@ -178,6 +340,8 @@ public abstract class IexecHubAbstractService {
      * <p>
      * The obtained deal won't contain app or dataset details
      * <p>
+     * Valid deals are cached, a deal is read only once for all tasks of a bag of tasks.
+     * <p>
      * Note:
      * If `start time` is invalid, it is likely a blockchain issue.
      * In this case, in order to protect workflows based on top of it,
@@ -187,13 +351,24 @@ public abstract class IexecHubAbstractService {
      * @return deal object
      */
     public Optional<ChainDeal> getChainDeal(String chainDealId) {
-        final byte[] chainDealIdBytes = BytesUtils.stringToBytes(chainDealId);
+        final Bytes32 dealKey = Bytes32.fromHexStringOrNull(chainDealId);
+        final ChainDeal cachedDeal = getCached(deals, dealKey);
+        Metrics.getListener().onCacheAccess(DEALS_CACHE, cachedDeal != null);
+        if (cachedDeal != null) {
+            return Optional.of(cachedDeal);
+        }
+        final CacheLoadEvent event = new CacheLoadEvent();
+        event.begin();
         try {
-            final IexecHubContract.Deal deal = iexecHubContract.viewDeal(chainDealIdBytes).send();
-            final ChainCategory category = getChainCategory(deal.category.longValue()).orElse(null);
-            final ChainDeal chainDeal = ChainDeal.parts2ChainDeal(chainDealId, deal, category);
-            return validateChainDeal(chainDeal);
+            final String rawData = web3jAbstractService.sendCall(
+                    credentials.getAddress(), iexecHubAddress, encodeViewDeal(chainDealId));
+            final ChainDeal chainDeal = ChainDeal.fromRawData(chainDealId, rawData, getDealCategory(rawData));
+            final Optional<ChainDeal> validChainDeal = validateChainDeal(chainDeal);
+            validChainDeal.ifPresent(validDeal -> putCached(deals, dealKey, validDeal));
+            event.report(DEALS_CACHE, chainDealId, validChainDeal.isPresent());
+            return validChainDeal;
         } catch (Exception e) {
+            event.report(DEALS_CACHE, chainDealId, false);
             log.error("Failed to getChainDeal [chainDealId:{}]", chainDealId, e);
         }
         return Optional.empty();
@@ -238,6 +413,22 @@ public abstract class IexecHubAbstractService {
         return Optional.empty();
     }
 
+    /**
+     * Reads the category of a raw {@code viewDeal} result.
+     *
+     * @param rawData Value returned by the {@code viewDeal} call
+     * @return The category or {@literal null} if it could not be retrieved
+     */
+    private ChainCategory getDealCategory(final String rawData) {
+        final AbiReader reader = new AbiReader(rawData);
+        if (reader.wordCount() < 21) {
+            return null;
+        }
+        // category is the 11th field of the Deal struct
+        final long categoryId = reader.seek(reader.readOffset()).skip(10).readUint();
+        return getChainCategory(categoryId).orElse(null);
+    }
+
     /**
      * Checks if deal is valid, i.e. has a positive start time allowing to compute deadlines.
      *
@@ -273,8 +464,12 @@ public abstract class IexecHubAbstractService {
 
     public Optional<ChainTask> getChainTask(String chainTaskId) {
         try {
-            final ChainTask chainTask = ChainTask.tuple2ChainTask(iexecHubContract
-                    .viewTaskABILegacy(BytesUtils.stringToBytes(chainTaskId)).send());
+            final ChainTask chainTask = ChainTask.fromRawData(web3jAbstractService.sendCall(
+                    credentials.getAddress(), iexecHubAddress, encodeViewTaskABILegacy(chainTaskId)));
+            if (chainTask == null) {
+                log.debug("Failed to get consistent ChainTask [chainTaskId:{}]", chainTaskId);
+                return Optional.empty();
+            }
             final String chainDealId = chainTask.getDealid();
             if (isNonZeroedBytes32(chainDealId)) {
                 return Optional.of(chainTask);
@@ -290,8 +485,7 @@ public abstract class IexecHubAbstractService {
 
     public Optional<ChainAccount> getChainAccount(final String walletAddress) {
         try {
-            final String txData = VIEW_ACCOUNT_SELECTOR +
-                    Numeric.toHexStringNoPrefixZeroPadded(Numeric.toBigInt(walletAddress), 64);
+            final String txData = encodeViewAccount(walletAddress);
             return Optional.ofNullable(ChainAccount.fromRawData(
                     web3jAbstractService.sendCall(credentials.getAddress(), iexecHubAddress, txData)));
         } catch (Exception e) {
@@ -303,9 +497,7 @@ public abstract class IexecHubAbstractService {
     public Optional<ChainContribution> getChainContribution(final String chainTaskId,
                                                             final String workerAddress) {
         try {
-            final String txData = VIEW_CONTRIBUTION_SELECTOR +
-                    Numeric.toHexStringNoPrefixZeroPadded(Numeric.toBigInt(chainTaskId), 64) +
-                    Numeric.toHexStringNoPrefixZeroPadded(Numeric.toBigInt(workerAddress), 64);
+            final String txData = encodeViewContribution(chainTaskId, workerAddress);
             final String rawData = web3jAbstractService.sendCall(credentials.getAddress(), iexecHubAddress, txData);
             return Optional.ofNullable(ChainContribution.fromRawData(rawData));
         } catch (Exception e) {
@@ -320,15 +512,26 @@ public abstract class IexecHubAbstractService {
      * <p>
      * If no key exists for the category, the {@link #retrieveCategory(long)} method is called
      * to fetch the category properties in the PoCo smart contracts.
+     * Concurrent callers for the same missing category share a single read.
      *
      * @param id blockchain ID of the category
      * @return category object
      */
     public Optional<ChainCategory> getChainCategory(final long id) {
-        if (!categories.containsKey(id)) {
-            retrieveCategory(id);
+        final ChainCategory cachedCategory = categories.get(id);
+        Metrics.getListener().onCacheAccess(CATEGORIES_CACHE, cachedCategory != null);
+        if (cachedCategory != null) {
+            return Optional.of(cachedCategory);
         }
-        return Optional.ofNullable(categories.get(id));
+        return Optional.ofNullable(categoryLoads.load(id, () -> {
+            if (!categories.containsKey(id)) {
+                final CacheLoadEvent event = new CacheLoadEvent();
+                event.begin();
+                retrieveCategory(id);
+                event.report(CATEGORIES_CACHE, id, categories.containsKey(id));
+            }
+            return categories.get(id);
+        }));
     }
 
     /**
@@ -343,7 +546,7 @@ public abstract class IexecHubAbstractService {
      */
     private void retrieveCategory(final long id) {
         try {
-            final String txData = VIEW_CATEGORY_SELECTOR + Numeric.toHexStringNoPrefixZeroPadded(BigInteger.valueOf(id), 64);
+            final String txData = encodeViewCategory(id);
             final ChainCategory chainCategory = ChainCategory.fromRawData(
                     id, web3jAbstractService.sendCall(credentials.getAddress(), iexecHubAddress, txData));
             if (chainCategory.getMaxExecutionTime() <= 0) {
@@ -357,30 +560,64 @@ public abstract class IexecHubAbstractService {
         }
     }
 
+    /**
+     * Retrieves on-chain app from cache or from PoCo smart contracts.
+     *
+     * @param appAddress address of the app
+     * @return app object
+     */
     public Optional<ChainApp> getChainApp(final String appAddress) {
         if (appAddress == null || appAddress.equals(BytesUtils.EMPTY_ADDRESS)) {
             return Optional.empty();
         }
+        final Address appKey = Address.fromHexStringOrNull(appAddress);
+        final ChainApp cachedApp = getCached(apps, appKey);
+        Metrics.getListener().onCacheAccess(APPS_CACHE, cachedApp != null);
+        if (cachedApp != null) {
+            return Optional.of(cachedApp);
+        }
+        final CacheLoadEvent event = new CacheLoadEvent();
+        event.begin();
         try {
-            final String txData = VIEW_APP_SELECTOR +
-                    Numeric.toHexStringNoPrefixZeroPadded(Numeric.toBigInt(appAddress), 64);
+            final String txData = encodeViewApp(appAddress);
             final String rawData = web3jAbstractService.sendCall(credentials.getAddress(), iexecHubAddress, txData);
-            return Optional.of(ChainApp.fromRawData(appAddress, rawData));
+            final ChainApp chainApp = ChainApp.fromRawData(appAddress, rawData);
+            putCached(apps, appKey, chainApp);
+            event.report(APPS_CACHE, appAddress, true);
+            return Optional.of(chainApp);
         } catch (Exception e) {
+            event.report(APPS_CACHE, appAddress, false);
             log.error("Failed to get chain app [chainAppId:{}]",
                     appAddress, e);
             return Optional.empty();
         }
     }
 
+    /**
+     * Retrieves on-chain dataset from cache or from PoCo smart contracts.
+     *
+     * @param datasetAddress address of the dataset
+     * @return dataset object
+     */
     public Optional<ChainDataset> getChainDataset(final String datasetAddress) {
         if (datasetAddress != null && !datasetAddress.equals(BytesUtils.EMPTY_ADDRESS)) {
+            final Address datasetKey = Address.fromHexStringOrNull(datasetAddress);
+            final ChainDataset cachedDataset = getCached(datasets, datasetKey);
+            Metrics.getListener().onCacheAccess(DATASETS_CACHE, cachedDataset != null);
+            if (cachedDataset != null) {
+                return Optional.of(cachedDataset);
+            }
+            final CacheLoadEvent event = new CacheLoadEvent();
+            event.begin();
             try {
-                final String txData = VIEW_DATASET_SELECTOR +
-                        Numeric.toHexStringNoPrefixZeroPadded(Numeric.toBigInt(datasetAddress), 64);
+                final String txData = encodeViewDataset(datasetAddress);
                 final String rawData = web3jAbstractService.sendCall(credentials.getAddress(), iexecHubAddress, txData);
-                return Optional.of(ChainDataset.fromRawData(datasetAddress, rawData));
+                final ChainDataset chainDataset = ChainDataset.fromRawData(datasetAddress, rawData);
+                putCached(datasets, datasetKey, chainDataset);
+                event.report(DATASETS_CACHE, datasetAddress, true);
+                return Optional.of(chainDataset);
             } catch (Exception e) {
+                event.report(DATASETS_CACHE, datasetAddress, false);
                 log.error("Failed to get ChainDataset [chainDatasetId:{}]",
                         datasetAddress, e);
             }
@@ -400,8 +637,7 @@ public abstract class IexecHubAbstractService {
     public Optional<Integer> getWorkerScore(final String address) {
         if (address != null && !address.isEmpty()) {
             try {
-                final String txData = VIEW_SCORE_SELECTOR +
-                        Numeric.toHexStringNoPrefixZeroPadded(Numeric.toBigInt(address), 64);
+                final String txData = encodeViewScore(address);
                 final BigInteger workerScore = toBigInt(web3jAbstractService.sendCall(credentials.getAddress(), iexecHubAddress, txData));
                 return Optional.of(workerScore.intValue());
             } catch (Exception e) {
@@ -473,18 +709,48 @@ public abstract class IexecHubAbstractService {
 
     /**
      * Behaves as a cache to avoid always calling blockchain to retrieve task description
+     * <p>
+     * Task descriptions are evicted after the task final deadline or when the cache is full.
      */
     public TaskDescription getTaskDescription(String chainTaskId) {
-        if (!taskDescriptions.containsKey(chainTaskId)) {
-            repeatGetTaskDescriptionFromChain(chainTaskId, retryDelay, maxRetries)
-                    .ifPresent(taskDescription ->
-                            taskDescriptions.putIfAbsent(chainTaskId, taskDescription));
+        final Bytes32 taskKey = Bytes32.fromHexStringOrNull(chainTaskId);
+        final TaskDescription cachedTaskDescription = getCached(taskDescriptions, taskKey);
+        Metrics.getListener().onCacheAccess(TASK_DESCRIPTIONS_CACHE, cachedTaskDescription != null);
+        if (cachedTaskDescription != null) {
+            return cachedTaskDescription;
         }
-        return taskDescriptions.get(chainTaskId);
+        // concurrent callers share a single read, a failed read is not cached and will be attempted again
+        return taskDescriptionLoads.load(chainTaskId, () -> {
+            // map view lookups are not recorded in cache statistics
+            final TaskDescription loadedTaskDescription = taskKey != null ? taskDescriptions.asMap().get(taskKey) : null;
+            if (loadedTaskDescription != null) {
+                return loadedTaskDescription;
+            }
+            final CacheLoadEvent event = new CacheLoadEvent();
+            event.begin();
+            final TaskDescription taskDescription = repeatGetTaskDescriptionFromChain(chainTaskId, retryDelay, maxRetries)
+                    .orElse(null);
+            if (taskDescription != null) {
+                putCached(taskDescriptions, taskKey, taskDescription);
+            }
+            event.report(TASK_DESCRIPTIONS_CACHE, chainTaskId, taskDescription != null);
+            return taskDescription;
+        });
+    }
+
+    /**
+     * Hit, miss and eviction counters of the task descriptions cache.
+     *
+     * @return A snapshot of the cache statistics
+     */
+    public CacheStats getTaskDescriptionsCacheStats() {
+        return taskDescriptions.stats();
     }
 
     /**
      * Retrieves task, deal, category, app and dataset models on PoCo Smart Contracts to build a task description.
+     * <p>
+     * Task and deal are read one after the other, category, app and dataset are then read concurrently.
      *
      * @param chainTaskId ID of the task
      * @param retryDelay  Interval between consecutive attempts while reading on the blockchain network
@@ -512,33 +778,134 @@ public abstract class IexecHubAbstractService {
             return Optional.empty();
         }
 
-        final ChainCategory chainCategory = new Retryer<Optional<ChainCategory>>()
-                .repeatCall(() -> getChainCategory(chainDeal.getCategory().longValue()),
-                        Optional::isEmpty,
-                        retryDelay, maxRetry,
-                        String.format("getChainCategory() [category:%s]", chainDeal.getCategory().longValue()))
-                .orElse(null);
-
-        final ChainApp chainApp = new Retryer<Optional<ChainApp>>()
-                .repeatCall(() -> getChainApp(chainDeal.getDappPointer()),
-                        Optional::isEmpty,
-                        retryDelay, maxRetry,
-                        String.format("getChainApp() [address:%s]", chainDeal.getDappPointer()))
-                .orElse(null);
-
-        final ChainDataset chainDataset = !chainDeal.containsDataset() ? null : new Retryer<Optional<ChainDataset>>()
-                .repeatCall(() -> getChainDataset(chainDeal.getDataPointer()),
-                        Optional::isEmpty,
-                        retryDelay, maxRetry,
-                        String.format("getChainDataset() [address:%s]", chainDeal.getDataPointer()))
-                .orElse(null);
+        if (multicallAggregator != null) {
+            final Optional<TaskDescription> taskDescription = getTaskDescriptionWithMulticall(chainTask, chainDeal);
+            if (taskDescription.isPresent()) {
+                return taskDescription;
+            }
+            log.warn("Aggregated read failed, falling back to single reads [chainTaskId:{}]", chainTaskId);
+        }
 
-        final TaskDescription taskDescription = TaskDescription.toTaskDescription(
-                chainDeal, chainTask, chainCategory, chainApp, chainDataset);
+        final DealModels dealModels = repeatGetDealModels(chainDeal, retryDelay, maxRetry);
+        final TaskDescription taskDescription = dealModels.toTaskDescription(chainDeal, chainTask);
         // taskDescription cannot be null here as chainTask and ChainDeal are not
         return Optional.ofNullable(taskDescription);
     }
 
+    /**
+     * Retrieves category, app and dataset of a deal with retries.
+     * <p>
+     * Those models only depend on the deal, models missing from caches are read concurrently.
+     *
+     * @param chainDeal Deal whose models are read
+     * @param retryDelay Interval between consecutive attempts while reading on the blockchain network
+     * @param maxRetry   Maximum number of attempts
+     * @return Read models, a model is {@literal null} if it could not be read
+     */
+    private DealModels repeatGetDealModels(final ChainDeal chainDeal, final long retryDelay, final int maxRetry) {
+        final long categoryId = chainDeal.getCategory().longValue();
+        final String appAddress = chainDeal.getDappPointer();
+        final String datasetAddress = chainDeal.getDataPointer();
+        final CompletableFuture<ChainCategory> chainCategory = repeatGetDealModelAsync(
+                categories.get(categoryId), CATEGORIES_CACHE,
+                () -> getChainCategory(categoryId), retryDelay, maxRetry,
+                String.format("getChainCategory() [category:%s]", categoryId));
+        final CompletableFuture<ChainApp> chainApp = repeatGetDealModelAsync(
+                getCached(apps, Address.fromHexStringOrNull(appAddress)), APPS_CACHE,
+                () -> getChainApp(appAddress), retryDelay, maxRetry,
+                String.format("getChainApp() [address:%s]", appAddress));
+        final CompletableFuture<ChainDataset> chainDataset = !chainDeal.containsDataset()
+                ? CompletableFuture.completedFuture(null)
+                : repeatGetDealModelAsync(
+                getCached(datasets, Address.fromHexStringOrNull(datasetAddress)), DATASETS_CACHE,
+                () -> getChainDataset(datasetAddress), retryDelay, maxRetry,
+                String.format("getChainDataset() [address:%s]", datasetAddress));
+        return new DealModels(chainCategory.join(), chainApp.join(), chainDataset.join());
+    }
+
+    /**
+     * Returns a cached deal model right away, or reads it with retries on a virtual thread.
+     */
+    private <T> CompletableFuture<T> repeatGetDealModelAsync(final T cachedModel,
+                                                             final String cache,
+                                                             final CheckedSupplier<Optional<T>> supplier,
+                                                             final long retryDelay,
+                                                             final int maxRetry,
+                                                             final String logContext) {
+        if (cachedModel != null) {
+            Metrics.getListener().onCacheAccess(cache, true);
+            return CompletableFuture.completedFuture(cachedModel);
+        }
+        return CompletableFuture.supplyAsync(() -> new Retryer<Optional<T>>()
+                        .repeatCall(supplier, Optional::isEmpty, retryDelay, maxRetry, logContext)
+                        .orElse(null),
+                DEAL_MODELS_EXECUTOR);
+    }
+
+    /**
+     * Reads category, app and dataset of a deal in a single Multicall3 call to build a task description.
+     * <p>
+     * Models missing from caches are read from the same block. No retry is performed, an empty result is returned
+     * if any read failed.
+     *
+     * @param chainTask Task whose description is built
+     * @param chainDeal Deal of the task
+     * @return The aggregate {@code TaskDescription} or an empty result
+     */
+    private Optional<TaskDescription> getTaskDescriptionWithMulticall(final ChainTask chainTask,
+                                                                      final ChainDeal chainDeal) {
+        final long categoryId = chainDeal.getCategory().longValue();
+        final String appAddress = chainDeal.getDappPointer();
+        final String datasetAddress = chainDeal.containsDataset() ? chainDeal.getDataPointer() : null;
+        // only models missing from caches are read
+        final ChainCategory cachedCategory = categories.get(categoryId);
+        final Address appKey = Address.fromHexStringOrNull(appAddress);
+        final Address datasetKey = Address.fromHexStringOrNull(datasetAddress);
+        final ChainApp cachedApp = getCached(apps, appKey);
+        final ChainDataset cachedDataset = getCached(datasets, datasetKey);
+        final MetricsListener metrics = Metrics.getListener();
+        metrics.onCacheAccess(CATEGORIES_CACHE, cachedCategory != null);
+        metrics.onCacheAccess(APPS_CACHE, cachedApp != null);
+        if (datasetAddress != null) {
+            metrics.onCacheAccess(DATASETS_CACHE, cachedDataset != null);
+        }
+        final List<String> payloads = new ArrayList<>();
+        if (cachedCategory == null) {
+            payloads.add(encodeViewCategory(categoryId));
+        }
+        if (cachedApp == null) {
+            payloads.add(encodeViewApp(appAddress));
+        }
+        if (datasetAddress != null && cachedDataset == null) {
+            payloads.add(encodeViewDataset(datasetAddress));
+        }
+        try {
+            final Iterator<CallResult> results = multicallAggregator.aggregate(iexecHubAddress, payloads).iterator();
+            ChainCategory chainCategory = cachedCategory;
+            if (chainCategory == null) {
+                chainCategory = ChainCategory.fromRawData(categoryId, results.next().getValueOrThrow());
+                if (chainCategory.getMaxExecutionTime() > 0) {
+                    categories.putIfAbsent(categoryId, chainCategory);
+                }
+            }
+            ChainApp chainApp = cachedApp;
+            if (chainApp == null) {
+                chainApp = ChainApp.fromRawData(appAddress, results.next().getValueOrThrow());
+                putCached(apps, appKey, chainApp);
+            }
+            ChainDataset chainDataset = cachedDataset;
+            if (datasetAddress != null && chainDataset == null) {
+                chainDataset = ChainDataset.fromRawData(datasetAddress, results.next().getValueOrThrow());
+                putCached(datasets, datasetKey, chainDataset);
+            }
+            return Optional.ofNullable(TaskDescription.toTaskDescription(
+                    chainDeal, chainTask, chainCategory, chainApp, chainDataset));
+        } catch (Exception e) {
+            log.error("Failed to get aggregated deal models [chainDealId:{}]", chainDeal.getChainDealId(), e);
+        }
+        return Optional.empty();
+    }
+
     /**
      * @deprecated single usage found in all code, directly call isTeeTask on getTaskDescription
      */
@@ -555,6 +922,80 @@ public abstract class IexecHubAbstractService {
         return taskDescription.isTeeTask();
     }
 
+    /**
+     * Reads all tasks of a deal in a few batched calls and caches their descriptions.
+     * <p>
+     * The deal and its category, app and dataset are read once, {@code viewTaskABILegacy} calls for all tasks of
+     * the bag of tasks are then sent in JSON-RPC batch requests.
+     * Tasks which are not initialized on-chain yet, or whose description is already cached, are skipped.
+     *
+     * @param chainDealId ID of the deal
+     * @return The number of task descriptions added to the cache
+     */
+    public int prefetchTaskDescriptions(final String chainDealId) {
+        if (retryDelay == 0) {
+            log.warn("retry delay cannot be 0 [chainDealId:{}]", chainDealId);
+            return 0;
+        }
+        final ChainDeal chainDeal = repeatGetChainDeal(chainDealId, retryDelay, maxRetries).orElse(null);
+        if (chainDeal == null) {
+            log.info("Failed to prefetch TaskDescriptions, ChainDeal error [chainDealId:{}]", chainDealId);
+            return 0;
+        }
+        final DealModels dealModels = repeatGetDealModels(chainDeal, retryDelay, maxRetries);
+
+        final int botFirst = chainDeal.getBotFirst().intValue();
+        final int botSize = chainDeal.getBotSize().intValue();
+        final List<String> chainTaskIds = IntStream.range(botFirst, botFirst + botSize)
+                .mapToObj(taskIndex -> generateChainTaskId(chainDealId, taskIndex))
+                .filter(chainTaskId -> getCached(taskDescriptions, Bytes32.fromHexStringOrNull(chainTaskId)) == null)
+                .toList();
+        final List<CallRequest> calls = chainTaskIds.stream()
+                .map(chainTaskId -> new CallRequest(
+                        credentials.getAddress(), iexecHubAddress, encodeViewTaskABILegacy(chainTaskId)))
+                .toList();
+        final List<CallResult> results;
+        try {
+            results = web3jAbstractService.sendCallBatch(calls);
+        } catch (Exception e) {
+            log.error("Failed to prefetch TaskDescriptions [chainDealId:{}]", chainDealId, e);
+            return 0;
+        }
+
+        int prefetched = 0;
+        for (int i = 0; i < results.size(); i++) {
+            final CallResult result = results.get(i);
+            if (!result.isSuccess()) {
+                log.debug("Failed to read ChainTask [chainTaskId:{}, error:{}]",
+                        chainTaskIds.get(i), result.getError().getMessage());
+                continue;
+            }
+            final ChainTask chainTask = ChainTask.fromRawData(result.getValue());
+            if (chainTask == null || !isNonZeroedBytes32(chainTask.getDealid())) {
+                continue;
+            }
+            final TaskDescription taskDescription = dealModels.toTaskDescription(chainDeal, chainTask);
+            if (taskDescription != null) {
+                putCached(taskDescriptions, Bytes32.fromHexStringOrNull(chainTaskIds.get(i)), taskDescription);
+                prefetched++;
+            }
+        }
+        log.info("Prefetched TaskDescriptions [chainDealId:{}, botFirst:{}, botSize:{}, prefetched:{}]",
+                chainDealId, botFirst, botSize, prefetched);
+        return prefetched;
+    }
+
+    @Value
+    private static class DealModels {
+        ChainCategory chainCategory;
+        ChainApp chainApp;
+        ChainDataset chainDataset;
+
+        TaskDescription toTaskDescription(final ChainDeal chainDeal, final ChainTask chainTask) {
+            return TaskDescription.toTaskDescription(chainDeal, chainTask, chainCategory, chainApp, chainDataset);
+        }
+    }
+
     // region accessors
 
     public void assertDatasetDealCompatibility(final DatasetOrder datasetOrder, final String dealId) throws IOException {
@@ -631,19 +1072,20 @@ public abstract class IexecHubAbstractService {
      * {@literal false} otherwise.
      */
     protected boolean purgeTask(String chainTaskId) {
-        if (!taskDescriptions.containsKey(chainTaskId)) {
+        final Bytes32 taskKey = Bytes32.fromHexStringOrNull(chainTaskId);
+        if (taskKey == null || taskDescriptions.asMap().remove(taskKey) == null) {
             log.info("Can't purge task description [chainTaskId:{}]", chainTaskId);
             return false;
         }
-
-        return taskDescriptions.remove(chainTaskId) != null;
+        return true;
     }
 
     /**
-     * Purge all cached task descriptions.
+     * Purge all cached task descriptions and deals.
      */
     protected void purgeAllTasksData() {
-        taskDescriptions.clear();
+        taskDescriptions.invalidateAll();
+        deals.invalidateAll();
     }
 
     // endregion
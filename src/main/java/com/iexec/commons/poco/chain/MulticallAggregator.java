@@ -0,0 +1,98 @@
+/*
+ * Copyright 2026 IEXEC BLOCKCHAIN TECH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.iexec.commons.poco.chain;
+
+import com.iexec.commons.poco.encoding.MulticallDataEncoder;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.web3j.utils.Numeric;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Combines several view calls in a single {@code eth_call} to a Multicall3 contract.
+ * <p>
+ * All sub-calls are executed in the same block, their results are consistent with each other.
+ */
+@Slf4j
+public class MulticallAggregator {
+
+    private final Web3jAbstractService web3jAbstractService;
+    private final String from;
+    @Getter
+    private final String multicallAddress;
+
+    /**
+     * Creates an aggregator targeting a Multicall3 deployment.
+     *
+     * @param web3jAbstractService Service used to send the {@code eth_call}
+     * @param from                 Address used as sender of the {@code eth_call}
+     * @param multicallAddress     Address of the Multicall3 contract, {@link MulticallDataEncoder#MULTICALL3_ADDRESS}
+     *                             on most chains
+     */
+    public MulticallAggregator(final Web3jAbstractService web3jAbstractService,
+                               final String from,
+                               final String multicallAddress) {
+        this.web3jAbstractService = web3jAbstractService;
+        this.from = from;
+        this.multicallAddress = multicallAddress;
+    }
+
+    /**
+     * Sends all payloads to the same contract in a single aggregated call.
+     *
+     * @param target   Address of the called contract
+     * @param payloads Encoded calls, for instance built with {@code AccessorsEncoder}
+     * @return One result per payload, in the same order
+     * @throws IOException on communication error or if the aggregated call itself failed
+     * @see #aggregate(List, List)
+     */
+    public List<CallResult> aggregate(final String target, final List<String> payloads) throws IOException {
+        return aggregate(Collections.nCopies(payloads.size(), target), payloads);
+    }
+
+    /**
+     * Sends all payloads in a single aggregated call.
+     * <p>
+     * A reverted sub-call does not make the whole call fail, it is reported as a failed {@link CallResult}.
+     *
+     * @param targets  Addresses of the called contracts
+     * @param payloads Encoded calls, with the same order as {@code targets}
+     * @return One result per payload, in the same order
+     * @throws IOException on communication error or if the aggregated call itself failed
+     */
+    public List<CallResult> aggregate(final List<String> targets, final List<String> payloads) throws IOException {
+        if (payloads.isEmpty()) {
+            return List.of();
+        }
+        final String txData = MulticallDataEncoder.encodeAggregate3(targets, payloads);
+        final String rawData = web3jAbstractService.sendCall(from, multicallAddress, txData);
+        if (Numeric.cleanHexPrefix(rawData).isEmpty()) {
+            log.warn("Empty aggregate3 result, Multicall3 may not be deployed [multicallAddress:{}]", multicallAddress);
+            throw new IOException("Empty aggregate3 result");
+        }
+        final List<CallResult> results = MulticallDataEncoder.decodeAggregate3(rawData);
+        if (results.size() != payloads.size()) {
+            log.warn("Unexpected aggregate3 result size [multicallAddress:{}, expected:{}, actual:{}]",
+                    multicallAddress, payloads.size(), results.size());
+            throw new IOException("Unexpected aggregate3 result size");
+        }
+        return results;
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright 2026 IEXEC BLOCKCHAIN TECH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.iexec.commons.poco.chain;
+
+import lombok.extern.slf4j.Slf4j;
+import org.web3j.protocol.Web3j;
+import org.web3j.protocol.core.DefaultBlockParameterName;
+import org.web3j.protocol.core.methods.response.EthGetTransactionCount;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+
+/**
+ * Allocates transaction nonces of a single wallet locally.
+ * <p>
+ * The next nonce is read once from the {@code pending} transaction count of the wallet, later nonces are
+ * allocated with an atomic increment without any call to the blockchain node.
+ * Concurrent callers always get distinct nonces.
+ * <p>
+ * The local counter is synchronized again with the blockchain node when a nonce error is reported,
+ * see {@link #onSendFailure(BigInteger, String)}.
+ */
+@Slf4j
+public class NonceManager {
+
+    private static final long UNSYNCED = -1L;
+    private static final Pattern NONCE_ERROR_PATTERN = Pattern.compile(
+            "(?i).*(nonce too low|nonce too high|already known|replacement transaction underpriced).*");
+
+    private final Web3j web3j;
+    private final String address;
+    private final AtomicLong nextNonce = new AtomicLong(UNSYNCED);
+
+    public NonceManager(final Web3j web3j, final String address) {
+        this.web3j = web3j;
+        this.address = address;
+    }
+
+    /**
+     * Allocates the next nonce of the wallet.
+     *
+     * @return A nonce which has not been returned to any other caller since the last synchronization
+     * @throws IOException if the transaction count could not be read from the blockchain node
+     */
+    public BigInteger allocate() throws IOException {
+        while (true) {
+            final long current = nextNonce.get();
+            if (current == UNSYNCED) {
+                sync();
+            } else if (nextNonce.compareAndSet(current, current + 1)) {
+                log.debug("Nonce allocated [address:{}, nonce:{}]", address, current);
+                return BigInteger.valueOf(current);
+            }
+        }
+    }
+
+    /**
+     * Reports a nonce whose transaction could not be submitted.
+     * <p>
+     * On nonce errors the next allocation synchronizes the counter from the blockchain node again.
+     * For other errors the nonce is given back if it is the last allocated one, otherwise the counter is
+     * synchronized to fill the gap.
+     *
+     * @param nonce   Nonce of the failed transaction
+     * @param message Error message returned by the blockchain node, may be {@literal null}
+     */
+    public void onSendFailure(final BigInteger nonce, final String message) {
+        if (message != null && NONCE_ERROR_PATTERN.matcher(message).matches()) {
+            log.warn("Nonce error, local nonce will be synchronized [address:{}, nonce:{}, message:{}]",
+                    address, nonce, message);
+            resync();
+        } else if (!nextNonce.compareAndSet(nonce.longValue() + 1, nonce.longValue())) {
+            log.warn("Nonce gap, local nonce will be synchronized [address:{}, nonce:{}]", address, nonce);
+            resync();
+        }
+    }
+
+    /**
+     * Forces the next allocation to read the transaction count from the blockchain node.
+     */
+    public void resync() {
+        nextNonce.set(UNSYNCED);
+    }
+
+    private synchronized void sync() throws IOException {
+        if (nextNonce.get() != UNSYNCED) {
+            return;
+        }
+        final EthGetTransactionCount transactionCount = web3j
+                .ethGetTransactionCount(address, DefaultBlockParameterName.PENDING).send();
+        if (transactionCount.hasError()) {
+            throw new IOException("Failed to get transaction count: " + transactionCount.getError().getMessage());
+        }
+        final long chainNonce = transactionCount.getTransactionCount().longValue();
+        log.info("Nonce synchronized [address:{}, nonce:{}]", address, chainNonce);
+        nextNonce.set(chainNonce);
+    }
+}
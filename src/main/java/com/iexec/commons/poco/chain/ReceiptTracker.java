@@ -0,0 +1,176 @@
+/*
+ * Copyright 2026 IEXEC BLOCKCHAIN TECH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.iexec.commons.poco.chain;
+
+import com.iexec.commons.poco.metrics.Metrics;
+import com.iexec.commons.poco.utils.Bytes32;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+import org.web3j.protocol.core.methods.response.TransactionReceipt;
+import org.web3j.protocol.exceptions.TransactionException;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.LongConsumer;
+
+/**
+ * Waits for receipts of submitted transactions.
+ * <p>
+ * On each new block seen by the {@link BlockHeadTracker}, receipts of all pending transactions are fetched
+ * in a single batch request. The number of requests depends on the number of blocks, not on the number of
+ * pending transactions.
+ */
+@Slf4j
+public class ReceiptTracker implements AutoCloseable {
+
+    private final Web3jAbstractService web3jAbstractService;
+    private final int maxBlocksToWait;
+    private final Map<Bytes32, PendingReceipt> pendingReceipts = new ConcurrentHashMap<>();
+    private final AtomicBoolean pollQueued = new AtomicBoolean();
+    private final AtomicBoolean started = new AtomicBoolean();
+    private volatile boolean closed;
+    private final LongConsumer blockListener = this::onNewHead;
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        final Thread thread = new Thread(runnable, "receipt-tracker");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    @Value
+    private static class PendingReceipt {
+        CompletableFuture<TransactionReceipt> future;
+        long deadlineBlock;
+        long trackedAt;
+    }
+
+    /**
+     * Creates a tracker relying on the block head tracker of a {@link Web3jAbstractService}.
+     *
+     * @param web3jAbstractService Service used to fetch receipts and follow the chain head
+     * @param maxBlocksToWait      Number of blocks after which a transaction without receipt is considered lost
+     */
+    public ReceiptTracker(final Web3jAbstractService web3jAbstractService, final int maxBlocksToWait) {
+        this.web3jAbstractService = web3jAbstractService;
+        this.maxBlocksToWait = maxBlocksToWait;
+    }
+
+    /**
+     * Starts tracking a transaction.
+     * <p>
+     * Transactions are expected to be tracked as soon as they are submitted, the submit-to-receipt latency
+     * reported to the metrics listener is measured from this call.
+     *
+     * @param txHash Hash of a submitted transaction
+     * @return A future completed with the receipt once the transaction is mined, or completed exceptionally
+     * with a {@code TransactionException} if no receipt was found after {@code maxBlocksToWait} blocks,
+     * or with an {@code IllegalArgumentException} if the hash is not a 32 bytes hexadecimal string.
+     * Once the tracker is closed, the future fails with a {@code TransactionException} right away.
+     */
+    public CompletableFuture<TransactionReceipt> track(final String txHash) {
+        final Bytes32 txHashKey = Bytes32.fromHexStringOrNull(txHash);
+        if (txHashKey == null) {
+            return CompletableFuture.failedFuture(new IllegalArgumentException("Invalid transaction hash: " + txHash));
+        }
+        if (closed) {
+            return CompletableFuture.failedFuture(new TransactionException("Receipt tracker closed", txHash));
+        }
+        final BlockHeadTracker blockHeadTracker = web3jAbstractService.getBlockHeadTracker();
+        if (started.compareAndSet(false, true)) {
+            blockHeadTracker.addListener(blockListener);
+        }
+        final long deadlineBlock = blockHeadTracker.getHead() + maxBlocksToWait;
+        final PendingReceipt pendingReceipt = pendingReceipts.computeIfAbsent(txHashKey,
+                key -> new PendingReceipt(new CompletableFuture<>(), deadlineBlock, System.nanoTime()));
+        // closed concurrently, the pending receipt may have been added after close() failed the others
+        if (closed && pendingReceipts.remove(txHashKey, pendingReceipt)) {
+            pendingReceipt.getFuture().completeExceptionally(new TransactionException("Receipt tracker closed", txHash));
+        }
+        return pendingReceipt.getFuture();
+    }
+
+    public int getPendingCount() {
+        return pendingReceipts.size();
+    }
+
+    private void onNewHead(final long blockNumber) {
+        // polls are not stacked if fetching receipts is slower than the block time
+        if (!pendingReceipts.isEmpty() && pollQueued.compareAndSet(false, true)) {
+            executor.execute(() -> {
+                pollQueued.set(false);
+                poll(blockNumber);
+            });
+        }
+    }
+
+    void poll(final long blockNumber) {
+        final List<Bytes32> txHashes = List.copyOf(pendingReceipts.keySet());
+        if (txHashes.isEmpty()) {
+            return;
+        }
+        final Map<String, TransactionReceipt> receipts;
+        try {
+            receipts = web3jAbstractService.getTransactionReceipts(txHashes.stream().map(Bytes32::toHexString).toList());
+        } catch (IOException e) {
+            log.warn("Failed to fetch receipts, will retry on next block [blockNumber:{}, pending:{}]",
+                    blockNumber, txHashes.size(), e);
+            return;
+        }
+        log.debug("Fetched receipts [blockNumber:{}, pending:{}, mined:{}]", blockNumber, txHashes.size(), receipts.size());
+        for (final Bytes32 txHash : txHashes) {
+            final PendingReceipt pendingReceipt = pendingReceipts.get(txHash);
+            final TransactionReceipt receipt = receipts.get(txHash.toHexString());
+            if (pendingReceipt == null) {
+                continue;
+            }
+            if (receipt != null) {
+                pendingReceipts.remove(txHash);
+                Metrics.getListener().onTransactionReceipt(System.nanoTime() - pendingReceipt.getTrackedAt(), true);
+                pendingReceipt.getFuture().complete(receipt);
+            } else if (blockNumber > pendingReceipt.getDeadlineBlock()) {
+                log.warn("Transaction receipt not found [txHash:{}, maxBlocksToWait:{}]", txHash, maxBlocksToWait);
+                pendingReceipts.remove(txHash);
+                Metrics.getListener().onTransactionReceipt(System.nanoTime() - pendingReceipt.getTrackedAt(), false);
+                pendingReceipt.getFuture().completeExceptionally(new TransactionException(
+                        "Transaction receipt was not generated after " + maxBlocksToWait + " blocks", txHash.toHexString()));
+            }
+        }
+    }
+
+    /**
+     * Stops tracking, pending futures are completed exceptionally.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        web3jAbstractService.getBlockHeadTracker().removeListener(blockListener);
+        executor.shutdownNow();
+        // each pending receipt is removed before being failed, track() may remove a receipt added concurrently
+        for (final Bytes32 txHash : pendingReceipts.keySet()) {
+            final PendingReceipt pendingReceipt = pendingReceipts.remove(txHash);
+            if (pendingReceipt != null) {
+                pendingReceipt.getFuture().completeExceptionally(
+                        new TransactionException("Receipt tracker closed", txHash.toHexString()));
+            }
+        }
+    }
+}
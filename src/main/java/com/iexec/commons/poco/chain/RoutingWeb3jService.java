@@ -0,0 +1,379 @@
+/*
+ * Copyright 2026 IEXEC BLOCKCHAIN TECH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.iexec.commons.poco.chain;
+
+import io.reactivex.Flowable;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+import okhttp3.OkHttpClient;
+import org.web3j.protocol.Web3jService;
+import org.web3j.protocol.core.BatchRequest;
+import org.web3j.protocol.core.BatchResponse;
+import org.web3j.protocol.core.Request;
+import org.web3j.protocol.core.Response;
+import org.web3j.protocol.core.methods.response.EthBlockNumber;
+import org.web3j.protocol.exceptions.ClientConnectionException;
+import org.web3j.protocol.http.HttpService;
+import org.web3j.protocol.websocket.events.Notification;
+import org.web3j.utils.Async;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link Web3jService} spreading JSON-RPC requests over several blockchain nodes.
+ * <p>
+ * Each node gets a health score computed from its error rate, its p95 latency and how many blocks it lags
+ * behind the most advanced node. Reads are sent to the node with the best score. Transaction submission and
+ * nonce reads stick to a single node as long as it answers, so that a freshly sent transaction is seen by the
+ * node queried for the next nonce.
+ * <p>
+ * A node failing at transport level, including HTTP errors such as rate limiting, is put aside for a cooldown
+ * period and the request is sent again to the next node. JSON-RPC errors are returned to the caller as is.
+ * <p>
+ * All nodes are probed with {@code eth_blockNumber} once per probe interval to refresh their head and bring
+ * failed nodes back. Probing starts on first use and runs on a single daemon thread until {@link #close()}.
+ */
+@Slf4j
+public class RoutingWeb3jService implements Web3jService, AutoCloseable {
+
+    static final Set<String> STICKY_METHODS = Set.of("eth_sendRawTransaction", "eth_getTransactionCount");
+    private static final double ERROR_PENALTY_MILLIS = 1_000d;
+    private static final int MAX_COOLDOWN_FACTOR = 8;
+
+    private final List<Endpoint> endpoints;
+    private final Duration probeInterval;
+    private volatile Endpoint stickyEndpoint;
+    private volatile ScheduledExecutorService scheduler;
+
+    /**
+     * Creates a service over several blockchain nodes sharing a single HTTP client.
+     *
+     * @param urls          URLs of the blockchain nodes, the first one is preferred when scores are equal
+     * @param probeInterval Delay between two probes, usually the block time of the chain
+     */
+    public RoutingWeb3jService(final List<String> urls, final Duration probeInterval) {
+        if (urls == null || urls.isEmpty()) {
+            throw new IllegalArgumentException("At least one blockchain node URL is required");
+        }
+        final OkHttpClient httpClient = HttpService.getOkHttpClientBuilder().build();
+        this.endpoints = urls.stream()
+                .map(url -> new Endpoint(url, new HttpService(url, httpClient)))
+                .toList();
+        this.probeInterval = probeInterval;
+    }
+
+    /**
+     * Splits a comma separated list of blockchain node URLs.
+     *
+     * @param chainNodeAddress One URL or several comma separated URLs
+     * @return the list of trimmed URLs
+     */
+    public static List<String> parseUrls(final String chainNodeAddress) {
+        return Arrays.stream(chainNodeAddress.split(","))
+                .map(String::trim)
+                .filter(url -> !url.isEmpty())
+                .toList();
+    }
+
+    // region Web3jService
+
+    // raw Request and Response types are imposed by the Web3jService interface
+    @SuppressWarnings("rawtypes")
+    @Override
+    public <T extends Response> T send(final Request request, final Class<T> responseType) throws IOException {
+        start();
+        final boolean sticky = STICKY_METHODS.contains(request.getMethod());
+        Exception failure = null;
+        for (final Endpoint endpoint : candidates(sticky)) {
+            final long start = System.nanoTime();
+            try {
+                final T response = endpoint.service.send(request, responseType);
+                endpoint.onSuccess(System.nanoTime() - start);
+                if (response instanceof EthBlockNumber blockNumber && !blockNumber.hasError()) {
+                    endpoint.head = blockNumber.getBlockNumber().longValue();
+                }
+                if (sticky) {
+                    stick(endpoint);
+                }
+                return response;
+            } catch (IOException | ClientConnectionException e) {
+                failure = onFailure(endpoint, request.getMethod(), e, failure);
+            }
+        }
+        throw propagate(failure);
+    }
+
+    // raw Request and Response types are imposed by the Web3jService interface
+    @SuppressWarnings("rawtypes")
+    @Override
+    public <T extends Response> CompletableFuture<T> sendAsync(final Request request, final Class<T> responseType) {
+        return Async.run(() -> send(request, responseType));
+    }
+
+    @Override
+    public BatchResponse sendBatch(final BatchRequest batchRequest) throws IOException {
+        start();
+        Exception failure = null;
+        for (final Endpoint endpoint : candidates(false)) {
+            final long start = System.nanoTime();
+            try {
+                final BatchResponse response = endpoint.service.sendBatch(batchRequest);
+                endpoint.onSuccess(System.nanoTime() - start);
+                return response;
+            } catch (IOException | ClientConnectionException e) {
+                failure = onFailure(endpoint, "batch", e, failure);
+            }
+        }
+        throw propagate(failure);
+    }
+
+    @Override
+    public CompletableFuture<BatchResponse> sendBatchAsync(final BatchRequest batchRequest) {
+        return Async.run(() -> sendBatch(batchRequest));
+    }
+
+    // raw Request and Response types are imposed by the Web3jService interface
+    @SuppressWarnings("rawtypes")
+    @Override
+    public <T extends Notification<?>> Flowable<T> subscribe(final Request request, final String unsubscribeMethod, final Class<T> responseType) {
+        throw new UnsupportedOperationException(
+                String.format("Service %s does not support subscriptions", this.getClass().getSimpleName()));
+    }
+
+    /**
+     * Stops probing and releases the HTTP resources of all nodes.
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+        for (final Endpoint endpoint : endpoints) {
+            endpoint.service.close();
+        }
+    }
+
+    // endregion
+
+    // region health
+
+    /**
+     * Returns the health of all nodes, in configuration order.
+     *
+     * @return a snapshot of the health of each node
+     */
+    public List<EndpointHealth> getEndpointHealths() {
+        final long maxHead = maxHead();
+        final long now = System.nanoTime();
+        return endpoints.stream()
+                .map(endpoint -> new EndpointHealth(
+                        endpoint.url,
+                        endpoint.isAvailable(now),
+                        endpoint.errorRate,
+                        Duration.ofNanos(endpoint.p95LatencyNanos()),
+                        endpoint.headLag(maxHead),
+                        endpoint.score(maxHead, lagPenaltyMillis())))
+                .toList();
+    }
+
+    /**
+     * Queries {@code eth_blockNumber} on every node to refresh heads and bring failed nodes back.
+     */
+    void probe() {
+        for (final Endpoint endpoint : endpoints) {
+            final long start = System.nanoTime();
+            try {
+                final EthBlockNumber blockNumber = endpoint.service.send(
+                        new Request<>("eth_blockNumber", List.of(), endpoint.service, EthBlockNumber.class),
+                        EthBlockNumber.class);
+                endpoint.onSuccess(System.nanoTime() - start);
+                if (!blockNumber.hasError()) {
+                    endpoint.head = blockNumber.getBlockNumber().longValue();
+                }
+            } catch (Exception e) {
+                endpoint.onFailure(probeInterval);
+                log.debug("Blockchain node probe failed [url:{}]", endpoint.url, e);
+            }
+        }
+    }
+
+    /**
+     * Orders nodes for a request, available nodes first, then by score.
+     * <p>
+     * Unavailable nodes are kept at the end of the list so that a request is still attempted when all nodes failed.
+     */
+    private List<Endpoint> candidates(final boolean sticky) {
+        final long maxHead = maxHead();
+        final long now = System.nanoTime();
+        final double lagPenaltyMillis = lagPenaltyMillis();
+        final List<Endpoint> ordered = new ArrayList<>(endpoints);
+        ordered.sort(Comparator.comparing((Endpoint endpoint) -> !endpoint.isAvailable(now))
+                .thenComparingDouble(endpoint -> endpoint.score(maxHead, lagPenaltyMillis)));
+        final Endpoint current = stickyEndpoint;
+        if (sticky && current != null && current.isAvailable(now)) {
+            ordered.remove(current);
+            ordered.add(0, current);
+        }
+        return ordered;
+    }
+
+    private void stick(final Endpoint endpoint) {
+        if (stickyEndpoint != endpoint) {
+            log.info("Transactions now sent to blockchain node [url:{}, previous:{}]",
+                    endpoint.url, stickyEndpoint != null ? stickyEndpoint.url : null);
+            stickyEndpoint = endpoint;
+        }
+    }
+
+    private Exception onFailure(final Endpoint endpoint, final String method, final Exception e, final Exception previous) {
+        endpoint.onFailure(probeInterval);
+        log.warn("Blockchain node request failed, trying next node [url:{}, method:{}, consecutiveFailures:{}]",
+                endpoint.url, method, endpoint.consecutiveFailures, e);
+        if (previous != null) {
+            e.addSuppressed(previous);
+        }
+        return e;
+    }
+
+    /**
+     * Rethrows the failure of the last node, as {@link HttpService} would have thrown it with a single node.
+     */
+    private static IOException propagate(final Exception failure) {
+        if (failure instanceof RuntimeException runtimeException) {
+            throw runtimeException;
+        }
+        return (IOException) failure;
+    }
+
+    private long maxHead() {
+        long maxHead = 0L;
+        for (final Endpoint endpoint : endpoints) {
+            maxHead = Math.max(maxHead, endpoint.head);
+        }
+        return maxHead;
+    }
+
+    private double lagPenaltyMillis() {
+        return probeInterval.toMillis();
+    }
+
+    private void start() {
+        if (scheduler != null) {
+            return;
+        }
+        synchronized (this) {
+            if (scheduler == null) {
+                final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                    final Thread thread = new Thread(runnable, "rpc-endpoint-probe");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+                executor.scheduleWithFixedDelay(this::probe, probeInterval.toMillis(), probeInterval.toMillis(), TimeUnit.MILLISECONDS);
+                scheduler = executor;
+            }
+        }
+    }
+
+    // endregion
+
+    /**
+     * Health snapshot of a blockchain node.
+     * <p>
+     * The score is expressed in milliseconds, lower is better: p95 latency, plus one second at 100% error rate,
+     * plus one probe interval per block of lag.
+     */
+    @Value
+    public static class EndpointHealth {
+        String url;
+        boolean available;
+        double errorRate;
+        Duration p95Latency;
+        long headLag;
+        double score;
+    }
+
+    static class Endpoint {
+
+        private static final int LATENCY_WINDOW = 64;
+        private static final double ERROR_RATE_WEIGHT = 0.1d;
+
+        private final String url;
+        private final HttpService service;
+        private final long[] latencies = new long[LATENCY_WINDOW];
+        private int latencyCount;
+        private int latencyIndex;
+        private long p95LatencyNanos;
+        private volatile double errorRate;
+        private volatile int consecutiveFailures;
+        private volatile long unavailableUntil;
+        private volatile long head;
+
+        Endpoint(final String url, final HttpService service) {
+            this.url = url;
+            this.service = service;
+        }
+
+        synchronized void onSuccess(final long latencyNanos) {
+            latencies[latencyIndex] = latencyNanos;
+            latencyIndex = (latencyIndex + 1) % LATENCY_WINDOW;
+            latencyCount = Math.min(latencyCount + 1, LATENCY_WINDOW);
+            final long[] sorted = Arrays.copyOf(latencies, latencyCount);
+            Arrays.sort(sorted);
+            p95LatencyNanos = sorted[(int) Math.ceil(0.95d * latencyCount) - 1];
+            errorRate = errorRate * (1d - ERROR_RATE_WEIGHT);
+            consecutiveFailures = 0;
+            unavailableUntil = 0L;
+        }
+
+        /**
+         * Puts the node aside for a cooldown growing with the number of consecutive failures.
+         */
+        synchronized void onFailure(final Duration cooldown) {
+            errorRate = errorRate * (1d - ERROR_RATE_WEIGHT) + ERROR_RATE_WEIGHT;
+            consecutiveFailures++;
+            unavailableUntil = System.nanoTime() + cooldown.toNanos() * Math.min(consecutiveFailures, MAX_COOLDOWN_FACTOR);
+        }
+
+        boolean isAvailable(final long now) {
+            return consecutiveFailures == 0 || now - unavailableUntil >= 0L;
+        }
+
+        synchronized long p95LatencyNanos() {
+            return p95LatencyNanos;
+        }
+
+        long headLag(final long maxHead) {
+            return head == 0L ? 0L : maxHead - head;
+        }
+
+        double score(final long maxHead, final double lagPenaltyMillis) {
+            return p95LatencyNanos() / 1_000_000d
+                    + errorRate * ERROR_PENALTY_MILLIS
+                    + headLag(maxHead) * lagPenaltyMillis;
+        }
+    }
+}
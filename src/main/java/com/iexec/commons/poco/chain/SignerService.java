@@ -19,6 +19,7 @@ package com.iexec.commons.poco.chain;
 import com.iexec.commons.poco.eip712.EIP712Domain;
 import com.iexec.commons.poco.eip712.EIP712Entity;
 import com.iexec.commons.poco.eip712.EIP712TypedData;
+import com.iexec.commons.poco.metrics.Metrics;
 import com.iexec.commons.poco.order.Order;
 import com.iexec.commons.poco.security.Signature;
 import com.iexec.commons.poco.utils.BytesUtils;
@@ -49,16 +50,23 @@ import java.security.NoSuchProviderException;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
+import static com.iexec.commons.poco.chain.Web3jAbstractService.ETH_CALL;
 import static com.iexec.commons.poco.chain.Web3jAbstractService.GENERIC_EVM_ERROR_MESSAGE;
+import static com.iexec.commons.poco.chain.Web3jAbstractService.recordRpcCall;
 import static org.web3j.protocol.core.methods.request.Transaction.createEthCallTransaction;
 
 @Slf4j
 public class SignerService {
 
+    private static final String ETH_ESTIMATE_GAS = "eth_estimateGas";
+    private static final String ETH_SEND_RAW_TRANSACTION = "eth_sendRawTransaction";
+
     @Getter
     private final Credentials credentials;
     private final RawTransactionManager txManager;
     private final Web3j web3j;
+    @Getter
+    private final NonceManager nonceManager;
 
     public SignerService(Web3j web3j, long chainId) throws GeneralSecurityException {
         try {
@@ -72,6 +80,7 @@ public class SignerService {
         this.txManager = new RawTransactionManager(
                 web3j, credentials, chainId, 10, 1000L);
         this.web3j = web3j;
+        this.nonceManager = new NonceManager(web3j, credentials.getAddress());
     }
 
     public SignerService(Web3j web3j, long chainId, Credentials credentials) {
@@ -85,6 +94,7 @@ public class SignerService {
         this.txManager = new RawTransactionManager(
                 web3j, credentials, chainId, 10, 1000L);
         this.web3j = web3j;
+        this.nonceManager = new NonceManager(web3j, credentials.getAddress());
     }
 
     public SignerService(Web3j web3j, long chainId, String walletPassword, String walletPath) throws Exception {
@@ -98,6 +108,7 @@ public class SignerService {
         this.txManager = new RawTransactionManager(
                 web3j, credentials, chainId, 10, 1000L);
         this.web3j = web3j;
+        this.nonceManager = new NonceManager(web3j, credentials.getAddress());
     }
 
     public String getAddress() {
@@ -109,6 +120,7 @@ public class SignerService {
             return web3j.ethGetTransactionCount(credentials.getAddress(), DefaultBlockParameterName.PENDING)
                     .send().getTransactionCount();
         } catch (Exception e) {
+            log.error("ethGetTransactionCount call failed [address:{}]", credentials.getAddress(), e);
             return BigInteger.ZERO;
         }
     }
@@ -117,7 +129,13 @@ public class SignerService {
      * Signs messages with Ethereum prefix
      */
     public Signature signMessageHash(String messageHash) {
-        return SignatureUtils.signMessageHashAndGetSignature(messageHash, credentials.getEcKeyPair());
+        final SigningEvent event = new SigningEvent();
+        event.begin();
+        final long start = System.nanoTime();
+        final Signature signature = SignatureUtils.signMessageHashAndGetSignature(messageHash, credentials.getEcKeyPair());
+        event.report("message");
+        Metrics.getListener().onSigning("message", System.nanoTime() - start);
+        return signature;
     }
 
     /**
@@ -142,7 +160,13 @@ public class SignerService {
      * @see <a href="https://eips.ethereum.org/EIPS/eip-712">EIP-712</a>
      */
     public String signTypedDataForDomain(final EIP712TypedData typedData, final EIP712Domain domain) {
-        return typedData.sign(credentials.getEcKeyPair(), domain);
+        final SigningEvent event = new SigningEvent();
+        event.begin();
+        final long start = System.nanoTime();
+        final String signature = typedData.sign(credentials.getEcKeyPair(), domain);
+        event.report("eip712");
+        Metrics.getListener().onSigning("eip712", System.nanoTime() - start);
+        return signature;
     }
 
     public String signTypedDataForDomainAndBuildToken(final EIP712TypedData typedData, final EIP712Domain domain) {
@@ -207,8 +231,18 @@ public class SignerService {
     }
 
     public String sendCall(String to, String data, DefaultBlockParameter defaultBlockParameter) throws IOException {
-        final EthCall ethCall = web3j.ethCall(
-                createEthCallTransaction(credentials.getAddress(), to, data), defaultBlockParameter).send();
+        final ChainCallEvent event = new ChainCallEvent();
+        event.begin();
+        final long start = System.nanoTime();
+        final EthCall ethCall;
+        try {
+            ethCall = web3j.ethCall(
+                    createEthCallTransaction(credentials.getAddress(), to, data), defaultBlockParameter).send();
+        } catch (IOException | RuntimeException e) {
+            recordRpcCall(event, ETH_CALL, to, data, start, true);
+            throw e;
+        }
+        recordRpcCall(event, ETH_CALL, to, data, start, ethCall.hasError());
         if (ethCall.hasError()) {
             decodeAndThrowEvmRpcError(ethCall.getError(), "ethCall");
         }
@@ -226,8 +260,18 @@ public class SignerService {
      * @see <a href="https://ethereum.org/en/developers/docs/apis/json-rpc/#eth_estimategas">eth_estimateGas JSON RPC-API</a>
      */
     public BigInteger estimateGas(String to, String data) throws IOException {
-        final EthEstimateGas estimateGas = web3j.ethEstimateGas(
-                createEthCallTransaction(credentials.getAddress(), to, data)).send();
+        final ChainCallEvent event = new ChainCallEvent();
+        event.begin();
+        final long start = System.nanoTime();
+        final EthEstimateGas estimateGas;
+        try {
+            estimateGas = web3j.ethEstimateGas(
+                    createEthCallTransaction(credentials.getAddress(), to, data)).send();
+        } catch (IOException | RuntimeException e) {
+            recordRpcCall(event, ETH_ESTIMATE_GAS, to, data, start, true);
+            throw e;
+        }
+        recordRpcCall(event, ETH_ESTIMATE_GAS, to, data, start, estimateGas.hasError());
         if (estimateGas.hasError()) {
             decodeAndThrowEvmRpcError(estimateGas.getError(), "estimateGas");
         }
@@ -249,7 +293,18 @@ public class SignerService {
     public String signAndSendTransaction(BigInteger nonce, BigInteger gasPrice, BigInteger gasLimit, String to, String data) throws IOException {
         final RawTransaction rawTx = RawTransaction.createTransaction(
                 nonce, gasPrice, gasLimit, to, BigInteger.ZERO, data);
-        final EthSendTransaction transactionResponse = txManager.signAndSend(rawTx);
+        // the measured duration includes the local signature of the transaction
+        final ChainCallEvent event = new ChainCallEvent();
+        event.begin();
+        final long start = System.nanoTime();
+        final EthSendTransaction transactionResponse;
+        try {
+            transactionResponse = txManager.signAndSend(rawTx);
+        } catch (IOException | RuntimeException e) {
+            recordRpcCall(event, ETH_SEND_RAW_TRANSACTION, to, data, start, true);
+            throw e;
+        }
+        recordRpcCall(event, ETH_SEND_RAW_TRANSACTION, to, data, start, transactionResponse.hasError());
         if (transactionResponse.hasError()) {
             final Response.Error responseError = transactionResponse.getError();
             log.error("Transaction failed [message:{}, code:{}, data:{}]",
@@ -266,6 +321,38 @@ public class SignerService {
         return signAndSendTransaction(nonce, gasPrice, gasLimit, to, data);
     }
 
+    /**
+     * Sign and send a new transaction for signer on the blockchain network, the nonce is allocated by the {@link NonceManager}.
+     * <p>
+     * Several transactions can be submitted concurrently from the same wallet, each one gets a distinct nonce.
+     * When the submission fails, the nonce is reported to the {@link NonceManager} to keep the local nonce consistent.
+     *
+     * @param gasPrice price paid per gas unit consumed for the transaction
+     * @param gasLimit threshold limiting the gas quantity that can be spent on the transaction
+     * @param to       target ethereum address
+     * @param data     function selector with encoded arguments
+     * @return the submitted transaction hash
+     * @throws IOException if communication with the blockchain network failed
+     */
+    public String signAndSendTransactionWithManagedNonce(BigInteger gasPrice, BigInteger gasLimit, String to, String data) throws IOException {
+        final BigInteger nonce = nonceManager.allocate();
+        try {
+            return signAndSendTransaction(nonce, gasPrice, gasLimit, to, data);
+        } catch (JsonRpcError e) {
+            nonceManager.onSendFailure(nonce, e.getMessage());
+            throw e;
+        } catch (IOException e) {
+            // the transaction may have reached the node, the pending transaction count is the only reliable source
+            nonceManager.resync();
+            throw e;
+        }
+    }
+
+    public String signAndSendTransactionWithManagedNonce(BigInteger gasPrice, String to, String data) throws IOException {
+        final BigInteger gasLimit = estimateGas(to, data);
+        return signAndSendTransactionWithManagedNonce(gasPrice, gasLimit, to, data);
+    }
+
     /**
      * Verifies a transaction is found on-chain by its hash
      *
@@ -0,0 +1,45 @@
+/*
+ * Copyright 2026 IEXEC BLOCKCHAIN TECH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.iexec.commons.poco.chain;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight recorder event of a signature computed with the wallet credentials of a {@link SignerService}.
+ */
+@Name("com.iexec.commons.poco.Signing")
+@Label("Signing")
+@Category({"iExec", "PoCo"})
+@Description("Data signed with the wallet credentials")
+@StackTrace(false)
+class SigningEvent extends Event {
+
+    @Label("Operation")
+    String operation;
+
+    void report(final String operation) {
+        end();
+        if (shouldCommit()) {
+            this.operation = operation;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,164 @@
+/*
+ * Copyright 2026 IEXEC BLOCKCHAIN TECH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.iexec.commons.poco.chain;
+
+import lombok.extern.slf4j.Slf4j;
+import org.web3j.protocol.core.methods.response.TransactionReceipt;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static com.iexec.commons.poco.chain.IexecHubAbstractService.POLLING_ATTEMPTS_PER_TX_HASH;
+
+/**
+ * Submits transactions of a single wallet without waiting for them to be mined.
+ * <p>
+ * Transactions are signed with nonces allocated by the {@link NonceManager} of the {@link SignerService}
+ * and sent in submission order from a single thread. Receipts of all pending transactions are then fetched
+ * together once per block by a {@link ReceiptTracker}.
+ * <p>
+ * Once the pipeline is closed, transactions not sent yet and new submissions fail with an
+ * {@link IllegalStateException}. A transaction being sent when the pipeline is closed may already be known
+ * by the node, its sending is completed and its future fails with a {@code TransactionException} holding
+ * its hash, as its receipt is not tracked anymore.
+ */
+@Slf4j
+public class TransactionPipeline implements AutoCloseable {
+
+    // maximum time waited on close for a transaction being sent
+    private static final Duration CLOSE_TIMEOUT = Duration.ofSeconds(10);
+
+    private final SignerService signerService;
+    private final ReceiptTracker receiptTracker;
+    private final ExecutorService sender = Executors.newSingleThreadExecutor(runnable -> {
+        final Thread thread = new Thread(runnable, "tx-pipeline-sender");
+        thread.setDaemon(true);
+        return thread;
+    });
+    // submitted transactions not sent yet, failed on close
+    // the sender and close() both claim a transaction by removing it, only one of them handles it
+    private final Set<CompletableFuture<String>> queued = ConcurrentHashMap.newKeySet();
+    private volatile boolean closed;
+
+    public TransactionPipeline(final SignerService signerService, final Web3jAbstractService web3jAbstractService) {
+        this(signerService, web3jAbstractService, POLLING_ATTEMPTS_PER_TX_HASH);
+    }
+
+    /**
+     * Creates a pipeline for the wallet of a {@link SignerService}.
+     *
+     * @param signerService        Service signing and sending transactions
+     * @param web3jAbstractService Service used to follow the chain head and fetch receipts
+     * @param maxBlocksToWait      Number of blocks after which a transaction without receipt is considered lost
+     */
+    public TransactionPipeline(final SignerService signerService,
+                               final Web3jAbstractService web3jAbstractService,
+                               final int maxBlocksToWait) {
+        this.signerService = signerService;
+        this.receiptTracker = new ReceiptTracker(web3jAbstractService, maxBlocksToWait);
+    }
+
+    /**
+     * Queues a transaction for submission.
+     *
+     * @param gasPrice price paid per gas unit consumed for the transaction
+     * @param gasLimit threshold limiting the gas quantity that can be spent on the transaction
+     * @param to       target ethereum address
+     * @param data     function selector with encoded arguments
+     * @return A future completed with the receipt of the mined transaction, or completed exceptionally if the
+     * transaction could not be sent or was not mined in time
+     */
+    public CompletableFuture<TransactionReceipt> submit(final BigInteger gasPrice,
+                                                        final BigInteger gasLimit,
+                                                        final String to,
+                                                        final String data) {
+        if (closed) {
+            return CompletableFuture.failedFuture(new IllegalStateException("Transaction pipeline closed"));
+        }
+        final CompletableFuture<String> sent = new CompletableFuture<>();
+        queued.add(sent);
+        try {
+            sender.execute(() -> {
+                if (!queued.remove(sent)) {
+                    return;
+                }
+                try {
+                    sent.complete(send(gasPrice, gasLimit, to, data));
+                } catch (RuntimeException e) {
+                    sent.completeExceptionally(e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            // closed concurrently
+            if (queued.remove(sent)) {
+                sent.completeExceptionally(new IllegalStateException("Transaction pipeline closed", e));
+            }
+        }
+        return sent.thenCompose(receiptTracker::track);
+    }
+
+    /**
+     * Returns the number of sent transactions whose receipt is not known yet.
+     */
+    public int getPendingCount() {
+        return receiptTracker.getPendingCount();
+    }
+
+    private String send(final BigInteger gasPrice, final BigInteger gasLimit, final String to, final String data) {
+        try {
+            return signerService.signAndSendTransactionWithManagedNonce(gasPrice, gasLimit, to, data);
+        } catch (IOException e) {
+            log.warn("Transaction submission failed [to:{}]", to, e);
+            throw new CompletionException(e);
+        }
+    }
+
+    /**
+     * Fails transactions not sent yet, waits for the transaction being sent, if any, then stops tracking receipts.
+     * <p>
+     * The transaction being sent is interrupted if it is not sent within 10 seconds.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        for (final CompletableFuture<String> sent : queued) {
+            if (queued.remove(sent)) {
+                sent.completeExceptionally(new IllegalStateException("Transaction pipeline closed"));
+            }
+        }
+        sender.shutdown();
+        try {
+            if (!sender.awaitTermination(CLOSE_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS)) {
+                log.warn("Transaction still being sent on close, interrupting it [timeout:{}]", CLOSE_TIMEOUT);
+                sender.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            sender.shutdownNow();
+        }
+        receiptTracker.close();
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2020-2025 IEXEC BLOCKCHAIN TECH
+ * Copyright 2020-2026 IEXEC BLOCKCHAIN TECH
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,16 +16,23 @@
 
 package com.iexec.commons.poco.chain;
 
+import com.iexec.commons.poco.metrics.Metrics;
+import com.iexec.commons.poco.metrics.MetricsListener;
 import com.iexec.commons.poco.utils.BytesUtils;
-import com.iexec.commons.poco.utils.WaitUtils;
 import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 import org.web3j.protocol.Web3j;
+import org.web3j.protocol.Web3jService;
+import org.web3j.protocol.core.BatchRequest;
+import org.web3j.protocol.core.BatchResponse;
 import org.web3j.protocol.core.DefaultBlockParameter;
 import org.web3j.protocol.core.DefaultBlockParameterName;
+import org.web3j.protocol.core.Request;
 import org.web3j.protocol.core.Response;
 import org.web3j.protocol.core.methods.response.EthCall;
+import org.web3j.protocol.core.methods.response.EthGetTransactionReceipt;
 import org.web3j.protocol.core.methods.response.Transaction;
 import org.web3j.protocol.core.methods.response.TransactionReceipt;
 import org.web3j.protocol.exceptions.JsonRpcError;
@@ -40,6 +47,10 @@ import java.io.IOException;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Optional;
 import java.util.function.Predicate;
@@ -54,10 +65,19 @@ import static org.web3j.protocol.core.methods.request.Transaction.createEthCallT
 public abstract class Web3jAbstractService {
 
     public static final String GENERIC_EVM_ERROR_MESSAGE = "VM execution error.";
+    /**
+     * Maximum number of calls packed in a single JSON-RPC batch request, larger lists are split.
+     */
+    public static final int MAX_BATCH_SIZE = 100;
+    private static final int JSON_RPC_INTERNAL_ERROR = -32603;
+    static final String ETH_CALL = "eth_call";
+    static final String ETH_CALL_BATCH = "eth_call_batch";
+    private static final Pattern REVERT_PATTERN = Pattern.compile("^\"?Reverted (0x[0-9A-Fa-f]+)\"?$");
 
     @Getter
     private final int chainId;
     private final String chainNodeAddress;
+    private final Web3jService web3jService;
     @Getter
     private final Duration blockTime;
     private final float gasPriceMultiplier;
@@ -68,6 +88,8 @@ public abstract class Web3jAbstractService {
     private final Web3j web3j;
     @Getter
     private final ContractGasProvider contractGasProvider;
+    @Getter
+    private final BlockHeadTracker blockHeadTracker;
 
     /**
      * Apart from initializing usual business entities, it initializes a single
@@ -79,9 +101,12 @@ public abstract class Web3jAbstractService {
      * The usage of a single HttpService ensures the creation of a single
      * OkHttpClient which ensures a proper connection pool management
      * guaranteeing sockets are properly reused.
+     * <p>
+     * Several comma separated node addresses can be provided, requests are then routed between nodes
+     * by a {@link RoutingWeb3jService} with failover.
      *
      * @param chainId            ID of the blockchain network
-     * @param chainNodeAddress   address of the blockchain node
+     * @param chainNodeAddress   address of the blockchain node, or comma separated addresses of several nodes
      * @param blockTime          block time as a duration
      * @param gasPriceMultiplier gas price multiplier
      * @param gasPriceCap        gas price cap
@@ -105,8 +130,13 @@ public abstract class Web3jAbstractService {
         this.gasPriceMultiplier = gasPriceMultiplier;
         this.gasPriceCap = gasPriceCap;
         this.isSidechain = isSidechain;
-        this.web3j = Web3j.build(new HttpService(chainNodeAddress), this.blockTime.toMillis(), Async.defaultExecutorService());
+        final List<String> nodeAddresses = RoutingWeb3jService.parseUrls(chainNodeAddress);
+        this.web3jService = nodeAddresses.size() > 1
+                ? new RoutingWeb3jService(nodeAddresses, this.blockTime)
+                : new HttpService(chainNodeAddress);
+        this.web3j = Web3j.build(web3jService, this.blockTime.toMillis(), Async.defaultExecutorService());
         this.contractGasProvider = new DynamicGasProvider(web3j, PriorityGasProvider.Priority.CUSTOM, BigDecimal.valueOf(gasPriceMultiplier));
+        this.blockHeadTracker = new BlockHeadTracker(web3j, this.blockTime);
     }
 
     @PostConstruct
@@ -122,6 +152,33 @@ public abstract class Web3jAbstractService {
         return false;
     }
 
+    /**
+     * Releases background resources: stops the block head polling thread and, when several blockchain nodes
+     * are configured, the node health probe thread.
+     */
+    @PreDestroy
+    public void shutdown() {
+        blockHeadTracker.close();
+        if (web3jService instanceof RoutingWeb3jService routingService) {
+            try {
+                routingService.close();
+            } catch (IOException e) {
+                log.warn("Failed to close blockchain nodes routing [address:{}]", chainNodeAddress, e);
+            }
+        }
+    }
+
+    /**
+     * Returns the health of each blockchain node when several node addresses are configured.
+     *
+     * @return the health of each node, an empty list with a single node
+     */
+    public List<RoutingWeb3jService.EndpointHealth> getEndpointHealths() {
+        return web3jService instanceof RoutingWeb3jService routingService
+                ? routingService.getEndpointHealths()
+                : List.of();
+    }
+
     /**
      * @deprecated only used from deprecated method
      */
@@ -135,17 +192,16 @@ public abstract class Web3jAbstractService {
     /**
      * Gets the latest block number from the blockchain network.
      * <p>
+     * The value is read from the shared {@link BlockHeadTracker}, it can lag behind the chain for up to one block time.
      * All exceptions are caught in order to always provide a numerical result.
+     * <p>
+     * The first call starts a background thread polling {@code eth_blockNumber} once per block time,
+     * it runs until {@link #shutdown()} is called.
      *
      * @return the block number, {@literal 0L} otherwise.
      */
     public long getLatestBlockNumber() {
-        try {
-            return web3j.ethBlockNumber().send().getBlockNumber().longValue();
-        } catch (Exception e) {
-            log.error("ethBlockNumber call failed", e);
-        }
-        return 0L;
+        return blockHeadTracker.getHead();
     }
 
     /**
@@ -174,35 +230,46 @@ public abstract class Web3jAbstractService {
             return null;
         }
     }
+
+    /**
+     * Queries receipts of several transactions in a single JSON-RPC batch request.
+     * <p>
+     * Lists larger than {@link #MAX_BATCH_SIZE} are split in several batch requests.
+     *
+     * @param txHashes Hashes of the transactions
+     * @return Receipts of mined transactions by lower case transaction hash, pending or unknown transactions are absent
+     * @throws IOException in case of communication failure with the blockchain network.
+     */
+    public Map<String, TransactionReceipt> getTransactionReceipts(final List<String> txHashes) throws IOException {
+        final Map<String, TransactionReceipt> receipts = new HashMap<>();
+        for (int start = 0; start < txHashes.size(); start += MAX_BATCH_SIZE) {
+            final BatchRequest batchRequest = web3j.newBatch();
+            txHashes.subList(start, Math.min(start + MAX_BATCH_SIZE, txHashes.size()))
+                    .forEach(txHash -> batchRequest.add(web3j.ethGetTransactionReceipt(txHash)));
+            for (final Response<?> response : batchRequest.send().getResponses()) {
+                if (response.hasError()) {
+                    log.warn("ethGetTransactionReceipt failed in batch [id:{}, message:{}]",
+                            response.getId(), response.getError().getMessage());
+                } else {
+                    ((EthGetTransactionReceipt) response).getTransactionReceipt()
+                            .ifPresent(receipt -> receipts.put(receipt.getTransactionHash().toLowerCase(), receipt));
+                }
+            }
+        }
+        return receipts;
+    }
     // endregion
 
     // check if the blockNumber is already available for the scheduler
     // blockNumber is different than 0 only for status the require a check on the blockchain, so the scheduler should
     // already have this block, otherwise it should wait for a maximum of 10 blocks.
+    // as getLatestBlockNumber(), it starts the block head polling thread.
     public boolean isBlockAvailable(long blockNumber) {
-        // if the block number is already available then simply returns true
-        if (blockNumber <= getLatestBlockNumber()) {
+        if (blockHeadTracker.awaitBlock(blockNumber, blockTime.multipliedBy(10))) {
             return true;
         }
-
-        // otherwise we wait for a maximum of 10 blocks to see if the block will be available
-        try {
-            long maxBlockNumber = blockNumber + 10;
-            long currentBlockNumber = getLatestBlockNumber();
-            while (currentBlockNumber <= maxBlockNumber) {
-                if (blockNumber <= currentBlockNumber) {
-                    return true;
-                } else {
-                    log.warn("Chain is NOT synchronized yet [blockNumber:{}, currentBlockNumber:{}]", blockNumber, currentBlockNumber);
-                    Thread.sleep(500);
-                }
-                currentBlockNumber = getLatestBlockNumber();
-            }
-        } catch (InterruptedException e) {
-            log.error("Error when checking the latest block number", e);
-            Thread.currentThread().interrupt();
-        }
-
+        log.warn("Chain is NOT synchronized yet [blockNumber:{}, currentBlockNumber:{}]",
+                blockNumber, blockHeadTracker.getHead());
         return false;
     }
 
@@ -226,8 +293,18 @@ public abstract class Web3jAbstractService {
     }
 
     public String sendCall(final String from, final String to, final String data, final DefaultBlockParameter defaultBlockParameter) throws IOException {
-        final EthCall ethCall = web3j.ethCall(
-                createEthCallTransaction(from, to, data), defaultBlockParameter).send();
+        final ChainCallEvent event = new ChainCallEvent();
+        event.begin();
+        final long start = System.nanoTime();
+        final EthCall ethCall;
+        try {
+            ethCall = web3j.ethCall(
+                    createEthCallTransaction(from, to, data), defaultBlockParameter).send();
+        } catch (IOException | RuntimeException e) {
+            recordRpcCall(event, ETH_CALL, to, data, start, true);
+            throw e;
+        }
+        recordRpcCall(event, ETH_CALL, to, data, start, ethCall.hasError());
         if (ethCall.hasError()) {
             decodeAndThrowEvmRpcError(ethCall.getError());
         }
@@ -235,14 +312,98 @@ public abstract class Web3jAbstractService {
         return ethCall.getValue();
     }
 
+    /**
+     * Sends several {@code eth_call} in a single JSON-RPC batch request.
+     * <p>
+     * Calls are independent from each other, a failing call does not prevent other calls from succeeding.
+     * The returned list follows the order of the provided requests. Each {@link CallResult} holds either
+     * the returned value or a {@code JsonRpcError} decoded the same way as in {@link #sendCall(String, String, String)}.
+     * <p>
+     * Lists larger than {@link #MAX_BATCH_SIZE} are split in several batch requests.
+     *
+     * @param callRequests Calls to send
+     * @return The result of each call, in the same order as requests
+     * @throws IOException in case of communication failure with the blockchain network.
+     * @see <a href="https://www.jsonrpc.org/specification#batch">JSON-RPC batch specification</a>
+     */
+    public List<CallResult> sendCallBatch(final List<CallRequest> callRequests) throws IOException {
+        return sendCallBatch(callRequests, DefaultBlockParameterName.LATEST);
+    }
+
+    public List<CallResult> sendCallBatch(final List<CallRequest> callRequests,
+                                          final DefaultBlockParameter defaultBlockParameter) throws IOException {
+        final List<CallResult> results = new ArrayList<>(callRequests.size());
+        for (int start = 0; start < callRequests.size(); start += MAX_BATCH_SIZE) {
+            final int end = Math.min(start + MAX_BATCH_SIZE, callRequests.size());
+            results.addAll(sendCallBatchChunk(callRequests.subList(start, end), defaultBlockParameter));
+        }
+        return results;
+    }
+
+    private List<CallResult> sendCallBatchChunk(final List<CallRequest> callRequests,
+                                                final DefaultBlockParameter defaultBlockParameter) throws IOException {
+        final BatchRequest batchRequest = web3j.newBatch();
+        for (final CallRequest callRequest : callRequests) {
+            batchRequest.add(web3j.ethCall(createEthCallTransaction(
+                    callRequest.getFrom(), callRequest.getTo(), callRequest.getData()), defaultBlockParameter));
+        }
+        final ChainCallEvent event = new ChainCallEvent();
+        event.begin();
+        final long start = System.nanoTime();
+        final BatchResponse batchResponse;
+        try {
+            batchResponse = batchRequest.send();
+        } catch (IOException | RuntimeException e) {
+            recordRpcCall(event, ETH_CALL_BATCH, null, null, start, true);
+            throw e;
+        }
+        recordRpcCall(event, ETH_CALL_BATCH, null, null, start, false);
+        // JSON-RPC servers may answer batch requests in any order, responses are matched by ID
+        final Map<Long, Response<?>> responsesById = new HashMap<>();
+        for (final Response<?> response : batchResponse.getResponses()) {
+            responsesById.put(response.getId(), response);
+        }
+        final List<CallResult> results = new ArrayList<>(callRequests.size());
+        for (final Request<?, ?> request : batchRequest.getRequests()) {
+            final Response<?> response = responsesById.get(request.getId());
+            if (response == null) {
+                log.error("ethCall response missing in batch [id:{}]", request.getId());
+                results.add(CallResult.failure(new JsonRpcError(JSON_RPC_INTERNAL_ERROR, "Missing response in batch", null)));
+            } else if (response.hasError()) {
+                results.add(CallResult.failure(decodeEvmRpcError(response.getError())));
+            } else {
+                log.trace("ethCall [id:{}, value:{}]", response.getId(), response.getResult());
+                results.add(CallResult.success((String) response.getResult()));
+            }
+        }
+        return results;
+    }
+
+    /**
+     * Reports a JSON-RPC request to the flight recorder and to the metrics listener.
+     * <p>
+     * The selector is only extracted if the event is recorded or a listener is registered.
+     */
+    static void recordRpcCall(final ChainCallEvent event, final String method, final String target,
+                              final String data, final long start, final boolean failed) {
+        event.report(method, target, data, failed);
+        final MetricsListener metrics = Metrics.getListener();
+        if (metrics != MetricsListener.NOOP) {
+            metrics.onRpcCall(method, Metrics.selector(data), System.nanoTime() - start, failed);
+        }
+    }
+
     private void decodeAndThrowEvmRpcError(final Response.Error error) {
+        throw decodeEvmRpcError(error);
+    }
+
+    private JsonRpcError decodeEvmRpcError(final Response.Error error) {
         log.error("ethCall failed [message:{}, code:{}, data:{}]",
                 error.getMessage(), error.getCode(), error.getData());
         final String revertMessage = GENERIC_EVM_ERROR_MESSAGE.equals(error.getMessage()) ? error.getData() : error.getMessage();
-        final Pattern p = Pattern.compile("^\"?Reverted (0x[0-9A-Fa-f]+)\"?$");
-        final Matcher m = p.matcher(revertMessage);
+        final Matcher m = REVERT_PATTERN.matcher(revertMessage);
         final String message = m.matches() ? BytesUtils.hexStringToAscii(m.group(1)) : revertMessage;
-        throw new JsonRpcError(error.getCode(), message, null);
+        return new JsonRpcError(error.getCode(), message, null);
     }
 
     public boolean hasEnoughGas(String address) {
@@ -359,7 +520,8 @@ public abstract class Web3jAbstractService {
                 return true;
             }
             i++;
-            WaitUtils.sleepMs(msToWait);
+            // wake up as soon as the expected blocks are seen, msToWait is only an upper bound
+            blockHeadTracker.awaitBlock(blockHeadTracker.getHead() + nbBlocksToWaitPerTry, Duration.ofMillis(msToWait));
         }
 
         log.error("Still wrong check [function:{}, args:{}, maxTry:{}, msToWait:{}, msPerBlock:{}]",
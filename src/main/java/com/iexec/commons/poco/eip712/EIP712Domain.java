@@ -1,5 +1,5 @@
 /*
- * Copyright 2020-2023 IEXEC BLOCKCHAIN TECH
+ * Copyright 2020-2026 IEXEC BLOCKCHAIN TECH
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,8 +16,10 @@
 
 package com.iexec.commons.poco.eip712;
 
+import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
 import com.iexec.commons.poco.utils.HashUtils;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
@@ -26,7 +28,6 @@ import org.apache.commons.lang3.StringUtils;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
-import java.util.stream.Collectors;
 
 /**
  * Represents the {@code EIP712Domain} part of an EIP-712 compliant data structure.
@@ -37,12 +38,17 @@ import java.util.stream.Collectors;
  * <li> represent the domain structure as string like {@code EIP712Domain(string name,string version,unit256 chainId)}
  * <li> compute the {@code domainSeparator}, the hash of the concatenation of the domain structure hash and the hash of field values
  * </ul>
+ * Instances are immutable, the {@code domainSeparator} is computed once on creation.
  */
 @Slf4j
 @Getter
 public class EIP712Domain {
 
     public static final String primaryType = "EIP712Domain";
+    private static final String DOMAIN_TYPE = primaryType + "(string name,string version,uint256 chainId)";
+    private static final String DOMAIN_TYPE_WITH_CONTRACT = primaryType + "(string name,string version,uint256 chainId,address verifyingContract)";
+    private static final String DOMAIN_TYPE_HASH = EIP712Utils.encodeData(DOMAIN_TYPE);
+    private static final String DOMAIN_TYPE_WITH_CONTRACT_HASH = EIP712Utils.encodeData(DOMAIN_TYPE_WITH_CONTRACT);
 
     private final String name;
     private final String version;
@@ -51,6 +57,9 @@ public class EIP712Domain {
     @JsonInclude(value = JsonInclude.Include.NON_NULL)
     private final String verifyingContract;
 
+    @JsonIgnore
+    private final String domainSeparator;
+
     public EIP712Domain() {
         this("", "", 0L, null);
     }
@@ -59,11 +68,16 @@ public class EIP712Domain {
         this("iExecODB", "5.0.0", chainId, verifyingContract);
     }
 
-    public EIP712Domain(String name, String version, long chainId, String verifyingContract) {
+    @JsonCreator
+    public EIP712Domain(@JsonProperty("name") String name,
+                        @JsonProperty("version") String version,
+                        @JsonProperty("chainId") long chainId,
+                        @JsonProperty("verifyingContract") String verifyingContract) {
         this.name = name;
         this.version = version;
         this.chainId = chainId;
         this.verifyingContract = verifyingContract;
+        this.domainSeparator = computeDomainSeparator(name, version, chainId, verifyingContract);
     }
 
     @JsonIgnore
@@ -88,9 +102,7 @@ public class EIP712Domain {
      */
     @JsonIgnore
     public String getDomainType() {
-        return primaryType + "(" +
-                getTypes().stream().map(TypeParam::toDescription)
-                        .collect(Collectors.joining(",")) + ")";
+        return domainType(verifyingContract);
     }
 
     /**
@@ -98,17 +110,25 @@ public class EIP712Domain {
      * <p>
      * It concatenates the hash of {@link #getDomainType()} and the hash of each field value for the current instance.
      * The result of this concatenation is then hashed.
-     * @return The computed hash.
+     * @return The hash computed on instance creation.
      */
     @JsonIgnore
     public String getDomainSeparator() {
-        String domainType = getDomainType();
-        log.debug("{}", domainType);
+        return domainSeparator;
+    }
+
+    private static String domainType(String verifyingContract) {
+        return StringUtils.isNotEmpty(verifyingContract) ? DOMAIN_TYPE_WITH_CONTRACT : DOMAIN_TYPE;
+    }
+
+    // static to only depend on constructor arguments, overridable getters are not called during construction
+    private static String computeDomainSeparator(String name, String version, long chainId, String verifyingContract) {
+        log.debug("{}", domainType(verifyingContract));
         log.debug("name {}, version {}, chainId {}, verifyingContract {}", name, version, chainId, verifyingContract);
 
-        if (StringUtils.isNotEmpty(this.verifyingContract)) {
+        if (StringUtils.isNotEmpty(verifyingContract)) {
             return HashUtils.concatenateAndHash(
-                    EIP712Utils.encodeData(domainType),
+                    DOMAIN_TYPE_WITH_CONTRACT_HASH,
                     EIP712Utils.encodeData(name),
                     EIP712Utils.encodeData(version),
                     EIP712Utils.encodeData(chainId),
@@ -116,7 +136,7 @@ public class EIP712Domain {
         }
 
         return HashUtils.concatenateAndHash(
-                EIP712Utils.encodeData(domainType),
+                DOMAIN_TYPE_HASH,
                 EIP712Utils.encodeData(name),
                 EIP712Utils.encodeData(version),
                 EIP712Utils.encodeData(chainId));
@@ -0,0 +1,49 @@
+/*
+ * Copyright 2026 IEXEC BLOCKCHAIN TECH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.iexec.commons.poco.eip712;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight recorder event of the EIP-712 hash computation of typed data.
+ */
+@Name("com.iexec.commons.poco.EIP712Hash")
+@Label("EIP-712 Hash")
+@Category({"iExec", "PoCo"})
+@Description("EIP-712 hash of typed data for a domain")
+@StackTrace(false)
+class EIP712HashEvent extends Event {
+
+    @Label("Type")
+    String type;
+
+    @Label("Chain ID")
+    long chainId;
+
+    void report(final EIP712TypedData typedData, final EIP712Domain domain) {
+        end();
+        if (shouldCommit()) {
+            this.type = typedData.getClass().getSimpleName();
+            this.chainId = domain.getChainId();
+            commit();
+        }
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2025 IEXEC BLOCKCHAIN TECH
+ * Copyright 2025-2026 IEXEC BLOCKCHAIN TECH
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -26,6 +26,8 @@ public interface EIP712TypedData {
     Logger log = LoggerFactory.getLogger(EIP712TypedData.class);
 
     default String computeHash(final EIP712Domain domain) {
+        final EIP712HashEvent event = new EIP712HashEvent();
+        event.begin();
         final String domainSeparator = domain.getDomainSeparator();
         final String messageHash = computeMessageHash();
         final String hash = HashUtils.concatenateAndHash("0x1901", domainSeparator, messageHash);
@@ -34,6 +36,7 @@ public interface EIP712TypedData {
             log.debug("messageHash {}", messageHash);
             log.debug("hash {}", hash);
         }
+        event.report(this, domain);
         return hash;
     }
 
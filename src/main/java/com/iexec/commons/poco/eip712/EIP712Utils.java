@@ -1,5 +1,5 @@
 /*
- * Copyright 2020-2023 IEXEC BLOCKCHAIN TECH
+ * Copyright 2020-2026 IEXEC BLOCKCHAIN TECH
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -17,16 +17,22 @@
 package com.iexec.commons.poco.eip712;
 
 import com.iexec.commons.poco.utils.BytesUtils;
-import org.web3j.crypto.Hash;
+import com.iexec.commons.poco.utils.HexDigits;
+import com.iexec.commons.poco.utils.KeccakHasher;
 import org.web3j.utils.Numeric;
 
 import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 
 /**
  * See https://medium.com/metamask/eip712-is-coming-what-to-expect-and-how-to-use-it-bb92fd1a7a26
  */
 public class EIP712Utils {
 
+    public static final int WORD_SIZE = 32;
+    private static final int ADDRESS_SIZE = 20;
+
     private EIP712Utils() {
         throw new UnsupportedOperationException();
     }
@@ -49,7 +55,7 @@ public class EIP712Utils {
     }
 
     static String encodeUTF8String(String string) {
-        return Hash.sha3String(string);
+        return Numeric.toHexString(KeccakHasher.keccak256(string.getBytes(StandardCharsets.UTF_8)));
     }
 
     static String encodeHexString(String hexString) {
@@ -77,4 +83,102 @@ public class EIP712Utils {
         return Numeric.toHexString(byteArray);
     }
 
+    // region typed encoders
+
+    /**
+     * Writes an {@code address} value as a 32 bytes word.
+     *
+     * @param address Hexadecimal address, with or without prefix
+     * @param buffer  Buffer receiving the word
+     * @param offset  Position of the word in the buffer
+     * @return the position following the word
+     * @throws NumberFormatException if the value is not hexadecimal or larger than 20 bytes
+     */
+    public static int encodeAddress(String address, byte[] buffer, int offset) {
+        return writeHex(address, ADDRESS_SIZE, buffer, offset);
+    }
+
+    /**
+     * Writes a {@code bytes32} value as a 32 bytes word.
+     *
+     * @param bytes32 Hexadecimal value, with or without prefix, a shorter value is left-padded
+     * @param buffer  Buffer receiving the word
+     * @param offset  Position of the word in the buffer
+     * @return the position following the word
+     * @throws NumberFormatException if the value is not hexadecimal or larger than 32 bytes
+     */
+    public static int encodeBytes32(String bytes32, byte[] buffer, int offset) {
+        return writeHex(bytes32, WORD_SIZE, buffer, offset);
+    }
+
+    /**
+     * Writes a {@code uint256} value as a 32 bytes word.
+     *
+     * @param value  Value to write
+     * @param buffer Buffer receiving the word
+     * @param offset Position of the word in the buffer
+     * @return the position following the word
+     * @throws IllegalArgumentException if the value is negative or larger than 256 bits
+     */
+    public static int encodeUint256(BigInteger value, byte[] buffer, int offset) {
+        if (value.signum() < 0 || value.bitLength() > 8 * WORD_SIZE) {
+            throw new IllegalArgumentException("Value " + value + " is not an uint256");
+        }
+        if (value.bitLength() < Long.SIZE) {
+            return encodeUint256(value.longValue(), buffer, offset);
+        }
+        final byte[] bytes = value.toByteArray();
+        // toByteArray adds a sign byte when the highest bit is set
+        final int length = Math.min(bytes.length, WORD_SIZE);
+        Arrays.fill(buffer, offset, offset + WORD_SIZE - length, (byte) 0);
+        System.arraycopy(bytes, bytes.length - length, buffer, offset + WORD_SIZE - length, length);
+        return offset + WORD_SIZE;
+    }
+
+    /**
+     * Writes a non-negative {@code uint256} value as a 32 bytes word.
+     *
+     * @throws IllegalArgumentException if the value is negative
+     * @see #encodeUint256(BigInteger, byte[], int)
+     */
+    public static int encodeUint256(long value, byte[] buffer, int offset) {
+        if (value < 0) {
+            throw new IllegalArgumentException("Value " + value + " is not an uint256");
+        }
+        Arrays.fill(buffer, offset, offset + WORD_SIZE - Long.BYTES, (byte) 0);
+        for (int i = offset + WORD_SIZE - 1; i >= offset + WORD_SIZE - Long.BYTES; i--) {
+            buffer[i] = (byte) value;
+            value >>>= 8;
+        }
+        return offset + WORD_SIZE;
+    }
+
+    /**
+     * Writes the hash of a {@code string} value as a 32 bytes word.
+     *
+     * @param string Value to hash
+     * @param buffer Buffer receiving the word
+     * @param offset Position of the word in the buffer
+     * @return the position following the word
+     */
+    public static int encodeString(String string, byte[] buffer, int offset) {
+        KeccakHasher.current().update(string.getBytes(StandardCharsets.UTF_8)).digest(buffer, offset);
+        return offset + WORD_SIZE;
+    }
+
+    /**
+     * Writes hexadecimal digits right-aligned in a 32 bytes word.
+     */
+    private static int writeHex(String hexString, int maxSize, byte[] buffer, int offset) {
+        final int start = Numeric.containsHexPrefix(hexString) ? 2 : 0;
+        if (start == hexString.length()) {
+            throw new NumberFormatException("Zero length value");
+        }
+        final int valueOffset = offset + WORD_SIZE - maxSize;
+        Arrays.fill(buffer, offset, valueOffset, (byte) 0);
+        HexDigits.decode(hexString, start, buffer, valueOffset, maxSize);
+        return offset + WORD_SIZE;
+    }
+    // endregion
+
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright 2022-2025 IEXEC BLOCKCHAIN TECH
+ * Copyright 2022-2026 IEXEC BLOCKCHAIN TECH
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -20,12 +20,11 @@ import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import com.fasterxml.jackson.databind.annotation.JsonPOJOBuilder;
 import com.iexec.commons.poco.eip712.EIP712TypedData;
 import com.iexec.commons.poco.eip712.EIP712Utils;
-import com.iexec.commons.poco.utils.HashUtils;
+import com.iexec.commons.poco.utils.KeccakHasher;
 import lombok.Builder;
 import lombok.Value;
 import lombok.extern.slf4j.Slf4j;
-
-import java.util.stream.Stream;
+import org.web3j.utils.Numeric;
 
 /**
  * Represents the Challenge type in an EIP-712 compliant challenge.
@@ -36,20 +35,21 @@ import java.util.stream.Stream;
 @JsonDeserialize(builder = Challenge.ChallengeBuilder.class)
 public class Challenge implements EIP712TypedData {
     private static final String EIP712_TYPE = "Challenge(string challenge)";
+    private static final String EIP712_TYPE_HASH = EIP712Utils.encodeData(EIP712_TYPE);
 
     String challenge;
 
     public String computeMessageHash() {
-        final String[] encodedValues = Stream.of(EIP712_TYPE, challenge)
-                .map(EIP712Utils::encodeData)
-                .toArray(String[]::new);
+        final byte[] message = new byte[2 * EIP712Utils.WORD_SIZE];
+        int offset = EIP712Utils.encodeBytes32(EIP712_TYPE_HASH, message, 0);
+        EIP712Utils.encodeString(challenge, message, offset);
         if (log.isDebugEnabled()) {
             log.debug("{}", EIP712_TYPE);
-            for (String value : encodedValues) {
-                log.debug("{}", value);
+            for (int i = 0; i < message.length; i += EIP712Utils.WORD_SIZE) {
+                log.debug("{}", Numeric.toHexString(message, i, EIP712Utils.WORD_SIZE, true));
             }
         }
-        return HashUtils.concatenateAndHash(encodedValues);
+        return Numeric.toHexString(KeccakHasher.keccak256(message));
     }
 
     @JsonPOJOBuilder(withPrefix = "")
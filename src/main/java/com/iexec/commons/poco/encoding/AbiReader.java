@@ -0,0 +1,211 @@
+/*
+ * Copyright 2026 IEXEC BLOCKCHAIN TECH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.iexec.commons.poco.encoding;
+
+import com.iexec.commons.poco.utils.HexDigits;
+import org.web3j.utils.Numeric;
+
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Reads ABI encoded values from the raw result of an {@code eth_call}.
+ * <p>
+ * Values are decoded directly from the hexadecimal string, the data is neither split nor copied.
+ * Static values are read at the cursor position which then moves to the next word.
+ * Dynamic values are read at a byte offset, usually computed from the start of the enclosing tuple
+ * and the offset word stored in the tuple head:
+ * <pre>
+ * final AbiReader reader = new AbiReader(rawData);
+ * final int tuple = reader.readOffset();
+ * reader.seek(tuple);
+ * final String owner = reader.readAddress();
+ * final String name = reader.readDynamicString(tuple + reader.readOffset());
+ * </pre>
+ */
+public class AbiReader {
+
+    private static final int WORD_SIZE = 32;
+    private static final int WORD_DIGITS = 2 * WORD_SIZE;
+
+    private final String rawData;
+    private final int start;
+    private final int size;
+    private int position;
+
+    /**
+     * Creates a reader with its cursor on the first word.
+     *
+     * @param rawData Hexadecimal string, with or without prefix
+     */
+    public AbiReader(final String rawData) {
+        this.rawData = rawData;
+        this.start = Numeric.containsHexPrefix(rawData) ? 2 : 0;
+        this.size = (rawData.length() - start) / 2;
+    }
+
+    /**
+     * Returns the number of complete words in the data.
+     */
+    public int wordCount() {
+        return size / WORD_SIZE;
+    }
+
+    /**
+     * Returns the byte offset of the cursor.
+     */
+    public int position() {
+        return position;
+    }
+
+    /**
+     * Moves the cursor to a byte offset.
+     */
+    public AbiReader seek(final int byteOffset) {
+        position = byteOffset;
+        return this;
+    }
+
+    /**
+     * Moves the cursor past several words.
+     */
+    public AbiReader skip(final int words) {
+        position += words * WORD_SIZE;
+        return this;
+    }
+
+    // region static values
+
+    /**
+     * Reads a {@code uint} word, only its lowest 64 bits are kept.
+     */
+    public long readUint() {
+        final long value = uintAt(position);
+        position += WORD_SIZE;
+        return value;
+    }
+
+    /**
+     * Reads a {@code uint256} word.
+     */
+    public BigInteger readBigInteger() {
+        final int from = digitIndex(position);
+        position += WORD_SIZE;
+        return new BigInteger(rawData.substring(from, from + WORD_DIGITS), 16);
+    }
+
+    /**
+     * Reads an offset word pointing to a dynamic value.
+     *
+     * @return the offset in bytes
+     */
+    public int readOffset() {
+        return Math.toIntExact(readUint());
+    }
+
+    /**
+     * Reads an {@code address} word.
+     *
+     * @return the address as a lower case {@code 0x} prefixed hexadecimal string
+     */
+    public String readAddress() {
+        final int from = digitIndex(position) + WORD_DIGITS - 40;
+        position += WORD_SIZE;
+        return "0x" + rawData.substring(from, from + 40).toLowerCase();
+    }
+
+    /**
+     * Reads a {@code bytes32} word.
+     *
+     * @return the value as a {@code 0x} prefixed hexadecimal string
+     */
+    public String readBytes32() {
+        final int from = digitIndex(position);
+        position += WORD_SIZE;
+        return "0x" + rawData.substring(from, from + WORD_DIGITS);
+    }
+    // endregion
+
+    // region dynamic values
+
+    /**
+     * Reads a {@code bytes} value.
+     *
+     * @param byteOffset Offset in bytes of the length word of the value
+     * @return the value
+     */
+    public byte[] readDynamicBytes(final int byteOffset) {
+        final int length = dynamicLength(byteOffset);
+        final int from = start + 2 * (byteOffset + WORD_SIZE);
+        final byte[] value = new byte[length];
+        for (int i = 0; i < length; i++) {
+            value[i] = (byte) (digit(from + 2 * i) << 4 | digit(from + 2 * i + 1));
+        }
+        return value;
+    }
+
+    /**
+     * Reads a {@code bytes} value as a hexadecimal string.
+     *
+     * @param byteOffset Offset in bytes of the length word of the value
+     * @return the value as a {@code 0x} prefixed hexadecimal string
+     */
+    public String readDynamicHexString(final int byteOffset) {
+        final int length = dynamicLength(byteOffset);
+        final int from = start + 2 * (byteOffset + WORD_SIZE);
+        return "0x" + rawData.substring(from, from + 2 * length);
+    }
+
+    /**
+     * Reads a {@code string} value.
+     *
+     * @param byteOffset Offset in bytes of the length word of the value
+     * @return the UTF-8 decoded value
+     */
+    public String readDynamicString(final int byteOffset) {
+        return new String(readDynamicBytes(byteOffset), StandardCharsets.UTF_8);
+    }
+    // endregion
+
+    private int dynamicLength(final int byteOffset) {
+        final int length = Math.toIntExact(uintAt(byteOffset));
+        if (byteOffset + WORD_SIZE + length > size) {
+            throw new IndexOutOfBoundsException("Dynamic value out of data [offset:" + byteOffset + ", length:" + length + "]");
+        }
+        return length;
+    }
+
+    private long uintAt(final int byteOffset) {
+        final int from = digitIndex(byteOffset);
+        long value = 0;
+        for (int i = from + WORD_DIGITS - 16; i < from + WORD_DIGITS; i++) {
+            value = value << 4 | digit(i);
+        }
+        return value;
+    }
+
+    private int digitIndex(final int byteOffset) {
+        if (byteOffset < 0 || byteOffset + WORD_SIZE > size) {
+            throw new IndexOutOfBoundsException("Word out of data [offset:" + byteOffset + ", size:" + size + "]");
+        }
+        return start + 2 * byteOffset;
+    }
+
+    private int digit(final int index) {
+        return HexDigits.digit(rawData, index);
+    }
+}
@@ -0,0 +1,150 @@
+/*
+ * Copyright 2026 IEXEC BLOCKCHAIN TECH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.iexec.commons.poco.encoding;
+
+import com.iexec.commons.poco.utils.HexDigits;
+import org.web3j.utils.Numeric;
+
+/**
+ * Writes ABI encoded call data into a pre-sized byte array.
+ * <p>
+ * Words are written in place, the hexadecimal representation is only built once by {@link #toHexString()}.
+ * The caller computes the exact payload size beforehand with {@link #WORD_SIZE} and {@link #dynamicBytesSize(int)}.
+ */
+class AbiWriter {
+
+    static final int WORD_SIZE = 32;
+    private static final int SELECTOR_SIZE = 4;
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+    private final byte[] buffer;
+    private int position;
+
+    /**
+     * Creates a writer and writes the function selector.
+     *
+     * @param selector Hexadecimal function selector, with or without prefix
+     * @param size     Size in bytes of the encoded arguments, selector excluded
+     */
+    AbiWriter(final String selector, final int size) {
+        this.buffer = new byte[SELECTOR_SIZE + size];
+        writeHex(selector, digitsStart(selector), SELECTOR_SIZE);
+    }
+
+    /**
+     * Returns the size of a {@code bytes} value in the tail of the payload: its length word and its content
+     * right-padded to a multiple of 32 bytes.
+     */
+    static int dynamicBytesSize(final int length) {
+        return WORD_SIZE + (length + WORD_SIZE - 1) / WORD_SIZE * WORD_SIZE;
+    }
+
+    /**
+     * Returns the number of bytes represented by a hexadecimal string, an odd number of digits is left-padded.
+     */
+    static int hexByteLength(final String hexString) {
+        return (hexString.length() - digitsStart(hexString) + 1) / 2;
+    }
+
+    /**
+     * Writes a static value given as a hexadecimal string, left-padded to a full word.
+     * <p>
+     * This applies to {@code bytes32}, {@code address} and {@code uint256} values.
+     */
+    AbiWriter writeWord(final String hexString) {
+        int start = digitsStart(hexString);
+        if (start == hexString.length()) {
+            throw new NumberFormatException("Zero length value");
+        }
+        // leading zeros are not significant
+        while (start < hexString.length() - 1 && hexString.charAt(start) == '0') {
+            start++;
+        }
+        if (hexString.length() - start > 2 * WORD_SIZE) {
+            throw new UnsupportedOperationException("Value " + hexString + " is larger than 32 bytes");
+        }
+        writeHex(hexString, start, WORD_SIZE);
+        return this;
+    }
+
+    /**
+     * Writes a {@code uint256} value.
+     */
+    AbiWriter writeUint(final long value) {
+        position += WORD_SIZE;
+        long remaining = value;
+        for (int i = position - 1; remaining != 0; i--) {
+            buffer[i] = (byte) remaining;
+            remaining >>>= 8;
+        }
+        return this;
+    }
+
+    /**
+     * Writes a {@code bytes} value with its length word and right padding.
+     */
+    AbiWriter writeBytes(final byte[] value) {
+        writeUint(value.length);
+        System.arraycopy(value, 0, buffer, position, value.length);
+        position += dynamicBytesSize(value.length) - WORD_SIZE;
+        return this;
+    }
+
+    /**
+     * Writes a {@code bytes} value given as a hexadecimal string, without building an intermediate byte array.
+     */
+    AbiWriter writeBytes(final String hexString) {
+        final int length = hexByteLength(hexString);
+        writeUint(length);
+        final int start = position;
+        writeHex(hexString, digitsStart(hexString), length);
+        position = start + dynamicBytesSize(length) - WORD_SIZE;
+        return this;
+    }
+
+    /**
+     * Returns the payload as a {@code 0x} prefixed lower case hexadecimal string.
+     *
+     * @throws IllegalStateException if the payload was not fully written
+     */
+    String toHexString() {
+        if (position != buffer.length) {
+            throw new IllegalStateException("Payload not fully written [position:" + position + ", size:" + buffer.length + "]");
+        }
+        final char[] chars = new char[2 + 2 * buffer.length];
+        chars[0] = '0';
+        chars[1] = 'x';
+        for (int i = 0; i < buffer.length; i++) {
+            chars[2 + 2 * i] = HEX_DIGITS[(buffer[i] >> 4) & 0x0f];
+            chars[3 + 2 * i] = HEX_DIGITS[buffer[i] & 0x0f];
+        }
+        return new String(chars);
+    }
+
+    /**
+     * Writes hexadecimal digits found from {@code start} to the end of a string right-aligned in a field
+     * of {@code size} bytes, then moves past the field.
+     */
+    private void writeHex(final String hexString, final int start, final int size) {
+        HexDigits.decode(hexString, start, buffer, position, size);
+        position += size;
+    }
+
+    private static int digitsStart(final String hexString) {
+        return Numeric.containsHexPrefix(hexString) ? 2 : 0;
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2024-2025 IEXEC BLOCKCHAIN TECH
+ * Copyright 2024-2026 IEXEC BLOCKCHAIN TECH
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -19,10 +19,17 @@ package com.iexec.commons.poco.encoding;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 
+import java.math.BigInteger;
+
+import static com.iexec.commons.poco.encoding.Utils.toHexString;
+
 /**
  * Class containing Ethereum function selectors to read PoCo Smart Contracts configurations.
  * <p>
  * Current accessors allow to read callback gas, contribution deadline ratio and final deadline ratio.
+ * <p>
+ * Payloads of {@code view*} methods are built with the {@code encodeView*} helpers, they can be sent one by one
+ * or combined in a single request.
  *
  * @see <a href="https://github.com/iExecBlockchainComputing/PoCo/blob/main/contracts/modules/interfaces/IexecAccessors.sol">PoCo accessors</a>
  * @see <a href="https://docs.soliditylang.org/en/latest/abi-spec.html#function-selector">Ethereum Contract ABI Specification</a>
@@ -54,7 +61,9 @@ public class AccessorsEncoder {
     public static final String VIEW_CATEGORY_SELECTOR = "0x4f5f44ec";
     public static final String VIEW_CONSUMED_SELECTOR = "0x4b2bec8c";
     public static final String VIEW_CONTRIBUTION_SELECTOR = "0xe741363b";
+    public static final String VIEW_DEAL_SELECTOR = "0xb74861b2";
     public static final String VIEW_SCORE_SELECTOR = "0xdb230b52";
+    public static final String VIEW_TASK_ABI_LEGACY_SELECTOR = "0x248ad6a0";
 
     // app
     /**
@@ -94,4 +103,38 @@ public class AccessorsEncoder {
     public static final String VIEW_APP_SELECTOR = "0xe1523fb4";
     public static final String VIEW_DATASET_SELECTOR = "0x1e143ef7";
 
+    // region payloads
+    public static String encodeViewAccount(final String walletAddress) {
+        return VIEW_ACCOUNT_SELECTOR + toHexString(walletAddress);
+    }
+
+    public static String encodeViewApp(final String appAddress) {
+        return VIEW_APP_SELECTOR + toHexString(appAddress);
+    }
+
+    public static String encodeViewCategory(final long id) {
+        return VIEW_CATEGORY_SELECTOR + toHexString(BigInteger.valueOf(id));
+    }
+
+    public static String encodeViewContribution(final String chainTaskId, final String workerAddress) {
+        return VIEW_CONTRIBUTION_SELECTOR + toHexString(chainTaskId) + toHexString(workerAddress);
+    }
+
+    public static String encodeViewDataset(final String datasetAddress) {
+        return VIEW_DATASET_SELECTOR + toHexString(datasetAddress);
+    }
+
+    public static String encodeViewDeal(final String chainDealId) {
+        return VIEW_DEAL_SELECTOR + toHexString(chainDealId);
+    }
+
+    public static String encodeViewScore(final String workerAddress) {
+        return VIEW_SCORE_SELECTOR + toHexString(workerAddress);
+    }
+
+    public static String encodeViewTaskABILegacy(final String chainTaskId) {
+        return VIEW_TASK_ABI_LEGACY_SELECTOR + toHexString(chainTaskId);
+    }
+    // endregion
+
 }
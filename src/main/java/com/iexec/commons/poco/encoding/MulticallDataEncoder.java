@@ -0,0 +1,122 @@
+/*
+ * Copyright 2026 IEXEC BLOCKCHAIN TECH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.iexec.commons.poco.encoding;
+
+import com.iexec.commons.poco.chain.CallResult;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.web3j.abi.TypeEncoder;
+import org.web3j.abi.datatypes.DynamicBytes;
+import org.web3j.protocol.exceptions.JsonRpcError;
+import org.web3j.utils.Numeric;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.iexec.commons.poco.encoding.Utils.toHexString;
+
+/**
+ * Encodes and decodes {@code aggregate3} calls of the Multicall3 contract.
+ * <p>
+ * All sub-calls are sent with {@code allowFailure} set to {@literal true}, a reverted sub-call does not revert
+ * the whole aggregated call and is reported as a failed {@link CallResult}.
+ *
+ * @see <a href="https://github.com/mds1/multicall">Multicall3</a>
+ */
+@Slf4j
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class MulticallDataEncoder {
+
+    /**
+     * Address of Multicall3 on most EVM chains, it is deployed with a keyless transaction.
+     */
+    public static final String MULTICALL3_ADDRESS = "0xcA11bde05977b3631167028862bE2a173976CA11";
+
+    // aggregate3((address,bool,bytes)[])
+    private static final String AGGREGATE3_SELECTOR = "0x82ad56cb";
+    // Error(string)
+    private static final String ERROR_SELECTOR = "0x08c379a0";
+    private static final int EVM_REVERT_ERROR_CODE = 3;
+
+    /**
+     * Encodes an {@code aggregate3} call.
+     *
+     * @param targets  Addresses of called contracts
+     * @param payloads Calldata sent to each target, with the same order as {@code targets}
+     * @return The encoded call
+     */
+    public static String encodeAggregate3(final List<String> targets, final List<String> payloads) {
+        if (targets.size() != payloads.size()) {
+            throw new IllegalArgumentException("Targets and payloads must have the same size");
+        }
+        final int size = targets.size();
+        final StringBuilder offsets = new StringBuilder();
+        final StringBuilder tuples = new StringBuilder();
+        long tupleOffset = size * 32L;
+        for (int i = 0; i < size; i++) {
+            final String payloadContrib = TypeEncoder.encode(new DynamicBytes(Numeric.hexStringToByteArray(payloads.get(i))));
+            offsets.append(toHexString(BigInteger.valueOf(tupleOffset)));
+            tuples.append(toHexString(targets.get(i)))
+                    .append(toHexString(BigInteger.ONE))
+                    .append(toHexString(BigInteger.valueOf(3 * 32L)))
+                    .append(payloadContrib);
+            tupleOffset += 3 * 32L + payloadContrib.length() / 64 * 32L;
+        }
+        return AGGREGATE3_SELECTOR +
+                toHexString(BigInteger.valueOf(32L)) +
+                toHexString(BigInteger.valueOf(size)) +
+                offsets +
+                tuples;
+    }
+
+    /**
+     * Decodes the {@code (bool success, bytes returnData)[]} result of an {@code aggregate3} call.
+     * <p>
+     * The return data of a successful sub-call can be parsed with the existing {@code fromRawData} methods.
+     * The reason of a reverted sub-call is decoded when it is a standard {@code Error(string)}.
+     *
+     * @param rawData Value returned by the {@code eth_call}
+     * @return One result per sub-call, in the same order as the encoded payloads
+     */
+    public static List<CallResult> decodeAggregate3(final String rawData) {
+        final AbiReader reader = new AbiReader(rawData);
+        final int arrayOffset = reader.readOffset();
+        final int size = (int) reader.seek(arrayOffset).readUint();
+        final int tuplesStart = arrayOffset + 32;
+        final List<CallResult> results = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            final int tupleOffset = tuplesStart + reader.seek(tuplesStart + 32 * i).readOffset();
+            reader.seek(tupleOffset);
+            final boolean success = reader.readUint() != 0;
+            final String returnData = reader.readDynamicHexString(tupleOffset + reader.readOffset());
+            log.trace("aggregate3 result [index:{}, success:{}, returnData:{}]", i, success, returnData);
+            results.add(success ? CallResult.success(returnData)
+                    : CallResult.failure(new JsonRpcError(EVM_REVERT_ERROR_CODE, decodeRevertReason(returnData), returnData)));
+        }
+        return results;
+    }
+
+    private static String decodeRevertReason(final String returnData) {
+        if (!returnData.startsWith(ERROR_SELECTOR)) {
+            return "execution reverted";
+        }
+        final AbiReader reader = new AbiReader(returnData.substring(ERROR_SELECTOR.length()));
+        return reader.readDynamicString(reader.readOffset());
+    }
+}
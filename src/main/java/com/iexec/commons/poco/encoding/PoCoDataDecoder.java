@@ -1,5 +1,5 @@
 /*
- * Copyright 2025 IEXEC BLOCKCHAIN TECH
+ * Copyright 2025-2026 IEXEC BLOCKCHAIN TECH
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -66,12 +66,20 @@ public class PoCoDataDecoder {
 
     /**
      * Remove hex prefix and split every 32 bytes, i.e. every 64 hex characters.
+     * <p>
+     * Decoding code should rather use an {@link AbiReader} which reads values without splitting the data.
      *
      * @param rawData Raw data to parse
      * @return array containing 32 bytes length hex strings
      */
     public static String[] toParts(final String rawData) {
-        final String[] parts = Numeric.cleanHexPrefix(rawData).split("(?<=\\G.{64})");
+        final String data = Numeric.cleanHexPrefix(rawData);
+        // an empty data yields a single empty part
+        final String[] parts = new String[Math.max(1, (data.length() + 63) / 64)];
+        parts[0] = "";
+        for (int i = 0; i < data.length(); i += 64) {
+            parts[i / 64] = data.substring(i, Math.min(i + 64, data.length()));
+        }
         if (log.isTraceEnabled()) {
             log.trace("parts size {}", parts.length);
             Arrays.stream(parts).forEach(log::trace);
@@ -1,5 +1,5 @@
 /*
- * Copyright 2024 IEXEC BLOCKCHAIN TECH
+ * Copyright 2024-2026 IEXEC BLOCKCHAIN TECH
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -18,14 +18,19 @@ package com.iexec.commons.poco.encoding;
 
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
-import org.web3j.abi.TypeEncoder;
-import org.web3j.abi.datatypes.DynamicBytes;
-import org.web3j.utils.Numeric;
 
 import java.math.BigInteger;
 
-import static com.iexec.commons.poco.encoding.Utils.toHexString;
+import static com.iexec.commons.poco.encoding.AbiWriter.WORD_SIZE;
+import static com.iexec.commons.poco.encoding.AbiWriter.dynamicBytesSize;
+import static com.iexec.commons.poco.encoding.AbiWriter.hexByteLength;
 
+/**
+ * Encodes PoCo transactions sent by workers and schedulers.
+ * <p>
+ * Payloads are written by an {@link AbiWriter} in a single pre-sized buffer, large {@code results} and
+ * {@code resultsCallback} values are copied once.
+ */
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public class PoCoDataEncoder {
 
@@ -38,75 +43,70 @@ public class PoCoDataEncoder {
     private static final String CONTRIBUTE_AND_FINALIZE_SELECTOR = "0x5facd761";
 
     public static String encodeInitialize(String dealid, int idx) {
-        return INITIALIZE_SELECTOR +
-                toHexString(dealid) +
-                toHexString(BigInteger.valueOf(idx));
+        return new AbiWriter(INITIALIZE_SELECTOR, 2 * WORD_SIZE)
+                .writeWord(dealid)
+                .writeUint(idx)
+                .toHexString();
     }
 
     public static String encodeContribute(String chainTaskId, String resultHash, String resultSeal, String enclaveChallenge, String enclaveSign, String authorizationSign) {
-        final long enclaveSignOffset = 6 * 32L;
-        final String enclaveSignContrib = TypeEncoder.encode(new DynamicBytes(Numeric.hexStringToByteArray(enclaveSign)));
-
-        final long authorizationOffset = enclaveSignOffset + enclaveSignContrib.length() / 64 * 32L;
-        final String authorizationContrib = TypeEncoder.encode(new DynamicBytes(Numeric.hexStringToByteArray(authorizationSign)));
-
-        return CONTRIBUTE_SELECTOR +
-                toHexString(chainTaskId) +
-                toHexString(resultHash) +
-                toHexString(resultSeal) +
-                toHexString(enclaveChallenge) +
-                toHexString(BigInteger.valueOf(enclaveSignOffset)) +
-                toHexString(BigInteger.valueOf(authorizationOffset)) +
-                enclaveSignContrib +
-                authorizationContrib;
+        final int enclaveSignOffset = 6 * WORD_SIZE;
+        final int authorizationOffset = enclaveSignOffset + dynamicBytesSize(hexByteLength(enclaveSign));
+        final int size = authorizationOffset + dynamicBytesSize(hexByteLength(authorizationSign));
+
+        return new AbiWriter(CONTRIBUTE_SELECTOR, size)
+                .writeWord(chainTaskId)
+                .writeWord(resultHash)
+                .writeWord(resultSeal)
+                .writeWord(enclaveChallenge)
+                .writeUint(enclaveSignOffset)
+                .writeUint(authorizationOffset)
+                .writeBytes(enclaveSign)
+                .writeBytes(authorizationSign)
+                .toHexString();
     }
 
     public static String encodeReveal(String chainTaskId, String resultDigest) {
-        return REVEAL_SELECTOR +
-                toHexString(chainTaskId) +
-                toHexString(resultDigest);
+        return new AbiWriter(REVEAL_SELECTOR, 2 * WORD_SIZE)
+                .writeWord(chainTaskId)
+                .writeWord(resultDigest)
+                .toHexString();
     }
 
     public static String encodeFinalize(String chainTaskId, byte[] results, byte[] resultsCallback) {
-        final long resultsOffset = 3 * 32L;
-        final String resultsContrib = TypeEncoder.encode(new DynamicBytes(results));
-
-        final long resultsCallbackOffset = resultsOffset + resultsContrib.length() / 64 * 32L;
-        final String resultsCallbackContrib = TypeEncoder.encode(new DynamicBytes(resultsCallback));
-
-        return FINALIZE_SELECTOR +
-                toHexString(chainTaskId) +
-                toHexString(BigInteger.valueOf(resultsOffset)) +
-                toHexString(BigInteger.valueOf(resultsCallbackOffset)) +
-                resultsContrib +
-                resultsCallbackContrib;
+        final int resultsOffset = 3 * WORD_SIZE;
+        final int resultsCallbackOffset = resultsOffset + dynamicBytesSize(results.length);
+        final int size = resultsCallbackOffset + dynamicBytesSize(resultsCallback.length);
+
+        return new AbiWriter(FINALIZE_SELECTOR, size)
+                .writeWord(chainTaskId)
+                .writeUint(resultsOffset)
+                .writeUint(resultsCallbackOffset)
+                .writeBytes(results)
+                .writeBytes(resultsCallback)
+                .toHexString();
     }
 
     public static String encodeContributeAndFinalize(String chainTaskId, String resultDigest, byte[] results, byte[] resultsCallback, String enclaveChallenge, String enclaveSign, String authorizationSign) {
-        final long resultsOffset = 7 * 32L;
-        final String resultsContrib = TypeEncoder.encode(new DynamicBytes(results));
-
-        final long resultsCallbackOffset = resultsOffset + resultsContrib.length() / 64 * 32L;
-        final String resultsCallbackContrib = TypeEncoder.encode(new DynamicBytes(resultsCallback));
-
-        final long enclaveSignOffset = resultsCallbackOffset + resultsCallbackContrib.length() / 64 * 32L;
-        final String enclaveSignContrib = TypeEncoder.encode(new DynamicBytes(Numeric.hexStringToByteArray(enclaveSign)));
-
-        final long authorizationSignOffset = enclaveSignOffset + enclaveSignContrib.length() / 64 * 32L;
-        final String authorizationSignContrib = TypeEncoder.encode(new DynamicBytes(Numeric.hexStringToByteArray(authorizationSign)));
-
-        return CONTRIBUTE_AND_FINALIZE_SELECTOR +
-                toHexString(chainTaskId) +
-                toHexString(resultDigest) +
-                toHexString(BigInteger.valueOf(resultsOffset)) +
-                toHexString(BigInteger.valueOf(resultsCallbackOffset)) +
-                toHexString(enclaveChallenge) +
-                toHexString(BigInteger.valueOf(enclaveSignOffset)) +
-                toHexString(BigInteger.valueOf(authorizationSignOffset)) +
-                resultsContrib +
-                resultsCallbackContrib +
-                enclaveSignContrib +
-                authorizationSignContrib;
+        final int resultsOffset = 7 * WORD_SIZE;
+        final int resultsCallbackOffset = resultsOffset + dynamicBytesSize(results.length);
+        final int enclaveSignOffset = resultsCallbackOffset + dynamicBytesSize(resultsCallback.length);
+        final int authorizationSignOffset = enclaveSignOffset + dynamicBytesSize(hexByteLength(enclaveSign));
+        final int size = authorizationSignOffset + dynamicBytesSize(hexByteLength(authorizationSign));
+
+        return new AbiWriter(CONTRIBUTE_AND_FINALIZE_SELECTOR, size)
+                .writeWord(chainTaskId)
+                .writeWord(resultDigest)
+                .writeUint(resultsOffset)
+                .writeUint(resultsCallbackOffset)
+                .writeWord(enclaveChallenge)
+                .writeUint(enclaveSignOffset)
+                .writeUint(authorizationSignOffset)
+                .writeBytes(results)
+                .writeBytes(resultsCallback)
+                .writeBytes(enclaveSign)
+                .writeBytes(authorizationSign)
+                .toHexString();
     }
 
     /**
@@ -0,0 +1,82 @@
+/*
+ * Copyright 2026 IEXEC BLOCKCHAIN TECH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.iexec.commons.poco.metrics;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+
+/**
+ * Holds the {@link MetricsListener} notified by the library.
+ * <p>
+ * The first {@link MetricsListener} service found on the class path is used, {@link MetricsListener#NOOP} otherwise.
+ * Another listener can be registered at any time.
+ * <p>
+ * Instrumented code reads the listener once and skips the computation of values only needed by measurements,
+ * like selectors, when no listener is registered.
+ */
+@Slf4j
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class Metrics {
+
+    private static final int SELECTOR_LENGTH = 10;
+
+    private static volatile MetricsListener listener = loadListener();
+
+    private static MetricsListener loadListener() {
+        try {
+            final MetricsListener loaded = ServiceLoader.load(MetricsListener.class).findFirst()
+                    .orElse(MetricsListener.NOOP);
+            if (loaded != MetricsListener.NOOP) {
+                log.info("Metrics listener loaded [listener:{}]", loaded.getClass().getName());
+            }
+            return loaded;
+        } catch (RuntimeException | ServiceConfigurationError e) {
+            log.warn("Failed to load metrics listener", e);
+            return MetricsListener.NOOP;
+        }
+    }
+
+    public static MetricsListener getListener() {
+        return listener;
+    }
+
+    /**
+     * Registers the listener notified by the library.
+     *
+     * @param metricsListener Listener to notify, {@literal null} to disable measurements
+     */
+    public static void setListener(final MetricsListener metricsListener) {
+        listener = metricsListener != null ? metricsListener : MetricsListener.NOOP;
+    }
+
+    public static boolean isEnabled() {
+        return listener != MetricsListener.NOOP;
+    }
+
+    /**
+     * Extracts the function selector of an encoded call.
+     *
+     * @param data {@code 0x} prefixed encoded call
+     * @return The 4 bytes selector as a {@code 0x} prefixed string, {@literal null} if the data is too short
+     */
+    public static String selector(final String data) {
+        return data != null && data.length() >= SELECTOR_LENGTH ? data.substring(0, SELECTOR_LENGTH) : null;
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright 2026 IEXEC BLOCKCHAIN TECH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.iexec.commons.poco.metrics;
+
+/**
+ * Receives measurements from the library hot paths.
+ * <p>
+ * All methods do nothing by default, implementations override the measurements they are interested in.
+ * Methods are called synchronously from the measured code, possibly from several threads at once,
+ * they must be thread-safe and must not block.
+ * <p>
+ * A listener is registered with {@link Metrics#setListener(MetricsListener)}
+ * or discovered as a {@link java.util.ServiceLoader} service.
+ *
+ * @see MicrometerMetricsListener
+ */
+public interface MetricsListener {
+
+    /**
+     * Listener ignoring all measurements, used when no listener is registered.
+     */
+    MetricsListener NOOP = new MetricsListener() {
+    };
+
+    /**
+     * Called after a JSON-RPC request to the blockchain node.
+     *
+     * @param method        JSON-RPC method, like {@code eth_call}
+     * @param selector      {@code 0x} prefixed function selector of the payload, {@literal null} if there is none
+     * @param durationNanos Duration of the request
+     * @param failed        Whether the request failed, on communication failure or with an RPC error
+     */
+    default void onRpcCall(String method, String selector, long durationNanos, boolean failed) {
+    }
+
+    /**
+     * Called on each lookup of a cache.
+     *
+     * @param cache Name of the cache
+     * @param hit   Whether the value was found in the cache
+     */
+    default void onCacheAccess(String cache, boolean hit) {
+    }
+
+    /**
+     * Called before each retry of an operation.
+     *
+     * @param context Operation being retried
+     * @param attempt Number of the failed attempt, starting from 1
+     */
+    default void onRetry(String context, int attempt) {
+    }
+
+    /**
+     * Called when an operation is given up after its last retry.
+     *
+     * @param context  Operation given up
+     * @param attempts Total number of attempts
+     */
+    default void onRetriesExceeded(String context, int attempts) {
+    }
+
+    /**
+     * Called after signing data with the wallet credentials.
+     *
+     * @param operation     Kind of signed data, like {@code eip712} or {@code message}
+     * @param durationNanos Duration of the signature
+     */
+    default void onSigning(String operation, long durationNanos) {
+    }
+
+    /**
+     * Called when the tracking of a submitted transaction ends.
+     *
+     * @param durationNanos Duration between the start of the tracking and its end
+     * @param mined         Whether a receipt was found, {@literal false} if the transaction is considered lost
+     */
+    default void onTransactionReceipt(long durationNanos, boolean mined) {
+    }
+}
@@ -0,0 +1,187 @@
+/*
+ * Copyright 2026 IEXEC BLOCKCHAIN TECH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.iexec.commons.poco.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.Value;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Publishes library measurements to a Micrometer {@link MeterRegistry}.
+ * <p>
+ * Micrometer is an optional dependency, it must be provided by the application using this listener:
+ * <pre>
+ * Metrics.setListener(new MicrometerMetricsListener(meterRegistry));
+ * </pre>
+ * Published meters:
+ * <ul>
+ * <li>{@code iexec.poco.rpc} timer with histogram, tagged by {@code method}, {@code selector} and {@code outcome}
+ * <li>{@code iexec.poco.rpc.errors} counter, tagged by {@code method} and {@code selector}
+ * <li>{@code iexec.poco.cache.access} counter, tagged by {@code cache} and {@code result}
+ * <li>{@code iexec.poco.retry.attempts} and {@code iexec.poco.retry.exhausted} counters, tagged by {@code operation}
+ * <li>{@code iexec.poco.signing} timer, tagged by {@code operation}
+ * <li>{@code iexec.poco.tx.receipt} timer with histogram, tagged by {@code outcome}
+ * </ul>
+ * Retry contexts hold identifiers, only the part before the {@code [key:value]} details is used as tag
+ * to keep the number of meters bounded.
+ * <p>
+ * Meters are registered once and kept by tag values, later measurements do not go through
+ * the registry builders.
+ */
+public class MicrometerMetricsListener implements MetricsListener {
+
+    private static final String NONE = "none";
+
+    private final MeterRegistry registry;
+    // method, then selector
+    private final Map<String, Map<String, RpcMeters>> rpcMeters = new ConcurrentHashMap<>();
+    private final Map<String, Counter> cacheHits = new ConcurrentHashMap<>();
+    private final Map<String, Counter> cacheMisses = new ConcurrentHashMap<>();
+    private final Map<String, Counter> retryAttempts = new ConcurrentHashMap<>();
+    private final Map<String, Counter> retriesExhausted = new ConcurrentHashMap<>();
+    private final Map<String, Timer> signingTimers = new ConcurrentHashMap<>();
+    private final Timer minedReceiptTimer;
+    private final Timer lostReceiptTimer;
+    // meter factories are created once, looking up an existing meter does not allocate
+    private final Function<String, Counter> cacheHitFactory;
+    private final Function<String, Counter> cacheMissFactory;
+    private final Function<String, Counter> retryAttemptFactory;
+    private final Function<String, Counter> retryExhaustedFactory;
+    private final Function<String, Timer> signingTimerFactory;
+
+    @Value
+    private static class RpcMeters {
+        Timer success;
+        Timer failure;
+        Counter errors;
+    }
+
+    public MicrometerMetricsListener(final MeterRegistry registry) {
+        this.registry = registry;
+        this.cacheHitFactory = cache -> cacheAccessCounter(cache, "hit");
+        this.cacheMissFactory = cache -> cacheAccessCounter(cache, "miss");
+        this.retryAttemptFactory = operation -> operationCounter("iexec.poco.retry.attempts", operation);
+        this.retryExhaustedFactory = operation -> operationCounter("iexec.poco.retry.exhausted", operation);
+        this.signingTimerFactory = operation -> Timer.builder("iexec.poco.signing")
+                .tag("operation", operation)
+                .register(registry);
+        this.minedReceiptTimer = receiptTimer("mined");
+        this.lostReceiptTimer = receiptTimer("lost");
+    }
+
+    @Override
+    public void onRpcCall(final String method, final String selector, final long durationNanos, final boolean failed) {
+        final RpcMeters meters = rpcMeters(method, selector != null ? selector : NONE);
+        if (failed) {
+            meters.getFailure().record(durationNanos, TimeUnit.NANOSECONDS);
+            meters.getErrors().increment();
+        } else {
+            meters.getSuccess().record(durationNanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    @Override
+    public void onCacheAccess(final String cache, final boolean hit) {
+        if (hit) {
+            meter(cacheHits, cache, cacheHitFactory).increment();
+        } else {
+            meter(cacheMisses, cache, cacheMissFactory).increment();
+        }
+    }
+
+    @Override
+    public void onRetry(final String context, final int attempt) {
+        meter(retryAttempts, operationOf(context), retryAttemptFactory).increment();
+    }
+
+    @Override
+    public void onRetriesExceeded(final String context, final int attempts) {
+        meter(retriesExhausted, operationOf(context), retryExhaustedFactory).increment();
+    }
+
+    @Override
+    public void onSigning(final String operation, final long durationNanos) {
+        meter(signingTimers, operation, signingTimerFactory).record(durationNanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void onTransactionReceipt(final long durationNanos, final boolean mined) {
+        (mined ? minedReceiptTimer : lostReceiptTimer).record(durationNanos, TimeUnit.NANOSECONDS);
+    }
+
+    static String operationOf(final String context) {
+        if (context == null) {
+            return NONE;
+        }
+        final int detailsIndex = context.indexOf(" [");
+        return detailsIndex >= 0 ? context.substring(0, detailsIndex) : context;
+    }
+
+    private static <M> M meter(final Map<String, M> meters, final String key, final Function<String, M> factory) {
+        final M meter = meters.get(key);
+        return meter != null ? meter : meters.computeIfAbsent(key, factory);
+    }
+
+    private RpcMeters rpcMeters(final String method, final String selector) {
+        Map<String, RpcMeters> bySelector = rpcMeters.get(method);
+        if (bySelector == null) {
+            bySelector = rpcMeters.computeIfAbsent(method, key -> new ConcurrentHashMap<>());
+        }
+        final RpcMeters meters = bySelector.get(selector);
+        return meters != null ? meters : bySelector.computeIfAbsent(selector, key -> new RpcMeters(
+                rpcTimer(method, key, "success"),
+                rpcTimer(method, key, "failure"),
+                Counter.builder("iexec.poco.rpc.errors")
+                        .tag("method", method)
+                        .tag("selector", key)
+                        .register(registry)));
+    }
+
+    private Timer rpcTimer(final String method, final String selector, final String outcome) {
+        return Timer.builder("iexec.poco.rpc")
+                .tag("method", method)
+                .tag("selector", selector)
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(registry);
+    }
+
+    private Counter cacheAccessCounter(final String cache, final String result) {
+        return Counter.builder("iexec.poco.cache.access")
+                .tag("cache", cache)
+                .tag("result", result)
+                .register(registry);
+    }
+
+    private Counter operationCounter(final String name, final String operation) {
+        return Counter.builder(name)
+                .tag("operation", operation)
+                .register(registry);
+    }
+
+    private Timer receiptTimer(final String outcome) {
+        return Timer.builder("iexec.poco.tx.receipt")
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(registry);
+    }
+}
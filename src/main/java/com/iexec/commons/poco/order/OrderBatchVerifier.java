@@ -0,0 +1,152 @@
+/*
+ * Copyright 2026 IEXEC BLOCKCHAIN TECH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.iexec.commons.poco.order;
+
+import com.iexec.commons.poco.eip712.EIP712Domain;
+import com.iexec.commons.poco.security.CompactSignature;
+import com.iexec.commons.poco.utils.SignatureUtils;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+
+/**
+ * Verifies EIP-712 signatures of many orders at once.
+ * <p>
+ * Orders are hashed and their signers recovered in parallel on a {@link ForkJoinPool},
+ * the common pool unless another one is provided.
+ * Results are returned in the order of the input list.
+ * <p>
+ * Each result tells apart orders which cannot be verified at all from orders whose signature does not verify:
+ * <ul>
+ * <li>{@link Status#MALFORMED}: a field cannot be EIP-712 encoded, or the signature is missing
+ * or is not a 65 bytes hexadecimal string
+ * <li>{@link Status#INVALID_SIGNATURE}: no signer can be recovered, or the recovered signer is not the expected one
+ * <li>{@link Status#RECOVERED}: the signer was recovered but no expected signer was provided,
+ * the order must not be trusted before its signer is checked by the caller
+ * <li>{@link Status#VALID}: the recovered signer matches the expected one
+ * </ul>
+ */
+@Slf4j
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class OrderBatchVerifier {
+
+    public enum Status {
+        VALID,
+        RECOVERED,
+        INVALID_SIGNATURE,
+        MALFORMED
+    }
+
+    @Value
+    public static class Result {
+        Order order;
+        Status status;
+        /**
+         * EIP-712 hash of the order, {@literal null} if the order could not be hashed.
+         */
+        String hash;
+        /**
+         * Lower case address recovered from the signature, {@literal null} if none could be recovered.
+         */
+        String signer;
+        /**
+         * Reason of a failed verification, {@literal null} if the signer was recovered.
+         */
+        String error;
+
+        public boolean isValid() {
+            return status == Status.VALID;
+        }
+    }
+
+    /**
+     * Recovers the signer of each order on the common pool.
+     *
+     * @param orders Signed orders
+     * @param domain EIP-712 domain of the orders
+     * @return A result per order, with a {@link Status#RECOVERED} status when a signer is recovered
+     */
+    public static List<Result> verify(final List<? extends Order> orders, final EIP712Domain domain) {
+        return verify(orders, domain, order -> null);
+    }
+
+    /**
+     * Recovers the signer of each order on the common pool and checks it against an expected signer.
+     *
+     * @param orders          Signed orders
+     * @param domain          EIP-712 domain of the orders
+     * @param expectedSigners Provides the expected signer of an order, the check is skipped when it returns
+     *                        {@literal null} and the order gets a {@link Status#RECOVERED} status
+     * @return A result per order
+     */
+    public static List<Result> verify(final List<? extends Order> orders,
+                                      final EIP712Domain domain,
+                                      final Function<? super Order, String> expectedSigners) {
+        return verify(ForkJoinPool.commonPool(), orders, domain, expectedSigners);
+    }
+
+    /**
+     * Recovers the signer of each order on a given pool and checks it against an expected signer.
+     *
+     * @param pool            Pool running the verifications
+     * @param orders          Signed orders
+     * @param domain          EIP-712 domain of the orders
+     * @param expectedSigners Provides the expected signer of an order, the check is skipped when it returns
+     *                        {@literal null} and the order gets a {@link Status#RECOVERED} status
+     * @return A result per order
+     */
+    public static List<Result> verify(final ForkJoinPool pool,
+                                      final List<? extends Order> orders,
+                                      final EIP712Domain domain,
+                                      final Function<? super Order, String> expectedSigners) {
+        // a parallel stream started from a pool task runs in this pool
+        return pool.submit(() -> orders.parallelStream()
+                        .map(order -> verify(order, domain, expectedSigners.apply(order)))
+                        .toList())
+                .join();
+    }
+
+    static Result verify(final Order order, final EIP712Domain domain, final String expectedSigner) {
+        if (!SignatureUtils.isSignature(order.getSign())) {
+            return new Result(order, Status.MALFORMED, null, null, "Missing or malformed signature");
+        }
+        final String hash;
+        try {
+            hash = order.computeHash(domain);
+        } catch (RuntimeException e) {
+            log.debug("Failed to hash order [order:{}]", order, e);
+            return new Result(order, Status.MALFORMED, null, null, "Cannot encode order: " + e.getMessage());
+        }
+        final String signer = SignatureUtils.recoverSigner(hash, CompactSignature.fromHexString(order.getSign()));
+        if (signer.isEmpty()) {
+            return new Result(order, Status.INVALID_SIGNATURE, hash, null, "Cannot recover signer");
+        }
+        if (expectedSigner == null) {
+            return new Result(order, Status.RECOVERED, hash, signer, null);
+        }
+        if (!expectedSigner.equalsIgnoreCase(signer)) {
+            return new Result(order, Status.INVALID_SIGNATURE, hash, signer,
+                    "Unexpected signer [expected:" + expectedSigner + ", actual:" + signer + "]");
+        }
+        return new Result(order, Status.VALID, hash, signer, null);
+    }
+}
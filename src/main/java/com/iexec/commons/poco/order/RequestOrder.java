@@ -1,5 +1,5 @@
 /*
- * Copyright 2020-2025 IEXEC BLOCKCHAIN TECH
+ * Copyright 2020-2026 IEXEC BLOCKCHAIN TECH
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -20,7 +20,7 @@ import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import com.fasterxml.jackson.databind.annotation.JsonPOJOBuilder;
 import com.iexec.commons.poco.contract.generated.IexecHubContract;
 import com.iexec.commons.poco.eip712.EIP712Utils;
-import com.iexec.commons.poco.utils.HashUtils;
+import com.iexec.commons.poco.utils.KeccakHasher;
 import lombok.Builder;
 import lombok.EqualsAndHashCode;
 import lombok.Value;
@@ -28,7 +28,6 @@ import lombok.extern.slf4j.Slf4j;
 import org.web3j.utils.Numeric;
 
 import java.math.BigInteger;
-import java.util.stream.Stream;
 
 @Slf4j
 @Value
@@ -37,6 +36,7 @@ import java.util.stream.Stream;
 public class RequestOrder extends Order {
 
     private static final String EIP712_TYPE = "RequestOrder(address app,uint256 appmaxprice,address dataset,uint256 datasetmaxprice,address workerpool,uint256 workerpoolmaxprice,address requester,uint256 volume,bytes32 tag,uint256 category,uint256 trust,address beneficiary,address callback,string params,bytes32 salt)";
+    private static final String EIP712_TYPE_HASH = EIP712Utils.encodeData(EIP712_TYPE);
 
     String app;
     BigInteger appmaxprice;
@@ -101,16 +101,30 @@ public class RequestOrder extends Order {
 
     // region EIP-712
     public String computeMessageHash() {
-        final String[] encodedValues = Stream.of(EIP712_TYPE, app, appmaxprice, dataset, datasetmaxprice, workerpool, workerpoolmaxprice, requester, volume, tag, category, trust, beneficiary, callback, params, salt)
-                .map(EIP712Utils::encodeData)
-                .toArray(String[]::new);
+        final byte[] message = new byte[16 * EIP712Utils.WORD_SIZE];
+        int offset = EIP712Utils.encodeBytes32(EIP712_TYPE_HASH, message, 0);
+        offset = EIP712Utils.encodeAddress(app, message, offset);
+        offset = EIP712Utils.encodeUint256(appmaxprice, message, offset);
+        offset = EIP712Utils.encodeAddress(dataset, message, offset);
+        offset = EIP712Utils.encodeUint256(datasetmaxprice, message, offset);
+        offset = EIP712Utils.encodeAddress(workerpool, message, offset);
+        offset = EIP712Utils.encodeUint256(workerpoolmaxprice, message, offset);
+        offset = EIP712Utils.encodeAddress(requester, message, offset);
+        offset = EIP712Utils.encodeUint256(volume, message, offset);
+        offset = EIP712Utils.encodeBytes32(tag, message, offset);
+        offset = EIP712Utils.encodeUint256(category, message, offset);
+        offset = EIP712Utils.encodeUint256(trust, message, offset);
+        offset = EIP712Utils.encodeAddress(beneficiary, message, offset);
+        offset = EIP712Utils.encodeAddress(callback, message, offset);
+        offset = EIP712Utils.encodeString(params, message, offset);
+        EIP712Utils.encodeBytes32(salt, message, offset);
         if (log.isDebugEnabled()) {
             log.debug("{}", EIP712_TYPE);
-            for (String value : encodedValues) {
-                log.debug("{}", value);
+            for (int i = 0; i < message.length; i += EIP712Utils.WORD_SIZE) {
+                log.debug("{}", Numeric.toHexString(message, i, EIP712Utils.WORD_SIZE, true));
             }
         }
-        return HashUtils.concatenateAndHash(encodedValues);
+        return Numeric.toHexString(KeccakHasher.keccak256(message));
     }
     // endregion
 
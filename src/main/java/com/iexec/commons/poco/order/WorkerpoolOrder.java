@@ -1,5 +1,5 @@
 /*
- * Copyright 2020-2025 IEXEC BLOCKCHAIN TECH
+ * Copyright 2020-2026 IEXEC BLOCKCHAIN TECH
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -20,7 +20,7 @@ import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import com.fasterxml.jackson.databind.annotation.JsonPOJOBuilder;
 import com.iexec.commons.poco.contract.generated.IexecHubContract;
 import com.iexec.commons.poco.eip712.EIP712Utils;
-import com.iexec.commons.poco.utils.HashUtils;
+import com.iexec.commons.poco.utils.KeccakHasher;
 import lombok.Builder;
 import lombok.EqualsAndHashCode;
 import lombok.Value;
@@ -28,7 +28,6 @@ import lombok.extern.slf4j.Slf4j;
 import org.web3j.utils.Numeric;
 
 import java.math.BigInteger;
-import java.util.stream.Stream;
 
 @Slf4j
 @Value
@@ -37,6 +36,7 @@ import java.util.stream.Stream;
 public class WorkerpoolOrder extends Order {
 
     private static final String EIP712_TYPE = "WorkerpoolOrder(address workerpool,uint256 workerpoolprice,uint256 volume,bytes32 tag,uint256 category,uint256 trust,address apprestrict,address datasetrestrict,address requesterrestrict,bytes32 salt)";
+    private static final String EIP712_TYPE_HASH = EIP712Utils.encodeData(EIP712_TYPE);
 
     String workerpool;
     BigInteger workerpoolprice;
@@ -85,16 +85,25 @@ public class WorkerpoolOrder extends Order {
 
     // region EIP-712
     public String computeMessageHash() {
-        final String[] encodedValues = Stream.of(EIP712_TYPE, workerpool, workerpoolprice, volume, tag, category, trust, apprestrict, datasetrestrict, requesterrestrict, salt)
-                .map(EIP712Utils::encodeData)
-                .toArray(String[]::new);
+        final byte[] message = new byte[11 * EIP712Utils.WORD_SIZE];
+        int offset = EIP712Utils.encodeBytes32(EIP712_TYPE_HASH, message, 0);
+        offset = EIP712Utils.encodeAddress(workerpool, message, offset);
+        offset = EIP712Utils.encodeUint256(workerpoolprice, message, offset);
+        offset = EIP712Utils.encodeUint256(volume, message, offset);
+        offset = EIP712Utils.encodeBytes32(tag, message, offset);
+        offset = EIP712Utils.encodeUint256(category, message, offset);
+        offset = EIP712Utils.encodeUint256(trust, message, offset);
+        offset = EIP712Utils.encodeAddress(apprestrict, message, offset);
+        offset = EIP712Utils.encodeAddress(datasetrestrict, message, offset);
+        offset = EIP712Utils.encodeAddress(requesterrestrict, message, offset);
+        EIP712Utils.encodeBytes32(salt, message, offset);
         if (log.isDebugEnabled()) {
             log.debug("{}", EIP712_TYPE);
-            for (String value : encodedValues) {
-                log.debug("{}", value);
+            for (int i = 0; i < message.length; i += EIP712Utils.WORD_SIZE) {
+                log.debug("{}", Numeric.toHexString(message, i, EIP712Utils.WORD_SIZE, true));
             }
         }
-        return HashUtils.concatenateAndHash(encodedValues);
+        return Numeric.toHexString(KeccakHasher.keccak256(message));
     }
     // endregion
 
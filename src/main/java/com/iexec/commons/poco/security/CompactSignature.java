@@ -0,0 +1,174 @@
+/*
+ * Copyright 2026 IEXEC BLOCKCHAIN TECH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.iexec.commons.poco.security;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.iexec.commons.poco.utils.BytesUtils;
+import lombok.EqualsAndHashCode;
+import org.web3j.crypto.Sign;
+import org.web3j.utils.Numeric;
+
+import java.math.BigInteger;
+import java.security.SignatureException;
+import java.util.Arrays;
+
+/**
+ * Immutable 65 bytes ECDSA signature, the concatenation of its {@code r}, {@code s} and {@code v} values.
+ * <p>
+ * Contrary to {@link Signature}, the value is decoded once and kept as bytes:
+ * {@code r} and {@code s} are stored as the 32 bytes arrays expected by {@link Sign.SignatureData}.
+ * They are never exposed, signer recovery uses them without any copy.
+ * <p>
+ * The JSON representation is the same as {@link Signature}: {@code {"value":"0x..."}}.
+ */
+@EqualsAndHashCode
+public final class CompactSignature {
+
+    public static final int SIZE = 65;
+    private static final int R_OFFSET = 0;
+    private static final int S_OFFSET = 32;
+    private static final int V_OFFSET = 64;
+
+    private final byte[] r;
+    private final byte[] s;
+    private final byte v;
+
+    private CompactSignature(final byte[] r, final byte[] s, final byte v) {
+        this.r = r;
+        this.s = s;
+        this.v = v;
+    }
+
+    /**
+     * Creates a signature from its 65 bytes.
+     *
+     * @throws IllegalArgumentException if the signature is not 65 bytes long
+     */
+    public static CompactSignature of(final byte[] signature) {
+        if (signature == null || signature.length != SIZE) {
+            throw new IllegalArgumentException("Signature must be " + SIZE + " bytes long");
+        }
+        return new CompactSignature(
+                Arrays.copyOfRange(signature, R_OFFSET, S_OFFSET),
+                Arrays.copyOfRange(signature, S_OFFSET, V_OFFSET),
+                signature[V_OFFSET]);
+    }
+
+    /**
+     * Creates a signature from web3j signature data.
+     *
+     * @throws IllegalArgumentException if {@code r} or {@code s} are not 32 bytes long or {@code v} is not 1 byte long
+     */
+    public static CompactSignature of(final Sign.SignatureData signatureData) {
+        if (signatureData.getR().length != S_OFFSET - R_OFFSET
+                || signatureData.getS().length != V_OFFSET - S_OFFSET
+                || signatureData.getV().length != 1) {
+            throw new IllegalArgumentException("Signature data must hold 32 bytes r and s values and a 1 byte v value");
+        }
+        return new CompactSignature(signatureData.getR().clone(), signatureData.getS().clone(), signatureData.getV()[0]);
+    }
+
+    /**
+     * Decodes a signature from its hexadecimal representation.
+     *
+     * @throws IllegalArgumentException if the value is not a 65 bytes hexadecimal string
+     */
+    @JsonCreator
+    public static CompactSignature fromHexString(@JsonProperty("value") final String value) {
+        if (!BytesUtils.isHexStringWithPrefixAndProperBytesSize(value, SIZE)) {
+            throw new IllegalArgumentException("Signature must be a " + SIZE + " bytes hexadecimal string");
+        }
+        return of(Numeric.hexStringToByteArray(value));
+    }
+
+    /**
+     * Decodes the value of a {@link Signature}.
+     *
+     * @throws IllegalArgumentException if the value is not a 65 bytes hexadecimal string
+     */
+    public static CompactSignature from(final Signature signature) {
+        return fromHexString(signature.getValue());
+    }
+
+    /**
+     * Returns the signature as a {@code 0x} prefixed hexadecimal string.
+     */
+    @JsonProperty("value")
+    public String getValue() {
+        return BytesUtils.bytesToString(toBytes());
+    }
+
+    @JsonIgnore
+    public byte[] getR() {
+        return r.clone();
+    }
+
+    @JsonIgnore
+    public byte[] getS() {
+        return s.clone();
+    }
+
+    @JsonIgnore
+    public byte getV() {
+        return v;
+    }
+
+    /**
+     * Returns the 65 bytes of the signature.
+     */
+    public byte[] toBytes() {
+        final byte[] signature = new byte[SIZE];
+        System.arraycopy(r, 0, signature, R_OFFSET, r.length);
+        System.arraycopy(s, 0, signature, S_OFFSET, s.length);
+        signature[V_OFFSET] = v;
+        return signature;
+    }
+
+    /**
+     * Returns web3j signature data holding copies of the {@code r} and {@code s} arrays of this signature.
+     */
+    public Sign.SignatureData toSignatureData() {
+        return new Sign.SignatureData(v, r.clone(), s.clone());
+    }
+
+    /**
+     * Recovers the public key which signed a hash, without any message prefix.
+     * <p>
+     * A single EC recovery is done with the recovery id found in {@code v},
+     * both {@code 0/1} and {@code 27/28} values are accepted.
+     *
+     * @param hash Signed hash
+     * @return The public key of the signer
+     * @throws SignatureException if no public key can be recovered
+     */
+    public BigInteger recoverPublicKey(final byte[] hash) throws SignatureException {
+        final int header = v & 0xff;
+        // r and s are only read by the recovery, they can be shared
+        return Sign.signedMessageHashToKey(hash, new Sign.SignatureData((byte) (header < 27 ? header + 27 : header), r, s));
+    }
+
+    public Signature toSignature() {
+        return new Signature(getValue());
+    }
+
+    @Override
+    public String toString() {
+        return getValue();
+    }
+}
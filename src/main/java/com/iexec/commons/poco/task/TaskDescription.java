@@ -1,5 +1,5 @@
 /*
- * Copyright 2020-2025 IEXEC BLOCKCHAIN TECH
+ * Copyright 2020-2026 IEXEC BLOCKCHAIN TECH
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,12 +16,15 @@
 
 package com.iexec.commons.poco.task;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.iexec.commons.poco.chain.*;
 import com.iexec.commons.poco.dapp.DappType;
 import com.iexec.commons.poco.tee.TeeEnclaveConfiguration;
 import com.iexec.commons.poco.tee.TeeFramework;
 import com.iexec.commons.poco.tee.TeeUtils;
+import com.iexec.commons.poco.utils.Address;
+import com.iexec.commons.poco.utils.Bytes32;
 import com.iexec.commons.poco.utils.BytesUtils;
 import lombok.Builder;
 import lombok.Value;
@@ -82,6 +85,29 @@ public class TaskDescription {
     long contributionDeadline;
     long finalDeadline;
 
+    // region typed accessors
+    // absent or malformed values, such as empty or shortened IDs, are returned as null
+    @JsonIgnore
+    public Bytes32 getChainTaskIdBytes32() {
+        return Bytes32.fromHexStringOrNull(chainTaskId);
+    }
+
+    @JsonIgnore
+    public Bytes32 getChainDealIdBytes32() {
+        return Bytes32.fromHexStringOrNull(chainDealId);
+    }
+
+    @JsonIgnore
+    public Address getRequesterAddress() {
+        return Address.fromHexStringOrNull(requester);
+    }
+
+    @JsonIgnore
+    public Address getWorkerpoolOwnerAddress() {
+        return Address.fromHexStringOrNull(workerpoolOwner);
+    }
+    // endregion
+
     /**
      * Check if this task includes a dataset or not. The task is considered
      * as including a dataset only if all fields of the dataset are non-empty,
@@ -0,0 +1,153 @@
+/*
+ * Copyright 2026 IEXEC BLOCKCHAIN TECH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.iexec.commons.poco.utils;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonValue;
+import org.web3j.crypto.Keys;
+
+/**
+ * Immutable 20 bytes Ethereum address.
+ * <p>
+ * The address is stored as two {@code long} and one {@code int} words instead of a 42 characters string.
+ * Parsing accepts any case, checksummed addresses included, so that comparing two instances replaces
+ * {@code equalsIgnoreCase} on strings. The hash code is computed once.
+ * <p>
+ * The JSON representation is the {@code 0x} prefixed lower case hexadecimal string.
+ */
+public final class Address {
+
+    public static final int SIZE = 20;
+    public static final Address ZERO = new Address(0L, 0L, 0);
+    private static final int HEX_LENGTH = 2 + 2 * SIZE;
+
+    private final long high;
+    private final long middle;
+    private final int low;
+    private final int hash;
+
+    private Address(final long high, final long middle, final int low) {
+        this.high = high;
+        this.middle = middle;
+        this.low = low;
+        this.hash = 31 * (31 * Long.hashCode(high) + Long.hashCode(middle)) + low;
+    }
+
+    /**
+     * Parses a {@code 0x} prefixed string of 40 hexadecimal digits, in any case.
+     * <p>
+     * The checksum of mixed case addresses is not verified, see {@link EthAddress#validate(String)}.
+     *
+     * @throws IllegalArgumentException if the string is not a {@code 0x} prefixed 20 bytes hexadecimal string
+     */
+    @JsonCreator
+    public static Address fromHexString(final String hexString) {
+        if (!hasHexStringLayout(hexString)) {
+            throw new IllegalArgumentException("Value is not a 0x prefixed 20 bytes hexadecimal string: " + hexString);
+        }
+        return new Address(
+                HexDigits.parse(hexString, 2, 16),
+                HexDigits.parse(hexString, 18, 16),
+                (int) HexDigits.parse(hexString, 34, 8));
+    }
+
+    /**
+     * Parses a {@code 0x} prefixed 20 bytes hexadecimal string, in any case, without throwing.
+     * <p>
+     * String fields of models may carry values which are not well-formed, such as empty or shortened values.
+     *
+     * @return The parsed value, or {@literal null} if the string is not a {@code 0x} prefixed 20 bytes hexadecimal string
+     */
+    public static Address fromHexStringOrNull(final String hexString) {
+        return hasHexStringLayout(hexString) && HexDigits.areDigits(hexString, 2, HEX_LENGTH)
+                ? fromHexString(hexString) : null;
+    }
+
+    private static boolean hasHexStringLayout(final String hexString) {
+        return hexString != null && hexString.length() == HEX_LENGTH
+                && hexString.charAt(0) == '0' && (hexString.charAt(1) == 'x' || hexString.charAt(1) == 'X');
+    }
+
+    /**
+     * Creates an address from 20 bytes.
+     *
+     * @throws IllegalArgumentException if the array is not 20 bytes long
+     */
+    public static Address of(final byte[] bytes) {
+        if (bytes == null || bytes.length != SIZE) {
+            throw new IllegalArgumentException("Address must be " + SIZE + " bytes long");
+        }
+        return new Address(
+                HexDigits.readBytes(bytes, 0, 8),
+                HexDigits.readBytes(bytes, 8, 8),
+                (int) HexDigits.readBytes(bytes, 16, 4));
+    }
+
+    public boolean isZero() {
+        return (high | middle | low) == 0L;
+    }
+
+    public byte[] toBytes() {
+        final byte[] bytes = new byte[SIZE];
+        HexDigits.writeBytes(high, 8, bytes, 0);
+        HexDigits.writeBytes(middle, 8, bytes, 8);
+        HexDigits.writeBytes(low, 4, bytes, 16);
+        return bytes;
+    }
+
+    /**
+     * Returns the address as a {@code 0x} prefixed lower case hexadecimal string.
+     */
+    @JsonValue
+    public String toHexString() {
+        final char[] chars = new char[HEX_LENGTH];
+        chars[0] = '0';
+        chars[1] = 'x';
+        HexDigits.write(high, 16, chars, 2);
+        HexDigits.write(middle, 16, chars, 18);
+        HexDigits.write(low, 8, chars, 34);
+        return new String(chars);
+    }
+
+    /**
+     * Returns the address with its EIP-55 mixed case checksum.
+     */
+    public String toChecksumHexString() {
+        return Keys.toChecksumAddress(toHexString());
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof Address other)) {
+            return false;
+        }
+        return hash == other.hash && high == other.high && middle == other.middle && low == other.low;
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        return toHexString();
+    }
+}
@@ -0,0 +1,150 @@
+/*
+ * Copyright 2026 IEXEC BLOCKCHAIN TECH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.iexec.commons.poco.utils;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonValue;
+
+/**
+ * Immutable 32 bytes value, such as a task ID, a deal ID, a tag or a salt.
+ * <p>
+ * The value is stored as four {@code long} words instead of a 66 characters string.
+ * Parsing accepts any case, so that two instances are equal whatever the case of the strings they were parsed from,
+ * and equality only compares the words. The hash code is computed once.
+ * <p>
+ * The JSON representation is the {@code 0x} prefixed lower case hexadecimal string.
+ */
+public final class Bytes32 {
+
+    public static final int SIZE = 32;
+    public static final Bytes32 ZERO = new Bytes32(0L, 0L, 0L, 0L);
+    private static final int HEX_LENGTH = 2 + 2 * SIZE;
+
+    private final long word0;
+    private final long word1;
+    private final long word2;
+    private final long word3;
+    private final int hash;
+
+    private Bytes32(final long word0, final long word1, final long word2, final long word3) {
+        this.word0 = word0;
+        this.word1 = word1;
+        this.word2 = word2;
+        this.word3 = word3;
+        this.hash = 31 * (31 * (31 * Long.hashCode(word0) + Long.hashCode(word1)) + Long.hashCode(word2)) + Long.hashCode(word3);
+    }
+
+    /**
+     * Parses a {@code 0x} prefixed string of 64 hexadecimal digits, in any case.
+     *
+     * @throws IllegalArgumentException if the string is not a {@code 0x} prefixed 32 bytes hexadecimal string
+     */
+    @JsonCreator
+    public static Bytes32 fromHexString(final String hexString) {
+        if (!hasHexStringLayout(hexString)) {
+            throw new IllegalArgumentException("Value is not a 0x prefixed 32 bytes hexadecimal string: " + hexString);
+        }
+        return new Bytes32(
+                HexDigits.parse(hexString, 2, 16),
+                HexDigits.parse(hexString, 18, 16),
+                HexDigits.parse(hexString, 34, 16),
+                HexDigits.parse(hexString, 50, 16));
+    }
+
+    /**
+     * Parses a {@code 0x} prefixed 32 bytes hexadecimal string, in any case, without throwing.
+     * <p>
+     * String fields of models may carry values which are not well-formed, such as empty or shortened values.
+     *
+     * @return The parsed value, or {@literal null} if the string is not a {@code 0x} prefixed 32 bytes hexadecimal string
+     */
+    public static Bytes32 fromHexStringOrNull(final String hexString) {
+        return hasHexStringLayout(hexString) && HexDigits.areDigits(hexString, 2, HEX_LENGTH)
+                ? fromHexString(hexString) : null;
+    }
+
+    private static boolean hasHexStringLayout(final String hexString) {
+        return hexString != null && hexString.length() == HEX_LENGTH
+                && hexString.charAt(0) == '0' && (hexString.charAt(1) == 'x' || hexString.charAt(1) == 'X');
+    }
+
+    /**
+     * Creates a value from 32 bytes.
+     *
+     * @throws IllegalArgumentException if the array is not 32 bytes long
+     */
+    public static Bytes32 of(final byte[] bytes) {
+        if (bytes == null || bytes.length != SIZE) {
+            throw new IllegalArgumentException("Value must be " + SIZE + " bytes long");
+        }
+        return new Bytes32(
+                HexDigits.readBytes(bytes, 0, 8),
+                HexDigits.readBytes(bytes, 8, 8),
+                HexDigits.readBytes(bytes, 16, 8),
+                HexDigits.readBytes(bytes, 24, 8));
+    }
+
+    public boolean isZero() {
+        return (word0 | word1 | word2 | word3) == 0L;
+    }
+
+    public byte[] toBytes() {
+        final byte[] bytes = new byte[SIZE];
+        HexDigits.writeBytes(word0, 8, bytes, 0);
+        HexDigits.writeBytes(word1, 8, bytes, 8);
+        HexDigits.writeBytes(word2, 8, bytes, 16);
+        HexDigits.writeBytes(word3, 8, bytes, 24);
+        return bytes;
+    }
+
+    /**
+     * Returns the value as a {@code 0x} prefixed lower case hexadecimal string.
+     */
+    @JsonValue
+    public String toHexString() {
+        final char[] chars = new char[HEX_LENGTH];
+        chars[0] = '0';
+        chars[1] = 'x';
+        HexDigits.write(word0, 16, chars, 2);
+        HexDigits.write(word1, 16, chars, 18);
+        HexDigits.write(word2, 16, chars, 34);
+        HexDigits.write(word3, 16, chars, 50);
+        return new String(chars);
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof Bytes32 other)) {
+            return false;
+        }
+        return hash == other.hash
+                && word0 == other.word0 && word1 == other.word1 && word2 == other.word2 && word3 == other.word3;
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        return toHexString();
+    }
+}
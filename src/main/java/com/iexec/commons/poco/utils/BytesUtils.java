@@ -1,5 +1,5 @@
 /*
- * Copyright 2020-2025 IEXEC BLOCKCHAIN TECH
+ * Copyright 2020-2026 IEXEC BLOCKCHAIN TECH
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -22,8 +22,6 @@ import lombok.NoArgsConstructor;
 import org.web3j.utils.Numeric;
 
 import java.math.BigInteger;
-import java.util.Arrays;
-import java.util.regex.Pattern;
 
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public class BytesUtils {
@@ -36,9 +34,6 @@ public class BytesUtils {
     public static final String EMPTY_HEX_STRING_32 = BytesUtils.bytesToString(new byte[BYTES_32_SIZE]);
     private static final int BYTES_32_HEX_STRING_SIZE = BYTES_32_SIZE * 2; // 64
     private static final int BYTES_32_HEX_STRING_WITH_PREFIX_SIZE = 2 + BYTES_32_HEX_STRING_SIZE;// 2 + 64
-    private static final String HEX_REGEX = "\\p{XDigit}+$";
-    private static final Pattern HEX_PATTERN = Pattern.compile("(?i)^(0x)?" + HEX_REGEX);
-    private static final Pattern HEX_WITH_PREFIX_PATTERN = Pattern.compile("^0x" + HEX_REGEX);
 
     public static String bytesToString(byte[] bytes) {
         return Numeric.toHexString(bytes);
@@ -52,14 +47,29 @@ public class BytesUtils {
         return new String(DatatypeConverter.parseHexBinary(Numeric.cleanHexPrefix(hexString)));
     }
 
+    // region validation
+    // validators run in a single pass over the string and do not allocate
+
+    /**
+     * Checks whether a string is a {@code 0x} prefixed hexadecimal string with at least one digit.
+     */
     public static boolean isHexStringWithPrefix(String hexString) {
-        return hexString != null
-                && HEX_WITH_PREFIX_PATTERN.matcher(hexString).matches();
+        return hasLowerCasePrefix(hexString)
+                && hexString.length() > 2
+                && HexDigits.areDigits(hexString, 2, hexString.length());
     }
 
+    /**
+     * Checks whether a string is a hexadecimal string with at least one digit, the {@code 0x} or {@code 0X}
+     * prefix being optional.
+     */
     public static boolean isHexString(String hexString) {
-        return hexString != null
-                && HEX_PATTERN.matcher(hexString).matches();
+        if (hexString == null) {
+            return false;
+        }
+        final int start = hexString.length() > 1 && hexString.charAt(0) == '0'
+                && (hexString.charAt(1) == 'x' || hexString.charAt(1) == 'X') ? 2 : 0;
+        return hexString.length() > start && HexDigits.areDigits(hexString, start, hexString.length());
     }
 
     /**
@@ -72,16 +82,16 @@ public class BytesUtils {
      */
     public static boolean isHexStringWithPrefixAndProperBytesSize(String hexString,
                                                                   int expectedByteSize) {
+        // an odd number of digits is left-padded when decoded
         return expectedByteSize > 0
                 && isHexStringWithPrefix(hexString)
-                && Numeric.hexStringToByteArray(hexString).length == expectedByteSize;
+                && (hexString.length() - 1) / 2 == expectedByteSize;
     }
 
     public static boolean isNonZeroedHexStringWithPrefixAndProperBytesSize(String hexString,
                                                                            int expectedByteSize) {
         return isHexStringWithPrefixAndProperBytesSize(hexString, expectedByteSize)
-                && !Arrays.equals(Numeric.hexStringToByteArray(hexString),
-                new byte[expectedByteSize]);
+                && HexDigits.hasNonZeroDigit(hexString, 2);
     }
 
     public static boolean isBytes32(String hexString) {
@@ -92,6 +102,14 @@ public class BytesUtils {
         return isNonZeroedHexStringWithPrefixAndProperBytesSize(hexString, BYTES_32_SIZE);
     }
 
+    private static boolean hasLowerCasePrefix(String hexString) {
+        return hexString != null
+                && hexString.length() > 1
+                && hexString.charAt(0) == '0'
+                && hexString.charAt(1) == 'x';
+    }
+    // endregion
+
     /**
      * Convert any hex string input into a bytes32 (full 32 length).
      * Eventually pad with zeros on the left to ensure 32 length.
@@ -1,5 +1,5 @@
 /*
- * Copyright 2021-2024 IEXEC BLOCKCHAIN TECH
+ * Copyright 2021-2026 IEXEC BLOCKCHAIN TECH
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -21,21 +21,22 @@ import lombok.NoArgsConstructor;
 import org.apache.commons.lang3.StringUtils;
 import org.web3j.crypto.Keys;
 
-import java.util.regex.Pattern;
-
 /**
  * Account utility functions.
  */
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public class EthAddress {
 
-    private static final String IGNORE_CASE_ADDRESS_PATTERN = "(?i)^(0x)?[0-9a-f]{40}$";
-    private static final String LOWERCASE_ADDRESS_PATTERN = "^(0x)?[0-9a-f]{40}$";
-    private static final String UPPERCASE_ADDRESS_PATTERN = "^(0x)?[0-9A-F]{40}$";
+    private static final int ADDRESS_HEX_LENGTH = 40;
 
     /**
      * Check if the given string is a valid Ethereum address. Inspired by
      * the web3js implementation.
+     * <p>
+     * The address is checked in a single pass, the EIP-55 checksum of a mixed case address
+     * is verified in place without building the checksum address.
+     * As with the original {@code ^(0x)?[0-9a-f]{40}$} regex based check, a single trailing line terminator
+     * is tolerated when the address is all lower or upper case.
      *
      * @param address in hex
      * @return true if address is valid, false otherwise
@@ -43,22 +44,78 @@ public class EthAddress {
      * web3.js isAddress implementation</a>
      */
     public static boolean validate(String address) {
-        // check address is not empty and contains the valid
-        // number (40 without 0x) and type (alphanumeric) of characters
-        if (StringUtils.isEmpty(address) ||
-                !matchesRegex(address, IGNORE_CASE_ADDRESS_PATTERN)) {
+        if (StringUtils.isEmpty(address)) {
+            return false;
+        }
+        // check address contains the valid number (40 without 0x) and type (alphanumeric) of characters
+        final int end = address.length() - lineTerminatorLength(address);
+        final boolean hasPrefix = address.length() > 1 && address.charAt(0) == '0'
+                && (address.charAt(1) == 'x' || address.charAt(1) == 'X');
+        final int start = hasPrefix ? 2 : 0;
+        if (end - start != ADDRESS_HEX_LENGTH) {
+            return false;
+        }
+        boolean hasLowerCase = false;
+        boolean hasUpperCase = false;
+        for (int i = start; i < end; i++) {
+            final char c = address.charAt(i);
+            if (HexDigits.value(c) < 0) {
+                return false;
+            }
+            hasLowerCase |= c >= 'a';
+            hasUpperCase |= c >= 'A' && c <= 'F';
+        }
+        // an upper case prefix is neither accepted as all lower/upper case nor as checksum address
+        if (hasPrefix && address.charAt(1) == 'X') {
             return false;
         }
         // check for all upper/lower case
-        if (matchesRegex(address, LOWERCASE_ADDRESS_PATTERN)
-                || matchesRegex(address, UPPERCASE_ADDRESS_PATTERN)) {
+        if (!hasLowerCase || !hasUpperCase) {
             return true;
         }
-        // validate checksum address when mixed case
-        return Keys.toChecksumAddress(address).equals(address);
+        // validate checksum address when mixed case, which always starts with 0x
+        if (!hasPrefix) {
+            return false;
+        }
+        if (end != address.length()) {
+            // the line terminator is part of the checksummed value
+            return Keys.toChecksumAddress(address).equals(address);
+        }
+        return hasValidChecksum(address);
     }
 
-    private static boolean matchesRegex(String address, String regex) {
-        return Pattern.compile(regex).matcher(address).find();
+    /**
+     * Verifies the EIP-55 checksum of a {@code 0x} prefixed mixed case address:
+     * a letter is upper case if and only if the matching nibble in the hash of the lower case address is 8 or more.
+     */
+    private static boolean hasValidChecksum(String address) {
+        final KeccakHasher hasher = KeccakHasher.current();
+        for (int i = 2; i < address.length(); i++) {
+            hasher.update((byte) Character.toLowerCase(address.charAt(i)));
+        }
+        final byte[] hash = hasher.digest();
+        for (int i = 0; i < ADDRESS_HEX_LENGTH; i++) {
+            final char c = address.charAt(i + 2);
+            if (c < 'A') {
+                continue;
+            }
+            final int nibble = (hash[i / 2] >> (i % 2 == 0 ? 4 : 0)) & 0x0f;
+            if ((c <= 'F') != (nibble >= 8)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the length of the line terminator ending the string, which a {@code $} regex anchor tolerates.
+     */
+    private static int lineTerminatorLength(String address) {
+        final int length = address.length();
+        final char last = address.charAt(length - 1);
+        if (last == '\n') {
+            return length > 1 && address.charAt(length - 2) == '\r' ? 2 : 1;
+        }
+        return last == '\r' || last == '\u0085' || last == '\u2028' || last == '\u2029' ? 1 : 0;
     }
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright 2020-2025 IEXEC BLOCKCHAIN TECH
+ * Copyright 2020-2026 IEXEC BLOCKCHAIN TECH
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -18,7 +18,6 @@ package com.iexec.commons.poco.utils;
 
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
-import org.bouncycastle.util.Arrays;
 import org.web3j.crypto.Hash;
 import org.web3j.utils.Numeric;
 
@@ -29,13 +28,11 @@ import java.util.Objects;
 public class HashUtils {
 
     public static String concatenateAndHash(String... hexaString) {
-        // convert
-        byte[] res = new byte[0];
+        final KeccakHasher hasher = KeccakHasher.current();
         for (String str : hexaString) {
-            res = Arrays.concatenate(res, Numeric.hexStringToByteArray(str));
+            hasher.updateHex(str);
         }
-        // Hash the result and convert to String
-        return Numeric.toHexString(Hash.sha3(res));
+        return Numeric.toHexString(hasher.digest());
     }
 
     /**
@@ -0,0 +1,175 @@
+/*
+ * Copyright 2026 IEXEC BLOCKCHAIN TECH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.iexec.commons.poco.utils;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.util.Arrays;
+
+/**
+ * Validation of hexadecimal digits and conversions to and from {@code long} values, without intermediate objects.
+ * <p>
+ * Digits are looked up in a table indexed by character, only ASCII hexadecimal digits are accepted.
+ * This is the single hexadecimal parser of the library, ABI and EIP-712 encoders rely on it as well.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class HexDigits {
+
+    private static final char[] LOWER_CASE_DIGITS = "0123456789abcdef".toCharArray();
+    private static final byte[] DIGIT_VALUES = new byte[128];
+
+    static {
+        Arrays.fill(DIGIT_VALUES, (byte) -1);
+        for (int i = 0; i < 10; i++) {
+            DIGIT_VALUES['0' + i] = (byte) i;
+        }
+        for (int i = 0; i < 6; i++) {
+            DIGIT_VALUES['a' + i] = (byte) (10 + i);
+            DIGIT_VALUES['A' + i] = (byte) (10 + i);
+        }
+    }
+
+    /**
+     * Returns the value of a hexadecimal digit, or {@code -1} if the character is not an ASCII hexadecimal digit.
+     */
+    public static int value(final char c) {
+        return c < DIGIT_VALUES.length ? DIGIT_VALUES[c] : -1;
+    }
+
+    /**
+     * Returns the value of the hexadecimal digit found at an index of a string.
+     *
+     * @throws NumberFormatException if the character is not an ASCII hexadecimal digit
+     */
+    public static int digit(final String hexString, final int index) {
+        final int digit = value(hexString.charAt(index));
+        if (digit < 0) {
+            throw new NumberFormatException("Invalid hexadecimal character at index " + index + ": " + hexString);
+        }
+        return digit;
+    }
+
+    /**
+     * Decodes hexadecimal digits found from {@code start} to the end of a string into a field of {@code size} bytes.
+     * <p>
+     * The value is right-aligned in the field and left-padded with zeros, an odd number of digits is left-padded.
+     * Leading zero digits which do not fit in the field are ignored.
+     *
+     * @param hexString String containing the digits
+     * @param start     Index of the first digit
+     * @param output    Buffer receiving the bytes
+     * @param from      Position of the field in the buffer
+     * @param size      Size of the field in bytes
+     * @throws NumberFormatException if a character is not a hexadecimal digit or if the value is larger than the field
+     */
+    public static void decode(final String hexString, final int start, final byte[] output, final int from, final int size) {
+        int index = from + size - 1;
+        for (int i = hexString.length() - 1; i >= start; i -= 2) {
+            final int low = digit(hexString, i);
+            final int high = i > start ? digit(hexString, i - 1) : 0;
+            if (index >= from) {
+                output[index] = (byte) (high << 4 | low);
+            } else if ((high | low) != 0) {
+                throw new NumberFormatException("Value " + hexString + " is larger than " + size + " bytes");
+            }
+            index--;
+        }
+        if (index >= from) {
+            Arrays.fill(output, from, index + 1, (byte) 0);
+        }
+    }
+
+    /**
+     * Checks that all characters from {@code from} to {@code to} (exclusive) are hexadecimal digits.
+     */
+    static boolean areDigits(final String hexString, final int from, final int to) {
+        for (int i = from; i < to; i++) {
+            if (value(hexString.charAt(i)) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Checks that at least one character from {@code from} to the end of the string is not {@code '0'}.
+     */
+    static boolean hasNonZeroDigit(final String hexString, final int from) {
+        for (int i = from; i < hexString.length(); i++) {
+            if (hexString.charAt(i) != '0') {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Parses hexadecimal digits, in any case.
+     *
+     * @param hexString String containing the digits
+     * @param from      Index of the first digit
+     * @param count     Number of digits, at most 16
+     * @return The parsed value
+     * @throws NumberFormatException if a character is not a hexadecimal digit
+     */
+    static long parse(final String hexString, final int from, final int count) {
+        long value = 0;
+        for (int i = from; i < from + count; i++) {
+            value = value << 4 | digit(hexString, i);
+        }
+        return value;
+    }
+
+    /**
+     * Writes the lowest bits of a value as lower case hexadecimal digits.
+     *
+     * @param value  Value to write
+     * @param count  Number of digits to write, at most 16
+     * @param output Buffer receiving the digits
+     * @param from   Index of the first digit in the buffer
+     */
+    static void write(final long value, final int count, final char[] output, final int from) {
+        long remaining = value;
+        for (int i = from + count - 1; i >= from; i--) {
+            output[i] = LOWER_CASE_DIGITS[(int) (remaining & 0x0f)];
+            remaining >>>= 4;
+        }
+    }
+
+    /**
+     * Writes the bytes of a value, most significant first.
+     */
+    static void writeBytes(final long value, final int count, final byte[] output, final int from) {
+        long remaining = value;
+        for (int i = from + count - 1; i >= from; i--) {
+            output[i] = (byte) remaining;
+            remaining >>>= 8;
+        }
+    }
+
+    /**
+     * Reads bytes as a value, most significant first.
+     */
+    static long readBytes(final byte[] input, final int from, final int count) {
+        long value = 0;
+        for (int i = from; i < from + count; i++) {
+            value = value << 8 | (input[i] & 0xff);
+        }
+        return value;
+    }
+}
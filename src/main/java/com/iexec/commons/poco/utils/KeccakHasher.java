@@ -0,0 +1,145 @@
+/*
+ * Copyright 2026 IEXEC BLOCKCHAIN TECH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.iexec.commons.poco.utils;
+
+import org.bouncycastle.crypto.digests.KeccakDigest;
+import org.web3j.utils.Numeric;
+
+/**
+ * Computes Keccak-256 digests from data fed incrementally.
+ * <p>
+ * Input is absorbed as it is received, no concatenated copy of the data is ever built.
+ * Hexadecimal strings are decoded through a small internal buffer.
+ * A hasher is reset after each digest and can be reused, but it is not thread-safe.
+ * {@link #current()} returns an instance confined to the calling thread:
+ * <pre>
+ * final byte[] hash = KeccakHasher.current()
+ *         .updateHex(typeHash)
+ *         .updateUint(chainId)
+ *         .digest();
+ * </pre>
+ * The thread-confined instance must be used to completion before any other code computing hashes is called,
+ * as this code may use the same instance.
+ */
+public class KeccakHasher {
+
+    public static final int DIGEST_SIZE = 32;
+    private static final int BUFFER_SIZE = 128;
+    private static final ThreadLocal<KeccakHasher> CURRENT = ThreadLocal.withInitial(KeccakHasher::new);
+
+    private final KeccakDigest digest = new KeccakDigest(256);
+    private final byte[] buffer = new byte[BUFFER_SIZE];
+
+    /**
+     * Returns the hasher confined to the calling thread, reset to an empty state.
+     */
+    public static KeccakHasher current() {
+        final KeccakHasher hasher = CURRENT.get();
+        hasher.reset();
+        return hasher;
+    }
+
+    /**
+     * Computes the Keccak-256 digest of a byte array with the thread-confined hasher.
+     */
+    public static byte[] keccak256(final byte[] input) {
+        return current().update(input).digest();
+    }
+
+    /**
+     * Discards all data fed since the last digest.
+     */
+    public KeccakHasher reset() {
+        digest.reset();
+        return this;
+    }
+
+    public KeccakHasher update(final byte input) {
+        digest.update(input);
+        return this;
+    }
+
+    public KeccakHasher update(final byte[] input) {
+        digest.update(input, 0, input.length);
+        return this;
+    }
+
+    public KeccakHasher update(final byte[] input, final int offset, final int length) {
+        digest.update(input, offset, length);
+        return this;
+    }
+
+    /**
+     * Feeds the bytes represented by a hexadecimal string.
+     * <p>
+     * The string is decoded like {@link Numeric#hexStringToByteArray(String)} does:
+     * the prefix is optional and an odd number of digits is left-padded.
+     * Invalid characters are not rejected, they are decoded as {@code -1} to produce the same hash as web3j,
+     * only ASCII hexadecimal digits are considered valid.
+     */
+    public KeccakHasher updateHex(final String hexString) {
+        int index = Numeric.containsHexPrefix(hexString) ? 2 : 0;
+        int length = 0;
+        if ((hexString.length() - index) % 2 != 0) {
+            buffer[length++] = (byte) HexDigits.value(hexString.charAt(index++));
+        }
+        for (; index < hexString.length(); index += 2) {
+            if (length == BUFFER_SIZE) {
+                digest.update(buffer, 0, length);
+                length = 0;
+            }
+            buffer[length++] = (byte) ((HexDigits.value(hexString.charAt(index)) << 4)
+                    + HexDigits.value(hexString.charAt(index + 1)));
+        }
+        digest.update(buffer, 0, length);
+        return this;
+    }
+
+    /**
+     * Feeds a {@code uint256} word holding a non-negative value.
+     */
+    public KeccakHasher updateUint(final long value) {
+        for (int i = 0; i < DIGEST_SIZE - Long.BYTES; i++) {
+            digest.update((byte) 0);
+        }
+        for (int shift = Long.SIZE - Byte.SIZE; shift >= 0; shift -= Byte.SIZE) {
+            digest.update((byte) (value >>> shift));
+        }
+        return this;
+    }
+
+    /**
+     * Completes the hash computation and resets the hasher.
+     *
+     * @return The 32 bytes digest
+     */
+    public byte[] digest() {
+        final byte[] hash = new byte[DIGEST_SIZE];
+        digest(hash, 0);
+        return hash;
+    }
+
+    /**
+     * Completes the hash computation into a caller buffer and resets the hasher.
+     *
+     * @param output Buffer receiving the 32 bytes digest
+     * @param offset Position of the digest in the buffer
+     */
+    public void digest(final byte[] output, final int offset) {
+        digest.doFinal(output, offset);
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2020-2025 IEXEC BLOCKCHAIN TECH
+ * Copyright 2020-2026 IEXEC BLOCKCHAIN TECH
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,6 +16,7 @@
 
 package com.iexec.commons.poco.utils;
 
+import com.iexec.commons.poco.metrics.Metrics;
 import lombok.extern.slf4j.Slf4j;
 import net.jodah.failsafe.Failsafe;
 import net.jodah.failsafe.RetryPolicy;
@@ -62,11 +63,13 @@ public class Retryer<T> {
     }
 
     private void logWarnRetry(final String context, final long retryDelay, final int maxRetry, final int attempt) {
+        Metrics.getListener().onRetry(context, attempt);
         log.warn("Failed to \"{}\", about to retry [retryDelay:{}ms, maxRetry:{}, attempt:{}]",
                 context, retryDelay, maxRetry, attempt);
     }
 
     private void logErrorOnMaxRetry(final String context, final long retryDelay, final int maxRetry) {
+        Metrics.getListener().onRetriesExceeded(context, maxRetry + 1);
         log.error("Failed to \"{}\" after max retry [retryDelay:{}ms, maxRetry:{}]",
                 context, retryDelay, maxRetry);
     }
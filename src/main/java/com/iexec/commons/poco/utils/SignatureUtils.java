@@ -1,5 +1,5 @@
 /*
- * Copyright 2020-2025 IEXEC BLOCKCHAIN TECH
+ * Copyright 2020-2026 IEXEC BLOCKCHAIN TECH
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,7 +16,11 @@
 
 package com.iexec.commons.poco.utils;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.iexec.commons.poco.security.CompactSignature;
 import com.iexec.commons.poco.security.Signature;
+import lombok.Value;
 import lombok.extern.slf4j.Slf4j;
 import org.web3j.crypto.*;
 import org.web3j.utils.Numeric;
@@ -31,6 +35,16 @@ import static com.iexec.commons.poco.utils.BytesUtils.stringToBytes;
 public class SignatureUtils {
 
     public static final Signature EMPTY_SIGNATURE = new Signature();
+    private static final int RECOVERED_SIGNERS_CACHE_SIZE = 4096;
+
+    /**
+     * Signers recovered from a (hash, signature) pair.
+     * <p>
+     * The same authorizations are verified again and again, an EC recovery is the most expensive operation here.
+     */
+    static final Cache<RecoveryKey, String> RECOVERED_SIGNERS = Caffeine.newBuilder()
+            .maximumSize(RECOVERED_SIGNERS_CACHE_SIZE)
+            .build();
 
     private SignatureUtils() {
         throw new UnsupportedOperationException();
@@ -40,6 +54,12 @@ public class SignatureUtils {
         return isNonZeroedHexStringWithPrefixAndProperBytesSize(hexString, 65); //32 + 32 + 1
     }
 
+    /**
+     * Checks whether a signature was produced by a signer over a hash, without any message prefix.
+     * <p>
+     * Prefer {@link #doesSignatureMatchesAddress(Signature, String, String)} when the {@code v} value is known,
+     * this method tries all recovery ids.
+     */
     public static boolean doesSignatureMatchesAddress(byte[] signatureR,
                                                       byte[] signatureS,
                                                       String hashToCheck,
@@ -64,22 +84,90 @@ public class SignatureUtils {
         return false;
     }
 
+    /**
+     * Checks whether a signature was produced by a signer over a hash, without any message prefix.
+     * <p>
+     * A single EC recovery is done with the recovery id found in {@code v}, recovered signers are cached.
+     *
+     * @param signature     Signature to check
+     * @param hashToCheck   Signed hash
+     * @param signerAddress Expected signer
+     * @return {@literal true} if the signer was recovered from the signature, {@literal false} otherwise
+     */
+    public static boolean doesSignatureMatchesAddress(Signature signature, String hashToCheck, String signerAddress) {
+        return recoverSigner(hashToCheck, signature).equalsIgnoreCase(signerAddress);
+    }
+
+    /**
+     * Checks whether a signature was produced by a signer over a message prefixed with
+     * {@code "\x19Ethereum Signed Message:\n" + len(message)}.
+     */
     public static boolean isSignatureValid(byte[] message, Signature sign, String signerAddress) {
-        BigInteger publicKey;
-        Sign.SignatureData signatureData = new Sign.SignatureData(sign.getV(), sign.getR(), sign.getS());
+        final String messageHash = Numeric.toHexString(Sign.getEthereumMessageHash(message));
+        return recoverSigner(messageHash, sign).equalsIgnoreCase(signerAddress);
+    }
 
+    // region signer recovery
+
+    /**
+     * Recovers the signer of a hash, without any message prefix.
+     * <p>
+     * A single EC recovery is done with the recovery id found in {@code v}, both {@code 0/1} and {@code 27/28}
+     * values are accepted. Recovered signers are kept in a bounded cache.
+     *
+     * @param hash      Signed hash
+     * @param signature Signature of the hash
+     * @return The signer address in lower case, or an empty string if it cannot be recovered
+     */
+    public static String recoverSigner(String hash, Signature signature) {
+        if (hash == null || signature == null || signature.getValue() == null) {
+            return "";
+        }
+        final CompactSignature compactSignature;
         try {
-            publicKey = Sign.signedPrefixedMessageToKey(message, signatureData);
-        } catch (SignatureException e) {
-            log.error("Failed to recover public key from signature", e);
-            return false;
+            compactSignature = CompactSignature.from(signature);
+        } catch (IllegalArgumentException e) {
+            log.warn("Cannot recover signer from malformed signature [hash:{}]", hash);
+            return "";
+        }
+        return recoverSigner(hash, compactSignature);
+    }
+
+    /**
+     * Recovers the signer of a hash, without any message prefix.
+     *
+     * @see #recoverSigner(String, Signature)
+     */
+    public static String recoverSigner(String hash, CompactSignature signature) {
+        if (hash == null || signature == null) {
+            return "";
         }
+        final RecoveryKey key = new RecoveryKey(hash.toLowerCase(), signature);
+        final String signer = RECOVERED_SIGNERS.get(key, SignatureUtils::recoverSignerUncached);
+        return signer != null ? signer : "";
+    }
 
-        if (publicKey == null) return false;
+    @Value
+    static class RecoveryKey {
+        String hash;
+        CompactSignature signature;
+    }
 
-        String addressRecovered = "0x" + Keys.getAddress(publicKey);
-        return addressRecovered.equalsIgnoreCase(signerAddress);
+    /**
+     * Runs the EC recovery for a cache miss.
+     *
+     * @return The signer address, or {@literal null} to leave the failure uncached
+     */
+    private static String recoverSignerUncached(RecoveryKey key) {
+        try {
+            final BigInteger publicKey = key.getSignature().recoverPublicKey(Numeric.hexStringToByteArray(key.getHash()));
+            return "0x" + Keys.getAddress(publicKey);
+        } catch (SignatureException | RuntimeException e) {
+            log.warn("Failed to recover public key from signature [hash:{}]", key.getHash(), e);
+            return null;
+        }
     }
+    // endregion
 
     public static Signature hashAndSign(String stringToSign, ECKeyPair ecKeyPair) {
         byte[] message = Hash.sha3(BytesUtils.stringToBytes(stringToSign));
@@ -153,8 +241,8 @@ public class SignatureUtils {
      * iExec signedMessageHashToSignerAddress(..) accepts Signature [built on EthereumMessageHash]
      * */
     public static String signedMessageHashToSignerAddress(String messageHash, Signature signature) {
-        Sign.SignatureData signatureData = new Sign.SignatureData(signature.getV()[0], signature.getR(), signature.getS());
-        return signedMessageHashToSignerAddress(messageHash, signatureData);
+        final String prefixedHash = Numeric.toHexString(Sign.getEthereumMessageHash(stringToBytes(messageHash)));
+        return recoverSigner(prefixedHash, signature);
     }
 
     /*
@@ -0,0 +1,77 @@
+/*
+ * Copyright 2026 IEXEC BLOCKCHAIN TECH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.iexec.commons.poco.utils;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Deduplicates concurrent loads of the same key.
+ * <p>
+ * The first caller for a key runs the loader, callers arriving while the load is in progress wait for
+ * and share its result. Nothing is kept once the load completes, a failed load can be retried by the next caller.
+ *
+ * @param <K> Type of the keys
+ * @param <V> Type of the loaded values
+ */
+@Slf4j
+public class SingleFlight<K, V> {
+
+    private final Map<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+
+    /**
+     * Loads the value of a key, or waits for the in-progress load of the same key.
+     *
+     * @param key    Key to load
+     * @param loader Method loading the value, it is only called if no load is in progress for this key
+     * @return The loaded value, which may be {@literal null}
+     */
+    public V load(final K key, final Supplier<V> loader) {
+        final CompletableFuture<V> future = new CompletableFuture<>();
+        final CompletableFuture<V> inProgress = inFlight.putIfAbsent(key, future);
+        if (inProgress != null) {
+            log.debug("Waiting for load in progress [key:{}]", key);
+            try {
+                return inProgress.join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException runtimeException) {
+                    throw runtimeException;
+                }
+                if (e.getCause() instanceof Error error) {
+                    throw error;
+                }
+                throw e;
+            }
+        }
+        try {
+            final V value = loader.get();
+            future.complete(value);
+            return value;
+        } catch (Throwable t) {
+            // waiters must be released whatever the failure, including errors and sneaky thrown exceptions
+            future.completeExceptionally(t);
+            throw t;
+        } finally {
+            inFlight.remove(key, future);
+        }
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright 2026 IEXEC BLOCKCHAIN TECH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.iexec.commons.poco.chain;
+
+import com.fasterxml.jackson.databind.node.TextNode;
+import org.junit.jupiter.api.Test;
+import org.web3j.protocol.Web3j;
+import org.web3j.protocol.http.HttpService;
+import org.web3j.utils.Numeric;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+class BlockHeadTrackerTests {
+
+    private final AtomicLong chainHead = new AtomicLong(100L);
+
+    private JsonRpcStubServer createServer(final boolean mining) throws IOException {
+        return new JsonRpcStubServer(request -> TextNode.valueOf(Numeric.encodeQuantity(
+                BigInteger.valueOf(mining ? chainHead.incrementAndGet() : chainHead.get()))));
+    }
+
+    private BlockHeadTracker createTracker(final JsonRpcStubServer server, final Duration pollInterval) {
+        return new BlockHeadTracker(Web3j.build(new HttpService(server.getUrl())), pollInterval);
+    }
+
+    @Test
+    void shouldShareHeadBetweenCallers() throws IOException {
+        try (JsonRpcStubServer server = createServer(false);
+             BlockHeadTracker tracker = createTracker(server, Duration.ofMinutes(1))) {
+            IntStream.range(0, 50).parallel().forEach(i -> assertThat(tracker.getHead()).isEqualTo(100L));
+            assertThat(server.getReceivedMethods()).allMatch("eth_blockNumber"::equals);
+            // concurrent callers may race on the very first poll, not on later ones
+            assertThat(server.getHttpRequestCount()).isLessThan(5);
+        }
+    }
+
+    @Test
+    void shouldReleaseWaiterWhenBlockIsReached() throws IOException {
+        try (JsonRpcStubServer server = createServer(true);
+             BlockHeadTracker tracker = createTracker(server, Duration.ofMillis(20))) {
+            final long target = tracker.getHead() + 3;
+            assertThat(tracker.awaitBlock(target, Duration.ofSeconds(5))).isTrue();
+            assertThat(tracker.getHead()).isGreaterThanOrEqualTo(target);
+        }
+    }
+
+    @Test
+    void shouldNotReleaseWaiterBeforeTimeoutWhenChainIsStalled() throws IOException {
+        try (JsonRpcStubServer server = createServer(false);
+             BlockHeadTracker tracker = createTracker(server, Duration.ofMillis(20))) {
+            final long start = System.nanoTime();
+            assertThat(tracker.awaitBlock(tracker.getHead() + 1, Duration.ofMillis(200))).isFalse();
+            assertThat(Duration.ofNanos(System.nanoTime() - start)).isGreaterThanOrEqualTo(Duration.ofMillis(200));
+        }
+    }
+
+    @Test
+    void shouldNotifyListenersWhenHeadMovesForward() throws IOException {
+        try (JsonRpcStubServer server = createServer(true);
+             BlockHeadTracker tracker = createTracker(server, Duration.ofMillis(20))) {
+            final List<Long> heads = new CopyOnWriteArrayList<>();
+            tracker.addListener(heads::add);
+            await().atMost(Duration.ofSeconds(5)).until(() -> heads.size() >= 3);
+            assertThat(heads).isSorted().doesNotHaveDuplicates();
+        }
+    }
+
+    @Test
+    void shouldReturnZeroWhenHeadCannotBeRead() throws IOException {
+        try (JsonRpcStubServer server = new JsonRpcStubServer(request -> JsonRpcStubServer.error(-32000, "unavailable"));
+             BlockHeadTracker tracker = createTracker(server, Duration.ofMinutes(1))) {
+            assertThat(tracker.getHead()).isZero();
+            assertThat(tracker.awaitBlock(1L, Duration.ofMillis(50))).isFalse();
+        }
+    }
+}
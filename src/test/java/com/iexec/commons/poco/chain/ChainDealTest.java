@@ -1,5 +1,5 @@
 /*
- * Copyright 2020-2025 IEXEC BLOCKCHAIN TECH
+ * Copyright 2020-2026 IEXEC BLOCKCHAIN TECH
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -19,8 +19,10 @@ package com.iexec.commons.poco.chain;
 import com.iexec.commons.poco.contract.generated.IexecHubContract;
 import com.iexec.commons.poco.utils.BytesUtils;
 import org.junit.jupiter.api.Test;
+import org.web3j.abi.FunctionEncoder;
 
 import java.math.BigInteger;
+import java.util.List;
 
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -41,6 +43,31 @@ class ChainDealTest {
             BigInteger.valueOf(6)
     );
     public static final String CHAIN_DEAL_ID = "chainDeal";
+    // On-chain values are returned with full length addresses
+    private static final IexecHubContract.Deal RAW_DEAL = new IexecHubContract.Deal(
+            new IexecHubContract.Resource("0x0000000000000000000000000000000000000001", "0x0000000000000000000000000000000000000002", BigInteger.valueOf(3)),
+            new IexecHubContract.Resource("0x0000000000000000000000000000000000000004", "0x0000000000000000000000000000000000000005", BigInteger.valueOf(6)),
+            new IexecHubContract.Resource("0x0000000000000000000000000000000000000007", "0x0000000000000000000000000000000000000008", BigInteger.valueOf(9)),
+            BigInteger.valueOf(1),
+            BigInteger.valueOf(5),
+            BytesUtils.stringToBytes("0x0000000000000000000000000000000000000000000000000000000000000001"),
+            "0x0000000000000000000000000000000000000003",
+            "0x0000000000000000000000000000000000000004",
+            "0x0000000000000000000000000000000000000005",
+            "{\"iexec_args\":\"d\u00e9j\u00e0 vu\"}",
+            BigInteger.valueOf(2),
+            BigInteger.valueOf(3),
+            BigInteger.valueOf(4),
+            BigInteger.valueOf(5),
+            BigInteger.valueOf(6)
+    );
+
+    /**
+     * Returns the ABI encoded result of a {@code viewDeal} call.
+     */
+    static String encodeViewDealResult() {
+        return "0x" + FunctionEncoder.encodeConstructor(List.of(RAW_DEAL));
+    }
 
     @Test
     void testEmptyConstructor() {
@@ -183,4 +210,26 @@ class ChainDealTest {
         assertEquals(chainDeal, ChainDeal.builder().build());
     }
     // endregion
+
+    // region fromRawData
+    @Test
+    void shouldDecodeViewDealResult() {
+        final ChainCategory category = ChainCategory.builder().build();
+        final ChainDeal chainDeal = ChainDeal.fromRawData(CHAIN_DEAL_ID, encodeViewDealResult(), category);
+        assertEquals(ChainDeal.parts2ChainDeal(CHAIN_DEAL_ID, RAW_DEAL, category), chainDeal);
+        assertEquals("d\u00e9j\u00e0 vu", chainDeal.getParams().getIexecArgs());
+    }
+
+    @Test
+    void shouldGetEmptyChainDealFromRawDataSinceNoCategory() {
+        final ChainDeal chainDeal = ChainDeal.fromRawData(CHAIN_DEAL_ID, encodeViewDealResult(), null);
+        assertEquals(ChainDeal.builder().build(), chainDeal);
+    }
+
+    @Test
+    void shouldGetEmptyChainDealFromRawDataSinceEmptyResult() {
+        final ChainDeal chainDeal = ChainDeal.fromRawData(CHAIN_DEAL_ID, "0x", ChainCategory.builder().build());
+        assertEquals(ChainDeal.builder().build(), chainDeal);
+    }
+    // endregion
 }
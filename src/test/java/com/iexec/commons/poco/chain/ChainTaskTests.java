@@ -1,5 +1,5 @@
 /*
- * Copyright 2025 IEXEC BLOCKCHAIN TECH
+ * Copyright 2025-2026 IEXEC BLOCKCHAIN TECH
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -20,6 +20,14 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
+import org.web3j.abi.FunctionEncoder;
+import org.web3j.abi.datatypes.Address;
+import org.web3j.abi.datatypes.DynamicArray;
+import org.web3j.abi.datatypes.DynamicBytes;
+import org.web3j.abi.datatypes.generated.Bytes32;
+import org.web3j.abi.datatypes.generated.Uint256;
+import org.web3j.abi.datatypes.generated.Uint8;
+import org.web3j.utils.Numeric;
 
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
@@ -30,6 +38,68 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 class ChainTaskTests {
 
+    private static final String CHAIN_DEAL_ID = "0x1e5a1d0b87c3a4d6b48ef5e1b5e1c7b0a1c5f2d3f3f8fa7e0ab4d66d6ac21b4b";
+    private static final String WORKER1 = "0x1a69b2eb604db8eba185df03ea4f5288dcbbd248";
+    private static final String WORKER2 = "0x87ca4b8a4f8ab1f4b6a1bc3d4d3af2a4e02ea1b4";
+
+    // region fromRawData
+    @Test
+    void shouldDecodeViewTaskABILegacyResult() {
+        final String consensusValue = "0x5b95b5b44b4b5e1f3c7b2e4e8b9c1b3b6f9a0d8e4d2c3b4a5968778695a4b3c2";
+        final String rawData = "0x" + FunctionEncoder.encodeConstructor(List.of(
+                new Uint8(3),
+                new Bytes32(Numeric.hexStringToByteArray(CHAIN_DEAL_ID)),
+                new Uint256(2),
+                new Uint256(300),
+                new Uint256(1_700_000_000L),
+                new Uint256(1_700_000_100L),
+                new Uint256(1_700_000_200L),
+                new Bytes32(Numeric.hexStringToByteArray(consensusValue)),
+                new Uint256(1),
+                new Uint256(2),
+                new DynamicArray<>(Address.class, new Address(WORKER1), new Address(WORKER2)),
+                new DynamicBytes(new byte[]{0x01, 0x02, 0x03})));
+
+        final ChainTask chainTask = ChainTask.fromRawData(rawData);
+
+        assertThat(chainTask).isEqualTo(ChainTask.builder()
+                .status(ChainTaskStatus.COMPLETED)
+                .dealid(CHAIN_DEAL_ID)
+                .idx(2)
+                .chainTaskId(ChainUtils.generateChainTaskId(CHAIN_DEAL_ID, 2))
+                .maxExecutionTime(300_000L)
+                .contributionDeadline(1_700_000_000_000L)
+                .revealDeadline(1_700_000_100_000L)
+                .finalDeadline(1_700_000_200_000L)
+                .consensusValue(consensusValue)
+                .revealCounter(1)
+                .winnerCounter(2)
+                .contributors(List.of(WORKER1, WORKER2))
+                .results("0x010203")
+                .build());
+    }
+
+    @Test
+    void shouldNotDecodeEmptyResult() {
+        assertThat(ChainTask.fromRawData("0x")).isNull();
+    }
+    // endregion
+
+    // region typed accessors
+    @Test
+    void shouldGetIdsAsBytes32() {
+        final String chainTaskId = ChainUtils.generateChainTaskId(CHAIN_DEAL_ID, 1);
+        final ChainTask chainTask = ChainTask.builder()
+                .dealid(CHAIN_DEAL_ID)
+                .chainTaskId(chainTaskId)
+                .build();
+        assertThat(chainTask.getDealidBytes32().toHexString()).isEqualTo(CHAIN_DEAL_ID);
+        assertThat(chainTask.getChainTaskIdBytes32().toHexString()).isEqualTo(chainTaskId);
+        assertThat(ChainTask.builder().build().getChainTaskIdBytes32()).isNull();
+        assertThat(ChainTask.builder().chainTaskId("0x1").build().getChainTaskIdBytes32()).isNull();
+    }
+    // endregion
+
     @Test
     void shouldHaveContributions() {
         final ChainTask chainTask = ChainTask.builder()
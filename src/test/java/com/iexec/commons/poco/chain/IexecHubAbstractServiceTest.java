@@ -1,5 +1,5 @@
 /*
- * Copyright 2020-2025 IEXEC BLOCKCHAIN TECH
+ * Copyright 2020-2026 IEXEC BLOCKCHAIN TECH
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,24 +16,46 @@
 
 package com.iexec.commons.poco.chain;
 
-import com.iexec.commons.poco.contract.generated.IexecHubContract;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
 import com.iexec.commons.poco.dapp.DappType;
+import com.iexec.commons.poco.encoding.AccessorsEncoder;
 import com.iexec.commons.poco.task.TaskDescription;
+import com.iexec.commons.poco.utils.Address;
+import com.iexec.commons.poco.utils.Bytes32;
 import com.iexec.commons.poco.utils.BytesUtils;
+import com.iexec.commons.poco.utils.SingleFlight;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.test.util.ReflectionTestUtils;
-import org.web3j.protocol.core.RemoteFunctionCall;
-import org.web3j.tuples.generated.Tuple12;
-
+import org.web3j.abi.FunctionEncoder;
+import org.web3j.abi.datatypes.DynamicArray;
+import org.web3j.abi.datatypes.DynamicBytes;
+import org.web3j.abi.datatypes.generated.Uint256;
+import org.web3j.abi.datatypes.generated.Uint8;
+import org.web3j.crypto.Credentials;
+
+import java.io.IOException;
 import java.math.BigInteger;
-import java.util.Arrays;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 import static com.iexec.commons.poco.chain.ChainUtils.generateChainTaskId;
+import static org.awaitility.Awaitility.await;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 import static org.mockito.Mockito.*;
 
@@ -44,14 +66,29 @@ class IexecHubAbstractServiceTest {
     public static final int MAX_RETRY = 3;
     private static final String CHAIN_DEAL_ID = BytesUtils.toByte32HexString(0xa);
     private static final String CHAIN_TASK_ID = generateChainTaskId(CHAIN_DEAL_ID, 0);
+    private static final Bytes32 CHAIN_DEAL_KEY = Bytes32.fromHexString(CHAIN_DEAL_ID);
+    private static final Bytes32 CHAIN_TASK_KEY = Bytes32.fromHexString(CHAIN_TASK_ID);
+    private static final String APP_ADDRESS = "0x1a69b2eb604db8eba185df03ea4f5288dcbbd248";
+    private static final String DATASET_ADDRESS = "0x2550e5b60f48742aba19e2b4a7b87a47c0d4a9a7";
+    private static final Credentials CREDENTIALS = Credentials.create(
+            "0x2a46e8c1535792f6689b10d5c882c9363910c30751ec193ae71ec71630077909");
+    private static final String HUB_ADDRESS = "0x3eca1B216A7DF1C7689aEb259fFB83ADFB894E7f";
 
     @Mock
     private IexecHubAbstractService iexecHubAbstractService;
 
+    @BeforeEach
+    void initDealModelsCaches() {
+        // field initializers do not run on mocks
+        ReflectionTestUtils.setField(iexecHubAbstractService, "categories", new ConcurrentHashMap<>());
+        ReflectionTestUtils.setField(iexecHubAbstractService, "apps", Caffeine.newBuilder().build());
+        ReflectionTestUtils.setField(iexecHubAbstractService, "datasets", Caffeine.newBuilder().build());
+    }
+
     // region getChainTask
     @Test
     void shouldGetChainTask() throws Exception {
-        whenViewTaskReturnTaskTuple(CHAIN_TASK_ID, CHAIN_DEAL_ID);
+        whenViewTaskReturnRawData(CHAIN_TASK_ID, encodeViewTaskResult(CHAIN_DEAL_ID, 0));
 
         when(iexecHubAbstractService.getChainTask(CHAIN_TASK_ID))
                 .thenCallRealMethod();
@@ -63,7 +100,7 @@ class IexecHubAbstractServiceTest {
 
     @Test
     void shouldNotGetChainTaskSinceEmptyHexStringDealIdFieldProvesInConsistency() throws Exception {
-        whenViewTaskReturnTaskTuple(CHAIN_TASK_ID, BytesUtils.EMPTY_HEX_STRING_32);
+        whenViewTaskReturnRawData(CHAIN_TASK_ID, encodeViewTaskResult(BytesUtils.EMPTY_HEX_STRING_32, 0));
 
         when(iexecHubAbstractService.getChainTask(CHAIN_TASK_ID))
                 .thenCallRealMethod();
@@ -74,7 +111,7 @@ class IexecHubAbstractServiceTest {
 
     @Test
     void shouldNotGetChainTaskSinceEmptyDealIdFieldProvesInConsistency() throws Exception {
-        whenViewTaskReturnTaskTuple(CHAIN_TASK_ID, "");
+        whenViewTaskReturnRawData(CHAIN_TASK_ID, "0x");
 
         when(iexecHubAbstractService.getChainTask(CHAIN_TASK_ID))
                 .thenCallRealMethod();
@@ -85,7 +122,8 @@ class IexecHubAbstractServiceTest {
 
     @Test
     void shouldNotGetChainTaskSinceWrongDealIdFieldProvesInConsistency() throws Exception {
-        whenViewTaskReturnTaskTuple(CHAIN_TASK_ID, "0x123");
+        // truncated result
+        whenViewTaskReturnRawData(CHAIN_TASK_ID, encodeViewTaskResult(CHAIN_DEAL_ID, 0).substring(0, 2 + 3 * 64));
 
         when(iexecHubAbstractService.getChainTask(CHAIN_TASK_ID))
                 .thenCallRealMethod();
@@ -95,6 +133,49 @@ class IexecHubAbstractServiceTest {
     }
     // endregion
 
+    // region getChainDeal
+    @Test
+    void shouldReadDealOnceForAllTasks() throws Exception {
+        final Web3jAbstractService web3jAbstractService = whenViewDealReturnRawData();
+        when(web3jAbstractService.sendCall(anyString(), anyString(), anyString()))
+                .thenReturn(ChainDealTest.encodeViewDealResult());
+        when(iexecHubAbstractService.getChainCategory(anyLong())).thenReturn(Optional.of(ChainCategory.builder().build()));
+        when(iexecHubAbstractService.getChainDeal(anyString())).thenCallRealMethod();
+
+        final Optional<ChainDeal> chainDeal = iexecHubAbstractService.getChainDeal(CHAIN_DEAL_ID);
+        final Optional<ChainDeal> cachedChainDeal = iexecHubAbstractService.getChainDeal(CHAIN_DEAL_ID.toUpperCase());
+
+        assertThat(chainDeal).isPresent();
+        assertThat(cachedChainDeal).isEqualTo(chainDeal);
+        verify(web3jAbstractService).sendCall(CREDENTIALS.getAddress(), HUB_ADDRESS,
+                AccessorsEncoder.encodeViewDeal(CHAIN_DEAL_ID));
+    }
+
+    @Test
+    void shouldNotCacheInvalidDeal() throws Exception {
+        final Web3jAbstractService web3jAbstractService = whenViewDealReturnRawData();
+        when(web3jAbstractService.sendCall(anyString(), anyString(), anyString()))
+                .thenThrow(new IOException("timeout"))
+                .thenReturn(ChainDealTest.encodeViewDealResult());
+        when(iexecHubAbstractService.getChainCategory(anyLong())).thenReturn(Optional.of(ChainCategory.builder().build()));
+        when(iexecHubAbstractService.getChainDeal(CHAIN_DEAL_ID)).thenCallRealMethod();
+
+        assertThat(iexecHubAbstractService.getChainDeal(CHAIN_DEAL_ID)).isEmpty();
+        assertThat(iexecHubAbstractService.getChainDeal(CHAIN_DEAL_ID)).isPresent();
+        verify(web3jAbstractService, times(2)).sendCall(anyString(), anyString(), anyString());
+    }
+
+    private Web3jAbstractService whenViewDealReturnRawData() {
+        final Web3jAbstractService web3jAbstractService = mock(Web3jAbstractService.class);
+        ReflectionTestUtils.setField(iexecHubAbstractService, "web3jAbstractService", web3jAbstractService);
+        ReflectionTestUtils.setField(iexecHubAbstractService, "credentials", CREDENTIALS);
+        ReflectionTestUtils.setField(iexecHubAbstractService, "iexecHubAddress", HUB_ADDRESS);
+        ReflectionTestUtils.setField(iexecHubAbstractService, "deals",
+                IexecHubAbstractService.buildDealsCache(10, new ConcurrentHashMap<>()));
+        return web3jAbstractService;
+    }
+    // endregion
+
     // region repeatGet
     @Test
     void repeatGetChainTaskWithSuccess() {
@@ -201,6 +282,68 @@ class IexecHubAbstractServiceTest {
         assertThat(taskDescription).isEqualTo(expectedTaskDescription);
     }
 
+    @Test
+    void repeatGetTaskDescriptionFromChainShouldReadDealModelsConcurrently() {
+        final ChainTask task = getMockTask();
+        final ChainDeal deal = getMockDeal();
+        // each read only completes once all three reads have started
+        final CountDownLatch latch = new CountDownLatch(3);
+
+        when(iexecHubAbstractService.repeatGetChainTask(CHAIN_TASK_ID, RETRY_DELAY, MAX_RETRY))
+                .thenReturn(Optional.of(task));
+        when(iexecHubAbstractService.repeatGetChainDeal(CHAIN_DEAL_ID, RETRY_DELAY, MAX_RETRY))
+                .thenReturn(Optional.of(deal));
+        when(iexecHubAbstractService.getChainCategory(anyLong()))
+                .thenAnswer(invocation -> awaitAll(latch, ChainCategory.builder().build()));
+        when(iexecHubAbstractService.getChainApp(anyString()))
+                .thenAnswer(invocation -> awaitAll(latch, ChainApp.builder().build()));
+        when(iexecHubAbstractService.getChainDataset(anyString()))
+                .thenAnswer(invocation -> awaitAll(latch, ChainDataset.builder().build()));
+
+        when(iexecHubAbstractService.repeatGetTaskDescriptionFromChain(CHAIN_TASK_ID, RETRY_DELAY, MAX_RETRY))
+                .thenCallRealMethod();
+        final Optional<TaskDescription> taskDescription = iexecHubAbstractService
+                .repeatGetTaskDescriptionFromChain(CHAIN_TASK_ID, RETRY_DELAY, MAX_RETRY);
+
+        assertThat(taskDescription).isPresent();
+        verify(iexecHubAbstractService).getChainCategory(anyLong());
+        verify(iexecHubAbstractService).getChainApp(anyString());
+        verify(iexecHubAbstractService).getChainDataset(anyString());
+    }
+
+    @Test
+    void repeatGetTaskDescriptionFromChainShouldNotReadCachedDealModels() {
+        final ChainTask task = getMockTask();
+        final ChainDeal deal = getMockDeal();
+        final Map<Long, ChainCategory> categories = new ConcurrentHashMap<>();
+        categories.put(deal.getCategory().longValue(), ChainCategory.builder().build());
+        final Cache<Address, ChainApp> apps = Caffeine.newBuilder().build();
+        apps.put(Address.fromHexString(APP_ADDRESS), ChainApp.builder().build());
+        final Cache<Address, ChainDataset> datasets = Caffeine.newBuilder().build();
+        datasets.put(Address.fromHexString(DATASET_ADDRESS), ChainDataset.builder().build());
+        ReflectionTestUtils.setField(iexecHubAbstractService, "categories", categories);
+        ReflectionTestUtils.setField(iexecHubAbstractService, "apps", apps);
+        ReflectionTestUtils.setField(iexecHubAbstractService, "datasets", datasets);
+
+        when(iexecHubAbstractService.repeatGetChainTask(CHAIN_TASK_ID, RETRY_DELAY, MAX_RETRY))
+                .thenReturn(Optional.of(task));
+        when(iexecHubAbstractService.repeatGetChainDeal(CHAIN_DEAL_ID, RETRY_DELAY, MAX_RETRY))
+                .thenReturn(Optional.of(deal));
+        when(iexecHubAbstractService.repeatGetTaskDescriptionFromChain(CHAIN_TASK_ID, RETRY_DELAY, MAX_RETRY))
+                .thenCallRealMethod();
+
+        assertThat(iexecHubAbstractService.repeatGetTaskDescriptionFromChain(CHAIN_TASK_ID, RETRY_DELAY, MAX_RETRY))
+                .isPresent();
+        verify(iexecHubAbstractService, never()).getChainCategory(anyLong());
+        verify(iexecHubAbstractService, never()).getChainApp(anyString());
+        verify(iexecHubAbstractService, never()).getChainDataset(anyString());
+    }
+
+    private <T> Optional<T> awaitAll(final CountDownLatch latch, final T value) throws InterruptedException {
+        latch.countDown();
+        return latch.await(5, TimeUnit.SECONDS) ? Optional.of(value) : Optional.empty();
+    }
+
     @Test
     void repeatGetTaskDescriptionFromChainWithTaskFailure() {
         when(iexecHubAbstractService.repeatGetChainTask(CHAIN_TASK_ID, RETRY_DELAY, MAX_RETRY))
@@ -233,6 +376,202 @@ class IexecHubAbstractServiceTest {
     }
     // endregion
 
+    // region getTaskDescription
+    @Test
+    void shouldCacheTaskDescription() {
+        ReflectionTestUtils.setField(iexecHubAbstractService, "taskDescriptions",
+                IexecHubAbstractService.buildTaskDescriptionsCache(10));
+        ReflectionTestUtils.setField(iexecHubAbstractService, "taskDescriptionLoads", new SingleFlight<>());
+        final TaskDescription taskDescription = TaskDescription.builder()
+                .chainTaskId(CHAIN_TASK_ID)
+                .finalDeadline(Instant.now().plus(1, ChronoUnit.HOURS).toEpochMilli())
+                .build();
+        when(iexecHubAbstractService.repeatGetTaskDescriptionFromChain(eq(CHAIN_TASK_ID), anyLong(), anyInt()))
+                .thenReturn(Optional.of(taskDescription));
+        when(iexecHubAbstractService.getTaskDescription(CHAIN_TASK_ID)).thenCallRealMethod();
+        when(iexecHubAbstractService.getTaskDescriptionsCacheStats()).thenCallRealMethod();
+
+        assertThat(iexecHubAbstractService.getTaskDescription(CHAIN_TASK_ID)).isEqualTo(taskDescription);
+        assertThat(iexecHubAbstractService.getTaskDescription(CHAIN_TASK_ID)).isEqualTo(taskDescription);
+
+        verify(iexecHubAbstractService).repeatGetTaskDescriptionFromChain(eq(CHAIN_TASK_ID), anyLong(), anyInt());
+        final CacheStats stats = iexecHubAbstractService.getTaskDescriptionsCacheStats();
+        assertThat(stats.hitCount()).isOne();
+        assertThat(stats.missCount()).isOne();
+    }
+
+    @Test
+    void shouldShareTaskDescriptionReadBetweenConcurrentCallers() throws Exception {
+        ReflectionTestUtils.setField(iexecHubAbstractService, "taskDescriptions",
+                IexecHubAbstractService.buildTaskDescriptionsCache(10));
+        ReflectionTestUtils.setField(iexecHubAbstractService, "taskDescriptionLoads", new SingleFlight<>());
+        final TaskDescription taskDescription = TaskDescription.builder().chainTaskId(CHAIN_TASK_ID).build();
+        final CountDownLatch readStarted = new CountDownLatch(1);
+        final CountDownLatch releaseRead = new CountDownLatch(1);
+        when(iexecHubAbstractService.repeatGetTaskDescriptionFromChain(eq(CHAIN_TASK_ID), anyLong(), anyInt()))
+                .thenAnswer(invocation -> {
+                    readStarted.countDown();
+                    releaseRead.await(5, TimeUnit.SECONDS);
+                    return Optional.of(taskDescription);
+                });
+        when(iexecHubAbstractService.getTaskDescription(CHAIN_TASK_ID)).thenCallRealMethod();
+
+        final ExecutorService executor = Executors.newFixedThreadPool(50);
+        try {
+            final List<Future<TaskDescription>> results = new ArrayList<>();
+            results.add(executor.submit(() -> iexecHubAbstractService.getTaskDescription(CHAIN_TASK_ID)));
+            assertThat(readStarted.await(5, TimeUnit.SECONDS)).isTrue();
+            for (int i = 1; i < 50; i++) {
+                results.add(executor.submit(() -> iexecHubAbstractService.getTaskDescription(CHAIN_TASK_ID)));
+            }
+            releaseRead.countDown();
+            for (final Future<TaskDescription> result : results) {
+                assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo(taskDescription);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        verify(iexecHubAbstractService).repeatGetTaskDescriptionFromChain(eq(CHAIN_TASK_ID), anyLong(), anyInt());
+    }
+
+    @Test
+    void shouldNotCacheFailedTaskDescriptionRead() {
+        ReflectionTestUtils.setField(iexecHubAbstractService, "taskDescriptions",
+                IexecHubAbstractService.buildTaskDescriptionsCache(10));
+        ReflectionTestUtils.setField(iexecHubAbstractService, "taskDescriptionLoads", new SingleFlight<>());
+        final TaskDescription taskDescription = TaskDescription.builder().chainTaskId(CHAIN_TASK_ID).build();
+        when(iexecHubAbstractService.repeatGetTaskDescriptionFromChain(eq(CHAIN_TASK_ID), anyLong(), anyInt()))
+                .thenReturn(Optional.empty())
+                .thenReturn(Optional.of(taskDescription));
+        when(iexecHubAbstractService.getTaskDescription(CHAIN_TASK_ID)).thenCallRealMethod();
+
+        assertThat(iexecHubAbstractService.getTaskDescription(CHAIN_TASK_ID)).isNull();
+        assertThat(iexecHubAbstractService.getTaskDescription(CHAIN_TASK_ID)).isEqualTo(taskDescription);
+        verify(iexecHubAbstractService, times(2)).repeatGetTaskDescriptionFromChain(eq(CHAIN_TASK_ID), anyLong(), anyInt());
+    }
+
+    @Test
+    void shouldExpireTaskDescriptionAfterFinalDeadline() {
+        final Cache<Bytes32, TaskDescription> cache = IexecHubAbstractService.buildTaskDescriptionsCache(10);
+        final TaskDescription taskDescription = TaskDescription.builder()
+                .chainTaskId(CHAIN_TASK_ID)
+                .finalDeadline(Instant.now().plusMillis(100).toEpochMilli())
+                .build();
+        cache.put(CHAIN_TASK_KEY, taskDescription);
+        assertThat(cache.getIfPresent(CHAIN_TASK_KEY)).isEqualTo(taskDescription);
+        await().atMost(5, TimeUnit.SECONDS)
+                .until(() -> cache.getIfPresent(CHAIN_TASK_KEY) == null);
+    }
+
+    @Test
+    void shouldExpireDealAfterFinalDeadline() {
+        final Cache<Bytes32, ChainDeal> cache = IexecHubAbstractService.buildDealsCache(10,
+                Map.of(0L, ChainCategory.builder().maxExecutionTime(100).build()));
+        // final deadline is start time plus 10 times the max execution time
+        final ChainDeal chainDeal = ChainDeal.builder()
+                .chainDealId(CHAIN_DEAL_ID)
+                .category(BigInteger.ZERO)
+                .startTime(BigInteger.valueOf(Instant.now().getEpochSecond()))
+                .build();
+        cache.put(CHAIN_DEAL_KEY, chainDeal);
+        assertThat(cache.getIfPresent(CHAIN_DEAL_KEY)).isEqualTo(chainDeal);
+        await().atMost(5, TimeUnit.SECONDS)
+                .until(() -> cache.getIfPresent(CHAIN_DEAL_KEY) == null);
+    }
+
+    @Test
+    void shouldExpireDealWithoutCachedCategoryAfterBoundedDelay() {
+        final Cache<Bytes32, ChainDeal> cache = IexecHubAbstractService.buildDealsCache(10, Map.of());
+        final ChainDeal chainDeal = ChainDeal.builder()
+                .chainDealId(CHAIN_DEAL_ID)
+                .category(BigInteger.ZERO)
+                .startTime(BigInteger.ONE)
+                .build();
+        cache.put(CHAIN_DEAL_KEY, chainDeal);
+        assertThat(cache.getIfPresent(CHAIN_DEAL_KEY)).isEqualTo(chainDeal);
+        assertThat(cache.policy().expireVariably().orElseThrow().getExpiresAfter(CHAIN_DEAL_KEY))
+                .hasValueSatisfying(expiresAfter ->
+                        assertThat(expiresAfter).isLessThanOrEqualTo(IexecHubAbstractService.UNKNOWN_DEADLINE_TTL));
+    }
+
+    @Test
+    void shouldEvictTaskDescriptionsWhenCacheIsFull() {
+        final Cache<Bytes32, TaskDescription> cache = IexecHubAbstractService.buildTaskDescriptionsCache(10);
+        for (int i = 0; i < 100; i++) {
+            final String chainTaskId = generateChainTaskId(CHAIN_DEAL_ID, i);
+            cache.put(Bytes32.fromHexString(chainTaskId), TaskDescription.builder().chainTaskId(chainTaskId).build());
+        }
+        cache.cleanUp();
+        assertThat(cache.estimatedSize()).isEqualTo(10);
+        assertThat(cache.stats().evictionCount()).isEqualTo(90);
+    }
+
+    @Test
+    void shouldPurgeTask() {
+        final Cache<Bytes32, TaskDescription> cache = IexecHubAbstractService.buildTaskDescriptionsCache(10);
+        cache.put(CHAIN_TASK_KEY, TaskDescription.builder().chainTaskId(CHAIN_TASK_ID).build());
+        ReflectionTestUtils.setField(iexecHubAbstractService, "taskDescriptions", cache);
+        when(iexecHubAbstractService.purgeTask(CHAIN_TASK_ID)).thenCallRealMethod();
+
+        assertThat(iexecHubAbstractService.purgeTask(CHAIN_TASK_ID)).isTrue();
+        assertThat(iexecHubAbstractService.purgeTask(CHAIN_TASK_ID)).isFalse();
+        assertThat(cache.getIfPresent(CHAIN_TASK_KEY)).isNull();
+    }
+    // endregion
+
+    // region prefetchTaskDescriptions
+    @Test
+    void shouldPrefetchInitializedTasksOfDeal() throws Exception {
+        final Web3jAbstractService web3jAbstractService = mock(Web3jAbstractService.class);
+        final Cache<Bytes32, TaskDescription> cache = IexecHubAbstractService.buildTaskDescriptionsCache(10);
+        ReflectionTestUtils.setField(iexecHubAbstractService, "web3jAbstractService", web3jAbstractService);
+        ReflectionTestUtils.setField(iexecHubAbstractService, "credentials", CREDENTIALS);
+        ReflectionTestUtils.setField(iexecHubAbstractService, "iexecHubAddress", HUB_ADDRESS);
+        ReflectionTestUtils.setField(iexecHubAbstractService, "taskDescriptions", cache);
+        ReflectionTestUtils.setField(iexecHubAbstractService, "retryDelay", (long) RETRY_DELAY);
+        ReflectionTestUtils.setField(iexecHubAbstractService, "maxRetries", MAX_RETRY);
+        final ChainDeal deal = ChainDeal.builder()
+                .chainDealId(CHAIN_DEAL_ID)
+                .dappPointer("0x1")
+                .dataPointer("0x2")
+                .category(BigInteger.ZERO)
+                .params(DealParams.builder().build())
+                .startTime(BigInteger.TEN)
+                .botFirst(BigInteger.ZERO)
+                .botSize(BigInteger.valueOf(3))
+                .build();
+        when(iexecHubAbstractService.repeatGetChainDeal(CHAIN_DEAL_ID, RETRY_DELAY, MAX_RETRY))
+                .thenReturn(Optional.of(deal));
+        when(iexecHubAbstractService.getChainCategory(anyLong()))
+                .thenReturn(Optional.of(ChainCategory.builder().build()));
+        when(iexecHubAbstractService.getChainApp(anyString()))
+                .thenReturn(Optional.of(ChainApp.builder().build()));
+        when(iexecHubAbstractService.getChainDataset(anyString()))
+                .thenReturn(Optional.of(ChainDataset.builder().build()));
+        // tasks 0 and 2 are initialized, task 1 is not
+        when(web3jAbstractService.sendCallBatch(anyList())).thenReturn(List.of(
+                CallResult.success(encodeViewTaskResult(CHAIN_DEAL_ID, 0)),
+                CallResult.success(encodeViewTaskResult(BytesUtils.EMPTY_HEX_STRING_32, 0)),
+                CallResult.success(encodeViewTaskResult(CHAIN_DEAL_ID, 2))));
+        when(iexecHubAbstractService.prefetchTaskDescriptions(CHAIN_DEAL_ID)).thenCallRealMethod();
+
+        assertThat(iexecHubAbstractService.prefetchTaskDescriptions(CHAIN_DEAL_ID)).isEqualTo(2);
+
+        verify(web3jAbstractService).sendCallBatch(argThat(calls -> calls.size() == 3));
+        assertThat(cache.getIfPresent(Bytes32.fromHexString(generateChainTaskId(CHAIN_DEAL_ID, 0)))).isNotNull();
+        assertThat(cache.getIfPresent(Bytes32.fromHexString(generateChainTaskId(CHAIN_DEAL_ID, 1)))).isNull();
+        assertThat(cache.getIfPresent(Bytes32.fromHexString(generateChainTaskId(CHAIN_DEAL_ID, 2)))).isNotNull();
+    }
+
+    private String encodeViewTaskResult(final String chainDealId, final int taskIndex) {
+        return "0x" + FunctionEncoder.encodeConstructor(List.of(
+                new Uint8(1), new org.web3j.abi.datatypes.generated.Bytes32(BytesUtils.stringToBytes(chainDealId)), new Uint256(taskIndex),
+                new Uint256(1), new Uint256(1), new Uint256(1), new Uint256(Instant.now().getEpochSecond() + 3600),
+                new org.web3j.abi.datatypes.generated.Bytes32(new byte[32]), new Uint256(0), new Uint256(0),
+                new DynamicArray<>(org.web3j.abi.datatypes.Address.class, List.of()), new DynamicBytes(new byte[0])));
+    }
+    // endregion
+
     // region isTeeTask
     @Test
     void shouldReturnFalseWhenTaskCanNotBeRetrieved() {
@@ -258,14 +597,14 @@ class IexecHubAbstractServiceTest {
     }
     // endregion
 
-    private void whenViewTaskReturnTaskTuple(String chainTaskId, String chainDealId) throws Exception {
-        IexecHubContract iexecHubContract = mock(IexecHubContract.class);
-        ReflectionTestUtils.setField(iexecHubAbstractService, "iexecHubContract", iexecHubContract);
-        RemoteFunctionCall getTaskRemoteFunctionCall = mock(RemoteFunctionCall.class);
-        when(iexecHubContract.viewTaskABILegacy(BytesUtils.stringToBytes(chainTaskId)))
-                .thenReturn(getTaskRemoteFunctionCall);
-        Tuple12 taskTuple = getMockTaskTuple(chainDealId); // requires mock-maker-inline
-        when(getTaskRemoteFunctionCall.send()).thenReturn(taskTuple);
+    private void whenViewTaskReturnRawData(final String chainTaskId, final String rawData) throws IOException {
+        final Web3jAbstractService web3jAbstractService = mock(Web3jAbstractService.class);
+        ReflectionTestUtils.setField(iexecHubAbstractService, "web3jAbstractService", web3jAbstractService);
+        ReflectionTestUtils.setField(iexecHubAbstractService, "credentials", CREDENTIALS);
+        ReflectionTestUtils.setField(iexecHubAbstractService, "iexecHubAddress", HUB_ADDRESS);
+        when(web3jAbstractService.sendCall(CREDENTIALS.getAddress(), HUB_ADDRESS,
+                AccessorsEncoder.encodeViewTaskABILegacy(chainTaskId)))
+                .thenReturn(rawData);
     }
 
     private ChainTask getMockTask() {
@@ -276,28 +615,12 @@ class IexecHubAbstractServiceTest {
                 .build();
     }
 
-    private Tuple12<BigInteger, byte[], BigInteger, BigInteger, BigInteger, BigInteger, BigInteger, byte[], BigInteger, BigInteger, List<String>, byte[]>
-    getMockTaskTuple(String dealId) {
-        return new Tuple12<>(BigInteger.ONE, //active
-                BytesUtils.stringToBytes(dealId), // deal ID
-                BigInteger.ZERO, //task index
-                BigInteger.ONE,
-                BigInteger.ONE,
-                BigInteger.ONE,
-                BigInteger.ONE,
-                BytesUtils.stringToBytes("0x1"),
-                BigInteger.ONE,
-                BigInteger.ONE,
-                Arrays.asList("1", "2"),
-                BytesUtils.stringToBytes("0x1"));
-    }
-
     private ChainDeal getMockDeal() {
         return ChainDeal.builder()
                 .chainApp(ChainApp.builder().multiaddr("").build())
                 .chainCategory(ChainCategory.builder().build())
-                .dappPointer("0x1")
-                .dataPointer("0x2")
+                .dappPointer(APP_ADDRESS)
+                .dataPointer(DATASET_ADDRESS)
                 .category(BigInteger.ZERO)
                 .params(DealParams.builder().build())
                 .startTime(BigInteger.TEN)
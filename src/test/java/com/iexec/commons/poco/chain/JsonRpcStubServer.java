@@ -0,0 +1,135 @@
+/*
+ * Copyright 2026 IEXEC BLOCKCHAIN TECH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.iexec.commons.poco.chain;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Minimal JSON-RPC server answering single and batch requests from a handler function.
+ * <p>
+ * The handler receives a JSON-RPC request and returns either a result node or an {@code error} object node.
+ */
+class JsonRpcStubServer implements AutoCloseable {
+
+    private final ObjectMapper mapper = new ObjectMapper();
+    private final HttpServer server;
+    private final Function<JsonNode, JsonNode> handler;
+    private final AtomicInteger httpRequestCount = new AtomicInteger();
+    private final List<String> receivedMethods = Collections.synchronizedList(new ArrayList<>());
+    private volatile boolean reverseBatchResponses;
+    private volatile int httpStatus = 200;
+
+    JsonRpcStubServer(final Function<JsonNode, JsonNode> handler) throws IOException {
+        this.handler = handler;
+        this.server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        this.server.createContext("/", this::handle);
+        this.server.start();
+    }
+
+    String getUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    int getHttpRequestCount() {
+        return httpRequestCount.get();
+    }
+
+    List<String> getReceivedMethods() {
+        return List.copyOf(receivedMethods);
+    }
+
+    void setReverseBatchResponses(final boolean reverseBatchResponses) {
+        this.reverseBatchResponses = reverseBatchResponses;
+    }
+
+    /**
+     * Answers all following requests with an HTTP error status and an empty body, {@literal 200} restores answers.
+     */
+    void setHttpStatus(final int httpStatus) {
+        this.httpStatus = httpStatus;
+    }
+
+    static JsonNode error(final int code, final String message) {
+        final ObjectNode error = new ObjectMapper().createObjectNode();
+        error.putObject("error").put("code", code).put("message", message);
+        return error;
+    }
+
+    private void handle(final HttpExchange exchange) throws IOException {
+        httpRequestCount.incrementAndGet();
+        final int status = httpStatus;
+        if (status != 200) {
+            exchange.getRequestBody().readAllBytes();
+            exchange.sendResponseHeaders(status, -1);
+            exchange.close();
+            return;
+        }
+        final JsonNode request = mapper.readTree(exchange.getRequestBody());
+        final JsonNode response;
+        if (request.isArray()) {
+            final List<JsonNode> responses = new ArrayList<>();
+            request.forEach(r -> responses.add(answer(r)));
+            if (reverseBatchResponses) {
+                Collections.reverse(responses);
+            }
+            final ArrayNode array = mapper.createArrayNode();
+            responses.forEach(array::add);
+            response = array;
+        } else {
+            response = answer(request);
+        }
+        final byte[] body = mapper.writeValueAsBytes(response);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, body.length);
+        try (OutputStream os = exchange.getResponseBody()) {
+            os.write(body);
+        }
+    }
+
+    private JsonNode answer(final JsonNode request) {
+        receivedMethods.add(request.get("method").asText());
+        final ObjectNode response = mapper.createObjectNode();
+        response.put("jsonrpc", "2.0");
+        response.set("id", request.get("id"));
+        final JsonNode outcome = handler.apply(request);
+        if (outcome != null && outcome.has("error")) {
+            response.set("error", outcome.get("error"));
+        } else {
+            response.set("result", outcome);
+        }
+        return response;
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+}
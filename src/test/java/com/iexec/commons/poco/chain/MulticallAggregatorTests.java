@@ -0,0 +1,102 @@
+/*
+ * Copyright 2026 IEXEC BLOCKCHAIN TECH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.iexec.commons.poco.chain;
+
+import com.iexec.commons.poco.encoding.AccessorsEncoder;
+import com.iexec.commons.poco.encoding.MulticallDataEncoder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.web3j.abi.FunctionEncoder;
+import org.web3j.abi.datatypes.Bool;
+import org.web3j.abi.datatypes.DynamicArray;
+import org.web3j.abi.datatypes.DynamicBytes;
+import org.web3j.abi.datatypes.DynamicStruct;
+import org.web3j.utils.Numeric;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.List;
+
+import static com.iexec.commons.poco.encoding.MulticallDataEncoder.MULTICALL3_ADDRESS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class MulticallAggregatorTests {
+
+    private static final String FROM = "0x1e5A1D0B87c3A4d6B48Ef5E1B5E1C7b0A1C5f2D3";
+    private static final String HUB_ADDRESS = "0x3eca1B216A7DF1C7689aEb259fFB83ADFB894E7f";
+    private static final List<String> PAYLOADS = List.of(
+            AccessorsEncoder.CALLBACKGAS_SELECTOR, AccessorsEncoder.FINAL_DEADLINE_RATIO_SELECTOR);
+
+    @Mock
+    private Web3jAbstractService web3jAbstractService;
+    private MulticallAggregator multicallAggregator;
+
+    @BeforeEach
+    void init() {
+        multicallAggregator = new MulticallAggregator(web3jAbstractService, FROM, MULTICALL3_ADDRESS);
+    }
+
+    @Test
+    void shouldAggregateCallsInSingleCall() throws IOException {
+        final String txData = MulticallDataEncoder.encodeAggregate3(List.of(HUB_ADDRESS, HUB_ADDRESS), PAYLOADS);
+        when(web3jAbstractService.sendCall(FROM, MULTICALL3_ADDRESS, txData))
+                .thenReturn(encodeResults(BigInteger.valueOf(100_000), BigInteger.TEN));
+
+        final List<CallResult> results = multicallAggregator.aggregate(HUB_ADDRESS, PAYLOADS);
+
+        assertThat(results).extracting(CallResult::getValue).containsExactly(
+                Numeric.toHexStringWithPrefixZeroPadded(BigInteger.valueOf(100_000), 64),
+                Numeric.toHexStringWithPrefixZeroPadded(BigInteger.TEN, 64));
+        verify(web3jAbstractService).sendCall(anyString(), anyString(), anyString());
+    }
+
+    @Test
+    void shouldNotSendCallWhenNoPayload() throws IOException {
+        assertThat(multicallAggregator.aggregate(HUB_ADDRESS, List.of())).isEmpty();
+        verifyNoInteractions(web3jAbstractService);
+    }
+
+    @Test
+    void shouldFailWhenMulticallNotDeployed() throws IOException {
+        when(web3jAbstractService.sendCall(anyString(), anyString(), anyString())).thenReturn("0x");
+        assertThatThrownBy(() -> multicallAggregator.aggregate(HUB_ADDRESS, PAYLOADS))
+                .isInstanceOf(IOException.class);
+    }
+
+    @Test
+    void shouldFailWhenResultSizeMismatch() throws IOException {
+        when(web3jAbstractService.sendCall(anyString(), anyString(), anyString()))
+                .thenReturn(encodeResults(BigInteger.ONE));
+        assertThatThrownBy(() -> multicallAggregator.aggregate(HUB_ADDRESS, PAYLOADS))
+                .isInstanceOf(IOException.class);
+    }
+
+    private String encodeResults(final BigInteger... values) {
+        final List<DynamicStruct> results = Arrays.stream(values)
+                .map(value -> new DynamicStruct(new Bool(true),
+                        new DynamicBytes(Numeric.toBytesPadded(value, 32))))
+                .toList();
+        return "0x" + FunctionEncoder.encodeConstructor(List.of(new DynamicArray<>(DynamicStruct.class, results)));
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright 2026 IEXEC BLOCKCHAIN TECH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.iexec.commons.poco.chain;
+
+import com.fasterxml.jackson.databind.node.TextNode;
+import org.junit.jupiter.api.Test;
+import org.web3j.protocol.Web3j;
+import org.web3j.protocol.http.HttpService;
+import org.web3j.utils.Numeric;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class NonceManagerTests {
+
+    private static final String ADDRESS = "0x9cce34f7ab185c7aba1b7c8140d620b4bda941d6";
+
+    private final AtomicLong transactionCount = new AtomicLong(7L);
+
+    private JsonRpcStubServer createServer() throws IOException {
+        return new JsonRpcStubServer(request -> TextNode.valueOf(Numeric.encodeQuantity(BigInteger.valueOf(transactionCount.get()))));
+    }
+
+    private NonceManager createNonceManager(final JsonRpcStubServer server) {
+        return new NonceManager(Web3j.build(new HttpService(server.getUrl())), ADDRESS);
+    }
+
+    @Test
+    void shouldAllocateDistinctNoncesConcurrently() throws IOException {
+        try (JsonRpcStubServer server = createServer()) {
+            final NonceManager nonceManager = createNonceManager(server);
+            final List<BigInteger> nonces = IntStream.range(0, 200).parallel()
+                    .mapToObj(i -> {
+                        try {
+                            return nonceManager.allocate();
+                        } catch (IOException e) {
+                            throw new IllegalStateException(e);
+                        }
+                    })
+                    .toList();
+            assertThat(nonces).containsExactlyInAnyOrderElementsOf(
+                    LongStream.range(7L, 207L).mapToObj(BigInteger::valueOf).toList());
+            assertThat(server.getReceivedMethods()).containsExactly("eth_getTransactionCount");
+        }
+    }
+
+    @Test
+    void shouldGiveBackLastNonceOnSendFailure() throws IOException {
+        try (JsonRpcStubServer server = createServer()) {
+            final NonceManager nonceManager = createNonceManager(server);
+            final BigInteger nonce = nonceManager.allocate();
+            nonceManager.onSendFailure(nonce, "insufficient funds for gas * price + value");
+            assertThat(nonceManager.allocate()).isEqualTo(nonce);
+            assertThat(server.getHttpRequestCount()).isOne();
+        }
+    }
+
+    @Test
+    void shouldSyncAgainOnNonceError() throws IOException {
+        try (JsonRpcStubServer server = createServer()) {
+            final NonceManager nonceManager = createNonceManager(server);
+            final BigInteger nonce = nonceManager.allocate();
+            // another process sent transactions with the same wallet
+            transactionCount.set(12L);
+            nonceManager.onSendFailure(nonce, "nonce too low");
+            assertThat(nonceManager.allocate()).isEqualTo(BigInteger.valueOf(12L));
+            assertThat(server.getHttpRequestCount()).isEqualTo(2);
+        }
+    }
+
+    @Test
+    void shouldSyncAgainOnNonceGap() throws IOException {
+        try (JsonRpcStubServer server = createServer()) {
+            final NonceManager nonceManager = createNonceManager(server);
+            final BigInteger first = nonceManager.allocate();
+            nonceManager.allocate();
+            nonceManager.onSendFailure(first, "execution reverted");
+            assertThat(nonceManager.allocate()).isEqualTo(first);
+            assertThat(server.getHttpRequestCount()).isEqualTo(2);
+        }
+    }
+
+    @Test
+    void shouldNotAllocateWhenTransactionCountCannotBeRead() throws IOException {
+        try (JsonRpcStubServer server = new JsonRpcStubServer(request -> JsonRpcStubServer.error(-32000, "unavailable"))) {
+            final NonceManager nonceManager = createNonceManager(server);
+            assertThatThrownBy(nonceManager::allocate)
+                    .isInstanceOf(IOException.class)
+                    .hasMessageContaining("unavailable");
+        }
+    }
+}
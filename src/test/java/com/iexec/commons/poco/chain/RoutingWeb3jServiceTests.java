@@ -0,0 +1,204 @@
+/*
+ * Copyright 2026 IEXEC BLOCKCHAIN TECH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.iexec.commons.poco.chain;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.TextNode;
+import org.junit.jupiter.api.Test;
+import org.web3j.protocol.Web3j;
+import org.web3j.protocol.core.DefaultBlockParameterName;
+import org.web3j.protocol.exceptions.ClientConnectionException;
+import org.web3j.utils.Numeric;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.web3j.protocol.core.methods.request.Transaction.createEthCallTransaction;
+
+class RoutingWeb3jServiceTests {
+
+    private static final String ADDRESS = "0x1a69b2eb604db8eba185df03ea4f5288dcbbd248";
+    private static final String TX_HASH = "0x" + "ab".repeat(32);
+
+    private static JsonNode answer(final JsonNode request, final AtomicLong head) {
+        return switch (request.get("method").asText()) {
+            case "eth_blockNumber" -> TextNode.valueOf(Numeric.encodeQuantity(BigInteger.valueOf(head.get())));
+            case "eth_sendRawTransaction" -> TextNode.valueOf(TX_HASH);
+            case "eth_getTransactionCount" -> TextNode.valueOf("0x1");
+            default -> TextNode.valueOf("0x");
+        };
+    }
+
+    private static JsonRpcStubServer createServer(final AtomicLong head) throws IOException {
+        return new JsonRpcStubServer(request -> answer(request, head));
+    }
+
+    private static RoutingWeb3jService createService(final JsonRpcStubServer... servers) {
+        final List<String> urls = Arrays.stream(servers).map(JsonRpcStubServer::getUrl).toList();
+        return new RoutingWeb3jService(urls, Duration.ofMinutes(1));
+    }
+
+    private static void ethCall(final Web3j web3j) throws IOException {
+        web3j.ethCall(createEthCallTransaction(ADDRESS, ADDRESS, "0x"), DefaultBlockParameterName.LATEST).send();
+    }
+
+    private static long count(final JsonRpcStubServer server, final String method) {
+        return server.getReceivedMethods().stream().filter(method::equals).count();
+    }
+
+    @Test
+    void shouldParseCommaSeparatedUrls() {
+        assertThat(RoutingWeb3jService.parseUrls("http://a:8545, http://b:8545,,"))
+                .containsExactly("http://a:8545", "http://b:8545");
+        assertThat(RoutingWeb3jService.parseUrls("http://a:8545")).containsExactly("http://a:8545");
+    }
+
+    @Test
+    void shouldRejectEmptyUrlList() {
+        assertThatThrownBy(() -> new RoutingWeb3jService(List.of(), Duration.ofSeconds(5)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void shouldRouteReadsToNodeWithLeastHeadLag() throws IOException {
+        try (JsonRpcStubServer lagging = createServer(new AtomicLong(100L));
+             JsonRpcStubServer upToDate = createServer(new AtomicLong(110L));
+             RoutingWeb3jService service = createService(lagging, upToDate)) {
+            service.probe();
+            final Web3j web3j = Web3j.build(service);
+            for (int i = 0; i < 5; i++) {
+                ethCall(web3j);
+            }
+            assertThat(count(upToDate, "eth_call")).isEqualTo(5);
+            assertThat(count(lagging, "eth_call")).isZero();
+            assertThat(service.getEndpointHealths())
+                    .extracting(RoutingWeb3jService.EndpointHealth::getHeadLag)
+                    .containsExactly(10L, 0L);
+        }
+    }
+
+    @Test
+    void shouldFailOverWhenNodeIsDown() throws IOException {
+        final JsonRpcStubServer down = createServer(new AtomicLong(100L));
+        down.close();
+        try (JsonRpcStubServer up = createServer(new AtomicLong(100L));
+             RoutingWeb3jService service = createService(down, up)) {
+            final Web3j web3j = Web3j.build(service);
+            assertThat(web3j.ethBlockNumber().send().getBlockNumber()).isEqualTo(BigInteger.valueOf(100L));
+            ethCall(web3j);
+            // the failed node is put aside, the second read goes straight to the healthy one
+            assertThat(up.getHttpRequestCount()).isEqualTo(2);
+            final RoutingWeb3jService.EndpointHealth downHealth = service.getEndpointHealths().get(0);
+            assertThat(downHealth.isAvailable()).isFalse();
+            assertThat(downHealth.getErrorRate()).isPositive();
+        }
+    }
+
+    @Test
+    void shouldFailOverWhenNodeIsRateLimited() throws IOException {
+        try (JsonRpcStubServer limited = createServer(new AtomicLong(100L));
+             JsonRpcStubServer up = createServer(new AtomicLong(100L));
+             RoutingWeb3jService service = createService(limited, up)) {
+            limited.setHttpStatus(429);
+            final Web3j web3j = Web3j.build(service);
+            ethCall(web3j);
+            assertThat(limited.getHttpRequestCount()).isOne();
+            assertThat(count(up, "eth_call")).isOne();
+        }
+    }
+
+    @Test
+    void shouldBringNodeBackAfterSuccessfulProbe() throws IOException {
+        try (JsonRpcStubServer flaky = createServer(new AtomicLong(100L));
+             JsonRpcStubServer up = createServer(new AtomicLong(100L));
+             RoutingWeb3jService service = createService(flaky, up)) {
+            flaky.setHttpStatus(503);
+            ethCall(Web3j.build(service));
+            assertThat(service.getEndpointHealths().get(0).isAvailable()).isFalse();
+            flaky.setHttpStatus(200);
+            service.probe();
+            assertThat(service.getEndpointHealths().get(0).isAvailable()).isTrue();
+        }
+    }
+
+    @Test
+    void shouldKeepTransactionsOnSameNodeUntilItFails() throws IOException {
+        final AtomicLong firstHead = new AtomicLong(100L);
+        try (JsonRpcStubServer first = createServer(firstHead);
+             JsonRpcStubServer second = createServer(new AtomicLong(100L));
+             RoutingWeb3jService service = createService(first, second)) {
+            final Web3j web3j = Web3j.build(service);
+            assertThat(web3j.ethSendRawTransaction("0x00").send().getTransactionHash()).isEqualTo(TX_HASH);
+            assertThat(count(first, "eth_sendRawTransaction")).isOne();
+
+            // the first node starts lagging: reads move away, transactions and nonces stay
+            firstHead.set(90L);
+            service.probe();
+            ethCall(web3j);
+            web3j.ethGetTransactionCount(ADDRESS, DefaultBlockParameterName.PENDING).send();
+            web3j.ethSendRawTransaction("0x01").send();
+            assertThat(count(second, "eth_call")).isOne();
+            assertThat(count(first, "eth_getTransactionCount")).isOne();
+            assertThat(count(first, "eth_sendRawTransaction")).isEqualTo(2);
+
+            // the first node fails: transactions move to the second one and stay there once it recovers
+            first.setHttpStatus(503);
+            web3j.ethSendRawTransaction("0x02").send();
+            first.setHttpStatus(200);
+            firstHead.set(100L);
+            service.probe();
+            web3j.ethSendRawTransaction("0x03").send();
+            assertThat(count(second, "eth_sendRawTransaction")).isEqualTo(2);
+            assertThat(count(first, "eth_sendRawTransaction")).isEqualTo(2);
+        }
+    }
+
+    @Test
+    void shouldThrowWhenAllNodesFail() throws IOException {
+        try (JsonRpcStubServer first = createServer(new AtomicLong(100L));
+             JsonRpcStubServer second = createServer(new AtomicLong(100L));
+             RoutingWeb3jService service = createService(first, second)) {
+            first.setHttpStatus(503);
+            second.setHttpStatus(503);
+            final Web3j web3j = Web3j.build(service);
+            assertThatThrownBy(() -> ethCall(web3j))
+                    .isInstanceOf(ClientConnectionException.class)
+                    .satisfies(e -> assertThat(e.getSuppressed()).hasSize(1));
+            assertThat(first.getHttpRequestCount()).isOne();
+            assertThat(second.getHttpRequestCount()).isOne();
+        }
+    }
+
+    @Test
+    void shouldRouteBatchesWithFailover() throws IOException {
+        try (JsonRpcStubServer limited = createServer(new AtomicLong(100L));
+             JsonRpcStubServer up = createServer(new AtomicLong(100L));
+             RoutingWeb3jService service = createService(limited, up)) {
+            limited.setHttpStatus(429);
+            final Web3j web3j = Web3j.build(service);
+            assertThat(web3j.newBatch().add(web3j.ethBlockNumber()).add(web3j.ethChainId()).send().getResponses())
+                    .hasSize(2);
+            assertThat(up.getReceivedMethods()).containsExactly("eth_blockNumber", "eth_chainId");
+        }
+    }
+}
@@ -20,22 +20,32 @@ import com.iexec.commons.poco.eip712.EIP712Domain;
 import com.iexec.commons.poco.eip712.entity.Challenge;
 import com.iexec.commons.poco.tee.TeeUtils;
 import com.iexec.commons.poco.utils.HashUtils;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.TextNode;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 import org.web3j.crypto.Credentials;
 import org.web3j.crypto.Hash;
+import org.web3j.crypto.TransactionDecoder;
 import org.web3j.crypto.WalletUtils;
 import org.web3j.crypto.exception.CipherException;
 import org.web3j.protocol.Web3j;
+import org.web3j.protocol.exceptions.JsonRpcError;
 import org.web3j.protocol.http.HttpService;
 
 import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.FileWriter;
 import java.io.IOException;
+import java.math.BigInteger;
 import java.security.GeneralSecurityException;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 class SignerServiceTests {
@@ -126,6 +136,55 @@ class SignerServiceTests {
     }
     // endregion
 
+    // region signAndSendTransactionWithManagedNonce
+    private static JsonNode answerTransaction(final JsonNode request, final List<BigInteger> sentNonces,
+                                              final AtomicInteger rejectedCount) {
+        return switch (request.get("method").asText()) {
+            case "eth_getTransactionCount" -> TextNode.valueOf("0x3");
+            case "eth_sendRawTransaction" -> {
+                final String rawTx = request.get("params").get(0).asText();
+                if (rejectedCount.getAndDecrement() > 0) {
+                    yield JsonRpcStubServer.error(-32000, "nonce too low");
+                }
+                sentNonces.add(TransactionDecoder.decode(rawTx).getNonce());
+                yield TextNode.valueOf(Hash.sha3(rawTx));
+            }
+            default -> JsonRpcStubServer.error(-32601, "Method not found");
+        };
+    }
+
+    @Test
+    void shouldSendConcurrentTransactionsWithDistinctNonces() throws IOException {
+        final List<BigInteger> sentNonces = new CopyOnWriteArrayList<>();
+        final AtomicInteger rejectedCount = new AtomicInteger();
+        try (JsonRpcStubServer server = new JsonRpcStubServer(request -> answerTransaction(request, sentNonces, rejectedCount))) {
+            final SignerService signer = new SignerService(
+                    Web3j.build(new HttpService(server.getUrl())), CHAIN_ID, Credentials.create(Hash.sha3("")));
+            IntStream.range(0, 5).parallel().forEach(i -> assertDoesNotThrow(() -> signer.signAndSendTransactionWithManagedNonce(
+                    BigInteger.ONE, BigInteger.valueOf(100_000L), "0x0000000000000000000000000000000000000001", "0x")));
+            assertThat(sentNonces).containsExactlyInAnyOrder(
+                    BigInteger.valueOf(3), BigInteger.valueOf(4), BigInteger.valueOf(5), BigInteger.valueOf(6), BigInteger.valueOf(7));
+            assertThat(server.getReceivedMethods()).containsOnlyOnce("eth_getTransactionCount");
+        }
+    }
+
+    @Test
+    void shouldSyncNonceAfterNonceError() throws IOException {
+        final List<BigInteger> sentNonces = new CopyOnWriteArrayList<>();
+        final AtomicInteger rejectedCount = new AtomicInteger(1);
+        try (JsonRpcStubServer server = new JsonRpcStubServer(request -> answerTransaction(request, sentNonces, rejectedCount))) {
+            final SignerService signer = new SignerService(
+                    Web3j.build(new HttpService(server.getUrl())), CHAIN_ID, Credentials.create(Hash.sha3("")));
+            assertThrows(JsonRpcError.class, () -> signer.signAndSendTransactionWithManagedNonce(
+                    BigInteger.ONE, BigInteger.valueOf(100_000L), "0x0000000000000000000000000000000000000001", "0x"));
+            signer.signAndSendTransactionWithManagedNonce(
+                    BigInteger.ONE, BigInteger.valueOf(100_000L), "0x0000000000000000000000000000000000000001", "0x");
+            assertThat(sentNonces).containsExactly(BigInteger.valueOf(3));
+            assertThat(server.getReceivedMethods()).filteredOn("eth_getTransactionCount"::equals).hasSize(2);
+        }
+    }
+    // endregion
+
     // region verifyTransaction
     @Test
     void shouldNotVerifyTransactionFromEmptyHash() throws GeneralSecurityException {
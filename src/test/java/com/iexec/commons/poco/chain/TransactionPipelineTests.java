@@ -0,0 +1,237 @@
+/*
+ * Copyright 2026 IEXEC BLOCKCHAIN TECH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.iexec.commons.poco.chain;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.databind.node.TextNode;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.web3j.crypto.Credentials;
+import org.web3j.crypto.Hash;
+import org.web3j.protocol.Web3j;
+import org.web3j.protocol.core.methods.response.TransactionReceipt;
+import org.web3j.protocol.exceptions.JsonRpcError;
+import org.web3j.protocol.exceptions.TransactionException;
+import org.web3j.protocol.http.HttpService;
+import org.web3j.utils.Numeric;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+class TransactionPipelineTests {
+
+    private static final String TO = "0x0000000000000000000000000000000000000001";
+    private static final BigInteger GAS_PRICE = BigInteger.ONE;
+    private static final BigInteger GAS_LIMIT = BigInteger.valueOf(100_000L);
+
+    private final ObjectMapper mapper = new ObjectMapper();
+    private final AtomicLong blockNumber = new AtomicLong(10L);
+    private final Set<String> sentTxHashes = ConcurrentHashMap.newKeySet();
+    private final Set<String> minedTxHashes = ConcurrentHashMap.newKeySet();
+    private volatile boolean mining = true;
+    private volatile String sendError;
+    // when set, sending transactions blocks until the latch is released
+    private volatile CountDownLatch sendLatch;
+    // services started by a test, their block head polling threads are stopped after each test
+    private final List<Web3jAbstractService> services = new ArrayList<>();
+
+    /**
+     * Simulates a chain where all sent transactions are mined in the next block.
+     */
+    private JsonNode answer(final JsonNode request) {
+        return switch (request.get("method").asText()) {
+            case "eth_blockNumber" -> {
+                if (mining) {
+                    minedTxHashes.addAll(sentTxHashes);
+                }
+                yield TextNode.valueOf(Numeric.encodeQuantity(BigInteger.valueOf(blockNumber.incrementAndGet())));
+            }
+            case "eth_getTransactionCount" -> TextNode.valueOf("0x0");
+            case "eth_sendRawTransaction" -> {
+                awaitSendLatch();
+                if (sendError != null) {
+                    yield JsonRpcStubServer.error(-32000, sendError);
+                }
+                final String txHash = Hash.sha3(request.get("params").get(0).asText());
+                sentTxHashes.add(txHash);
+                yield TextNode.valueOf(txHash);
+            }
+            case "eth_getTransactionReceipt" -> {
+                final String txHash = request.get("params").get(0).asText();
+                if (!minedTxHashes.contains(txHash)) {
+                    yield null;
+                }
+                final ObjectNode receipt = mapper.createObjectNode();
+                receipt.put("transactionHash", txHash);
+                receipt.put("blockNumber", Numeric.encodeQuantity(BigInteger.valueOf(blockNumber.get())));
+                receipt.put("status", "0x1");
+                yield receipt;
+            }
+            default -> JsonRpcStubServer.error(-32601, "Method not found");
+        };
+    }
+
+    private void awaitSendLatch() {
+        final CountDownLatch latch = sendLatch;
+        if (latch == null) {
+            return;
+        }
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @AfterEach
+    void stopServices() {
+        services.forEach(Web3jAbstractService::shutdown);
+    }
+
+    private Web3jAbstractService createService(final JsonRpcStubServer server) {
+        final Web3jAbstractService web3jAbstractService = new Web3jAbstractService(
+                65535, server.getUrl(), Duration.ofMillis(20), 1.0f, 1_000_000L, true) {
+        };
+        services.add(web3jAbstractService);
+        return web3jAbstractService;
+    }
+
+    private TransactionPipeline createPipeline(final JsonRpcStubServer server, final int maxBlocksToWait) {
+        final Web3jAbstractService web3jAbstractService = createService(server);
+        final SignerService signerService = new SignerService(
+                Web3j.build(new HttpService(server.getUrl())), 65535L, Credentials.create(Hash.sha3("")));
+        return new TransactionPipeline(signerService, web3jAbstractService, maxBlocksToWait);
+    }
+
+    @Test
+    void shouldGetReceiptsOfAllSubmittedTransactions() throws Exception {
+        try (JsonRpcStubServer server = new JsonRpcStubServer(this::answer);
+             TransactionPipeline pipeline = createPipeline(server, 5)) {
+            final List<CompletableFuture<TransactionReceipt>> futures = IntStream.range(0, 20)
+                    .mapToObj(i -> pipeline.submit(GAS_PRICE, GAS_LIMIT, TO, "0x"))
+                    .toList();
+            CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).get(10, TimeUnit.SECONDS);
+            assertThat(futures).extracting(future -> future.join().getTransactionHash())
+                    .doesNotHaveDuplicates()
+                    .containsExactlyInAnyOrderElementsOf(sentTxHashes);
+            assertThat(pipeline.getPendingCount()).isZero();
+            assertThat(server.getReceivedMethods()).containsOnlyOnce("eth_getTransactionCount");
+        }
+    }
+
+    @Test
+    void shouldFailWhenTransactionIsNotMinedInTime() throws IOException {
+        mining = false;
+        try (JsonRpcStubServer server = new JsonRpcStubServer(this::answer);
+             TransactionPipeline pipeline = createPipeline(server, 2)) {
+            final CompletableFuture<TransactionReceipt> future = pipeline.submit(GAS_PRICE, GAS_LIMIT, TO, "0x");
+            assertThat(future)
+                    .failsWithin(Duration.ofSeconds(10))
+                    .withThrowableOfType(Exception.class)
+                    .withCauseInstanceOf(TransactionException.class);
+            assertThat(pipeline.getPendingCount()).isZero();
+        }
+    }
+
+    @Test
+    void shouldFailWhenTransactionIsRejected() throws IOException {
+        sendError = "insufficient funds for gas * price + value";
+        try (JsonRpcStubServer server = new JsonRpcStubServer(this::answer);
+             TransactionPipeline pipeline = createPipeline(server, 2)) {
+            final CompletableFuture<TransactionReceipt> future = pipeline.submit(GAS_PRICE, GAS_LIMIT, TO, "0x");
+            assertThat(future)
+                    .failsWithin(Duration.ofSeconds(10))
+                    .withThrowableOfType(Exception.class)
+                    .withCauseInstanceOf(JsonRpcError.class);
+            assertThat(server.getReceivedMethods()).doesNotContain("eth_getTransactionReceipt");
+        }
+    }
+
+    @Test
+    void shouldFailQueuedTransactionsAndFinishSendingOnClose() throws Exception {
+        sendLatch = new CountDownLatch(1);
+        try (JsonRpcStubServer server = new JsonRpcStubServer(this::answer)) {
+            final TransactionPipeline pipeline = createPipeline(server, 2);
+            final List<CompletableFuture<TransactionReceipt>> futures = IntStream.range(0, 3)
+                    .mapToObj(i -> pipeline.submit(GAS_PRICE, GAS_LIMIT, TO, "0x"))
+                    .toList();
+            await().atMost(5, TimeUnit.SECONDS)
+                    .until(() -> server.getReceivedMethods().contains("eth_sendRawTransaction"));
+            final CompletableFuture<Void> closing = CompletableFuture.runAsync(pipeline::close);
+            try {
+                // transactions not sent yet fail right away
+                assertThat(futures.subList(1, 3)).allSatisfy(future -> assertThat(future)
+                        .failsWithin(Duration.ofSeconds(5))
+                        .withThrowableOfType(Exception.class)
+                        .withCauseInstanceOf(IllegalStateException.class));
+                assertThat(closing).isNotDone();
+            } finally {
+                sendLatch.countDown();
+            }
+            closing.get(5, TimeUnit.SECONDS);
+            // the transaction being sent reached the node, its hash is reported
+            assertThat(futures.get(0))
+                    .failsWithin(Duration.ofSeconds(5))
+                    .withThrowableOfType(Exception.class)
+                    .havingCause()
+                    .isInstanceOf(TransactionException.class)
+                    .satisfies(e -> assertThat(((TransactionException) e).getTransactionHash())
+                            .hasValueSatisfying(txHash -> assertThat(sentTxHashes).contains(txHash)));
+        }
+    }
+
+    @Test
+    void shouldFailSubmissionAfterClose() throws IOException {
+        try (JsonRpcStubServer server = new JsonRpcStubServer(this::answer)) {
+            final TransactionPipeline pipeline = createPipeline(server, 2);
+            pipeline.close();
+            assertThat(pipeline.submit(GAS_PRICE, GAS_LIMIT, TO, "0x"))
+                    .failsWithin(Duration.ofSeconds(5))
+                    .withThrowableOfType(Exception.class)
+                    .withCauseInstanceOf(IllegalStateException.class);
+            assertThat(server.getReceivedMethods()).doesNotContain("eth_sendRawTransaction");
+        }
+    }
+
+    @Test
+    void shouldFailTrackingAfterReceiptTrackerIsClosed() throws IOException {
+        try (JsonRpcStubServer server = new JsonRpcStubServer(this::answer)) {
+            final ReceiptTracker receiptTracker = new ReceiptTracker(createService(server), 2);
+            receiptTracker.close();
+            assertThat(receiptTracker.track(Hash.sha3("0x00")))
+                    .failsWithin(Duration.ZERO)
+                    .withThrowableOfType(Exception.class)
+                    .withCauseInstanceOf(TransactionException.class);
+            assertThat(receiptTracker.getPendingCount()).isZero();
+        }
+    }
+}
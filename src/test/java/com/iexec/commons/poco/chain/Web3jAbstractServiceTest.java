@@ -1,5 +1,5 @@
 /*
- * Copyright 2020-2025 IEXEC BLOCKCHAIN TECH
+ * Copyright 2020-2026 IEXEC BLOCKCHAIN TECH
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,16 +16,39 @@
 
 package com.iexec.commons.poco.chain;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.databind.node.TextNode;
+import com.iexec.commons.poco.metrics.Metrics;
+import com.iexec.commons.poco.metrics.MetricsListener;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.web3j.protocol.core.methods.response.TransactionReceipt;
 
+import java.io.IOException;
+import java.nio.file.Path;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.IntStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 class Web3jAbstractServiceTest {
 
+    private static final String FROM = "0x0000000000000000000000000000000000000001";
+    private static final String TO = "0x0000000000000000000000000000000000000002";
+
     private final int chainId = 65535;
     private final String nodeAddress = "http://localhost:8545";
     private final Duration blockTime = Duration.ofSeconds(5);
@@ -33,9 +56,21 @@ class Web3jAbstractServiceTest {
     private final long gasPriceCap = 1_000_000L;
     private final boolean isSidechain = true;
 
-    private final Web3jAbstractService web3jAbstractService =
+    // services started by a test, their block head polling threads are stopped after each test
+    private final List<Web3jAbstractService> services = new ArrayList<>();
+    private final Web3jAbstractService web3jAbstractService = register(
             new Web3jAbstractService(chainId, nodeAddress, blockTime, gasPriceMultiplier, gasPriceCap, isSidechain) {
-            };
+            });
+
+    private Web3jAbstractService register(final Web3jAbstractService service) {
+        services.add(service);
+        return service;
+    }
+
+    @AfterEach
+    void stopServices() {
+        services.forEach(Web3jAbstractService::shutdown);
+    }
 
     @Test
     void shouldCreateInstance() {
@@ -66,4 +101,172 @@ class Web3jAbstractServiceTest {
     }
     // endregion
 
+    // region multiple nodes
+    @Test
+    void shouldRouteCallsAcrossCommaSeparatedNodes() throws IOException {
+        final JsonRpcStubServer down = new JsonRpcStubServer(Web3jAbstractServiceTest::echoCallData);
+        down.close();
+        try (JsonRpcStubServer up = new JsonRpcStubServer(Web3jAbstractServiceTest::echoCallData)) {
+            final Web3jAbstractService service = register(new Web3jAbstractService(
+                    chainId, down.getUrl() + "," + up.getUrl(), blockTime, gasPriceMultiplier, gasPriceCap, isSidechain) {
+            });
+            assertThat(service.sendCall(FROM, TO, "0x01")).isEqualTo("0x0100");
+            assertThat(service.getEndpointHealths())
+                    .extracting(RoutingWeb3jService.EndpointHealth::isAvailable)
+                    .containsExactly(false, true);
+        }
+    }
+
+    @Test
+    void shouldNotReportEndpointHealthsWithSingleNode() {
+        assertThat(web3jAbstractService.getEndpointHealths()).isEmpty();
+    }
+    // endregion
+
+    // region sendCallBatch
+    private static JsonNode echoCallData(final JsonNode request) {
+        final String data = request.get("params").get(0).get("data").asText();
+        if ("0xdead".equals(data)) {
+            // "Reverted 0x626f6f6d" is "boom" hex-encoded
+            final JsonNode error = JsonRpcStubServer.error(-32015, Web3jAbstractService.GENERIC_EVM_ERROR_MESSAGE);
+            ((ObjectNode) error.get("error")).put("data", "Reverted 0x626f6f6d");
+            return error;
+        }
+        return TextNode.valueOf(data + "00");
+    }
+
+    private Web3jAbstractService createService(final JsonRpcStubServer server) {
+        return register(new Web3jAbstractService(chainId, server.getUrl(), blockTime, gasPriceMultiplier, gasPriceCap, isSidechain) {
+        });
+    }
+
+    @Test
+    void shouldSendCallBatchInSingleRoundTrip() throws IOException {
+        try (JsonRpcStubServer server = new JsonRpcStubServer(Web3jAbstractServiceTest::echoCallData)) {
+            final List<CallResult> results = createService(server).sendCallBatch(List.of(
+                    new CallRequest(FROM, TO, "0x01"),
+                    new CallRequest(FROM, TO, "0x02"),
+                    new CallRequest(FROM, TO, "0x03")));
+            assertThat(results).extracting(CallResult::getValue).containsExactly("0x0100", "0x0200", "0x0300");
+            assertThat(results).allMatch(CallResult::isSuccess);
+            assertThat(server.getHttpRequestCount()).isOne();
+        }
+    }
+
+    @Test
+    void shouldMatchBatchResponsesById() throws IOException {
+        try (JsonRpcStubServer server = new JsonRpcStubServer(Web3jAbstractServiceTest::echoCallData)) {
+            server.setReverseBatchResponses(true);
+            final List<CallResult> results = createService(server).sendCallBatch(List.of(
+                    new CallRequest(FROM, TO, "0x01"),
+                    new CallRequest(FROM, TO, "0x02")));
+            assertThat(results).extracting(CallResult::getValue).containsExactly("0x0100", "0x0200");
+        }
+    }
+
+    @Test
+    void shouldDecodeRevertInBatch() throws IOException {
+        try (JsonRpcStubServer server = new JsonRpcStubServer(Web3jAbstractServiceTest::echoCallData)) {
+            final List<CallResult> results = createService(server).sendCallBatch(List.of(
+                    new CallRequest(FROM, TO, "0xdead"),
+                    new CallRequest(FROM, TO, "0x02")));
+            assertThat(results.get(0).isSuccess()).isFalse();
+            assertThat(results.get(0).getError().getMessage()).isEqualTo("boom");
+            assertThat(results.get(0).getError().getCode()).isEqualTo(-32015);
+            assertThatThrownBy(() -> results.get(0).getValueOrThrow()).hasMessage("boom");
+            assertThat(results.get(1).getValueOrThrow()).isEqualTo("0x0200");
+        }
+    }
+
+    @Test
+    void shouldSplitLargeBatch() throws IOException {
+        try (JsonRpcStubServer server = new JsonRpcStubServer(Web3jAbstractServiceTest::echoCallData)) {
+            final List<CallRequest> requests = IntStream.range(0, Web3jAbstractService.MAX_BATCH_SIZE + 1)
+                    .mapToObj(i -> new CallRequest(FROM, TO, String.format("0x%04x", i)))
+                    .toList();
+            final List<CallResult> results = createService(server).sendCallBatch(requests);
+            assertThat(results).hasSize(requests.size());
+            assertThat(results.get(Web3jAbstractService.MAX_BATCH_SIZE).getValue())
+                    .isEqualTo(String.format("0x%04x00", Web3jAbstractService.MAX_BATCH_SIZE));
+            assertThat(server.getHttpRequestCount()).isEqualTo(2);
+        }
+    }
+
+    @Test
+    void shouldNotSendEmptyBatch() throws IOException {
+        try (JsonRpcStubServer server = new JsonRpcStubServer(Web3jAbstractServiceTest::echoCallData)) {
+            assertThat(createService(server).sendCallBatch(List.of())).isEmpty();
+            assertThat(server.getHttpRequestCount()).isZero();
+        }
+    }
+    // endregion
+
+    // region metrics
+    @Test
+    void shouldReportRpcCallsToMetricsListener() throws IOException {
+        final List<String> calls = new CopyOnWriteArrayList<>();
+        Metrics.setListener(new MetricsListener() {
+            @Override
+            public void onRpcCall(final String method, final String selector, final long durationNanos, final boolean failed) {
+                assertThat(durationNanos).isPositive();
+                calls.add(method + " " + selector + " " + failed);
+            }
+        });
+        try (JsonRpcStubServer server = new JsonRpcStubServer(Web3jAbstractServiceTest::echoCallData)) {
+            final Web3jAbstractService service = createService(server);
+            assertThat(service.sendCall(FROM, TO, "0x5b36c66b01")).isEqualTo("0x5b36c66b0100");
+            assertThrows(RuntimeException.class, () -> service.sendCall(FROM, TO, "0xdead"));
+            service.sendCallBatch(List.of(new CallRequest(FROM, TO, "0x01")));
+            assertThat(calls).containsExactly("eth_call 0x5b36c66b false", "eth_call null true", "eth_call_batch null false");
+        } finally {
+            Metrics.setListener(null);
+        }
+    }
+    // endregion
+
+    // region flight recorder
+    @Test
+    void shouldRecordChainCallEvents(@TempDir final Path tempDir) throws IOException {
+        final Path dump = tempDir.resolve("chain-calls.jfr");
+        try (JsonRpcStubServer server = new JsonRpcStubServer(Web3jAbstractServiceTest::echoCallData);
+             Recording recording = new Recording()) {
+            recording.enable("com.iexec.commons.poco.ChainCall").withThreshold(Duration.ZERO);
+            recording.start();
+            final Web3jAbstractService service = createService(server);
+            service.sendCall(FROM, TO, "0x5b36c66b01");
+            assertThrows(RuntimeException.class, () -> service.sendCall(FROM, TO, "0xdead"));
+            recording.stop();
+            recording.dump(dump);
+        }
+        final List<RecordedEvent> events = RecordingFile.readAllEvents(dump);
+        assertThat(events).extracting(event -> event.getString("method") + " " + event.getString("selector")
+                        + " " + event.getString("target") + " " + event.getString("outcome"))
+                .containsExactly("eth_call 0x5b36c66b " + TO + " success", "eth_call null " + TO + " failure");
+    }
+    // endregion
+
+    // region getTransactionReceipts
+    @Test
+    void shouldGetTransactionReceiptsInSingleRoundTrip() throws IOException {
+        final String minedTxHash = "0x" + "1".repeat(64);
+        final String pendingTxHash = "0x" + "2".repeat(64);
+        try (JsonRpcStubServer server = new JsonRpcStubServer(request -> {
+            final String txHash = request.get("params").get(0).asText();
+            if (!minedTxHash.equals(txHash)) {
+                return null;
+            }
+            final ObjectNode receipt = new ObjectMapper().createObjectNode();
+            receipt.put("transactionHash", txHash);
+            receipt.put("status", "0x1");
+            return receipt;
+        })) {
+            final Map<String, TransactionReceipt> receipts = createService(server)
+                    .getTransactionReceipts(List.of(minedTxHash, pendingTxHash));
+            assertThat(receipts).containsOnlyKeys(minedTxHash);
+            assertThat(receipts.get(minedTxHash).isStatusOK()).isTrue();
+            assertThat(server.getHttpRequestCount()).isOne();
+        }
+    }
+    // endregion
+
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright 2021-2023 IEXEC BLOCKCHAIN TECH
+ * Copyright 2021-2026 IEXEC BLOCKCHAIN TECH
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -89,4 +89,12 @@ class EIP712DomainTest {
                 .isEqualTo(domain);
     }
 
+    @Test
+    void shouldComputeDomainSeparatorOnce() throws JsonProcessingException {
+        final EIP712Domain domain = new EIP712Domain(DOMAIN_NAME, DOMAIN_VERSION, DOMAIN_CHAIN_ID, DOMAIN_VERIFYING_CONTRACT);
+        assertThat(domain.getDomainSeparator()).isSameAs(domain.getDomainSeparator());
+        final EIP712Domain deserializedDomain = mapper.readValue(mapper.writeValueAsString(domain), EIP712Domain.class);
+        assertThat(deserializedDomain.getDomainSeparator()).isEqualTo(domain.getDomainSeparator());
+    }
+
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright 2020-2023 IEXEC BLOCKCHAIN TECH
+ * Copyright 2020-2026 IEXEC BLOCKCHAIN TECH
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -19,8 +19,12 @@ package com.iexec.commons.poco.eip712;
 import com.iexec.commons.poco.utils.BytesUtils;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.Test;
+import org.web3j.utils.Numeric;
 
 import java.math.BigInteger;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 class EIP712UtilsTest {
 
@@ -89,4 +93,57 @@ class EIP712UtilsTest {
         String param = "0x0a";
         Assertions.assertThat(EIP712Utils.encodeByteArray(BytesUtils.stringToBytes(param))).isEmpty();
     }
+
+    // region typed encoders
+    @Test
+    void shouldEncodeWordsLikeEncodeData() {
+        final String address = "0x3eca1B216A7DF1C7689aEb259fFB83ADFB894E7f";
+        final String bytes32 = "0xee5c64cd59eaa084f59dbaa8f20b87260c4d6ac35c83214da657681bfe4e7632";
+        final BigInteger largeValue = BigInteger.TWO.pow(256).subtract(BigInteger.ONE);
+        final byte[] buffer = new byte[7 * EIP712Utils.WORD_SIZE];
+        Arrays.fill(buffer, (byte) 0xff);
+        int offset = EIP712Utils.encodeAddress(address, buffer, 0);
+        offset = EIP712Utils.encodeBytes32(bytes32, buffer, offset);
+        offset = EIP712Utils.encodeBytes32("0x0a", buffer, offset);
+        offset = EIP712Utils.encodeUint256(BigInteger.valueOf(12), buffer, offset);
+        offset = EIP712Utils.encodeUint256(largeValue, buffer, offset);
+        offset = EIP712Utils.encodeUint256(11L, buffer, offset);
+        offset = EIP712Utils.encodeString("some text", buffer, offset);
+        Assertions.assertThat(offset).isEqualTo(buffer.length);
+        Assertions.assertThat(Numeric.toHexString(buffer)).isEqualTo("0x"
+                + Numeric.cleanHexPrefix(EIP712Utils.encodeData(address))
+                + Numeric.cleanHexPrefix(EIP712Utils.encodeData(bytes32))
+                + Numeric.cleanHexPrefix(EIP712Utils.encodeData("0x0a"))
+                + Numeric.cleanHexPrefix(EIP712Utils.encodeData(BigInteger.valueOf(12)))
+                + Numeric.cleanHexPrefix(EIP712Utils.encodeData(largeValue))
+                + Numeric.cleanHexPrefix(EIP712Utils.encodeData(11L))
+                + Numeric.cleanHexPrefix(EIP712Utils.encodeData("some text")));
+    }
+
+    @Test
+    void shouldEncodeStringStartingWithHexPrefixAsString() {
+        final byte[] buffer = new byte[EIP712Utils.WORD_SIZE];
+        EIP712Utils.encodeString("0x0a", buffer, 0);
+        Assertions.assertThat(Numeric.toHexString(buffer)).isEqualTo(EIP712Utils.encodeUTF8String("0x0a"));
+    }
+
+    @Test
+    void shouldNotEncodeInvalidWords() {
+        final byte[] buffer = new byte[EIP712Utils.WORD_SIZE];
+        assertThatThrownBy(() -> EIP712Utils.encodeAddress("0x", buffer, 0))
+                .isInstanceOf(NumberFormatException.class);
+        assertThatThrownBy(() -> EIP712Utils.encodeAddress("xyz", buffer, 0))
+                .isInstanceOf(NumberFormatException.class);
+        assertThatThrownBy(() -> EIP712Utils.encodeAddress("0x" + "\u0661".repeat(40), buffer, 0))
+                .isInstanceOf(NumberFormatException.class);
+        assertThatThrownBy(() -> EIP712Utils.encodeAddress("0x1" + "0".repeat(40), buffer, 0))
+                .isInstanceOf(NumberFormatException.class);
+        assertThatThrownBy(() -> EIP712Utils.encodeBytes32("0x0b" + "0".repeat(64), buffer, 0))
+                .isInstanceOf(NumberFormatException.class);
+        assertThatThrownBy(() -> EIP712Utils.encodeUint256(BigInteger.TWO.pow(256), buffer, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> EIP712Utils.encodeUint256(-1L, buffer, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+    // endregion
 }
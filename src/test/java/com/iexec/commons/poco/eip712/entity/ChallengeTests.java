@@ -1,5 +1,5 @@
 /*
- * Copyright 2025 IEXEC BLOCKCHAIN TECH
+ * Copyright 2025-2026 IEXEC BLOCKCHAIN TECH
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -20,12 +20,20 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.iexec.commons.poco.eip712.EIP712Domain;
 import com.iexec.commons.poco.utils.HashUtils;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
 import org.apache.commons.lang3.RandomStringUtils;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.web3j.crypto.Hash;
 import org.web3j.utils.Numeric;
 
+import java.io.IOException;
 import java.math.BigInteger;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -72,4 +80,21 @@ class ChallengeTests {
                 .isEqualTo("0xea5ec041da81859f2c04a4876d5999ed8e66ad221b5b8699ca91f6814693a80e");
     }
 
+    @Test
+    void shouldRecordHashEvent(@TempDir final Path tempDir) throws IOException {
+        final Path dump = tempDir.resolve("eip712.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable("com.iexec.commons.poco.EIP712Hash").withThreshold(Duration.ZERO);
+            recording.start();
+            Challenge.builder().challenge("challenge").build()
+                    .computeHash(new EIP712Domain("COMMON", "1", 15L, null));
+            recording.stop();
+            recording.dump(dump);
+        }
+        final List<RecordedEvent> events = RecordingFile.readAllEvents(dump);
+        assertThat(events).hasSize(1);
+        assertThat(events.get(0).getString("type")).isEqualTo("Challenge");
+        assertThat(events.get(0).getLong("chainId")).isEqualTo(15L);
+    }
+
 }
@@ -0,0 +1,109 @@
+/*
+ * Copyright 2026 IEXEC BLOCKCHAIN TECH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.iexec.commons.poco.encoding;
+
+import org.junit.jupiter.api.Test;
+import org.web3j.abi.FunctionEncoder;
+import org.web3j.abi.datatypes.Address;
+import org.web3j.abi.datatypes.DynamicBytes;
+import org.web3j.abi.datatypes.DynamicStruct;
+import org.web3j.abi.datatypes.Utf8String;
+import org.web3j.abi.datatypes.generated.Bytes32;
+import org.web3j.abi.datatypes.generated.Uint256;
+import org.web3j.utils.Numeric;
+
+import java.math.BigInteger;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AbiReaderTests {
+
+    private static final String OWNER = "0x1e5a1d0b87c3a4d6b48ef5e1b5e1c7b0a1c5f2d3";
+    private static final String CHECKSUM = "0x5125c4ca7176e40d8c5386072a6f262029609a5d3a896fbf592cd965e65098d9";
+
+    /**
+     * Encodes a struct shaped like the {@code App} struct returned by {@code viewApp}, with an extra
+     * {@code uint256} field.
+     */
+    private static String encodeStruct(final String name, final byte[] multiaddr, final BigInteger value) {
+        return "0x" + FunctionEncoder.encodeConstructor(List.of(new DynamicStruct(
+                new Address(OWNER),
+                new Utf8String(name),
+                new DynamicBytes(multiaddr),
+                new Bytes32(Numeric.hexStringToByteArray(CHECKSUM)),
+                new Uint256(value))));
+    }
+
+    @Test
+    void shouldReadStaticAndDynamicValues() {
+        final byte[] multiaddr = new byte[]{1, 2, 3, (byte) 0xff};
+        final BigInteger value = BigInteger.TWO.pow(255);
+        final AbiReader reader = new AbiReader(encodeStruct("déjà vu", multiaddr, value));
+
+        final int offset = reader.readOffset();
+        reader.seek(offset);
+        assertThat(reader.readAddress()).isEqualTo(OWNER);
+        final int nameOffset = offset + reader.readOffset();
+        final int multiaddrOffset = offset + reader.readOffset();
+        assertThat(reader.readBytes32()).isEqualTo(CHECKSUM);
+        assertThat(reader.position()).isEqualTo(offset + 4 * 32);
+        assertThat(reader.readBigInteger()).isEqualTo(value);
+
+        assertThat(reader.readDynamicString(nameOffset)).isEqualTo("déjà vu");
+        assertThat(reader.readDynamicBytes(multiaddrOffset)).isEqualTo(multiaddr);
+        assertThat(reader.readDynamicHexString(multiaddrOffset)).isEqualTo("0x010203ff");
+    }
+
+    @Test
+    void shouldReadEmptyDynamicValueAtEndOfData() {
+        final AbiReader reader = new AbiReader(encodeStruct("", new byte[0], BigInteger.ONE));
+        final int offset = reader.readOffset();
+        reader.seek(offset).skip(2);
+        final int multiaddrOffset = offset + reader.readOffset();
+        assertThat(reader.readDynamicBytes(multiaddrOffset)).isEmpty();
+        assertThat(reader.readDynamicHexString(multiaddrOffset)).isEqualTo("0x");
+    }
+
+    @Test
+    void shouldKeepLowest64BitsOfUint() {
+        final AbiReader reader = new AbiReader("0x" + "f".repeat(48) + "0000000000000102");
+        assertThat(reader.readUint()).isEqualTo(258L);
+    }
+
+    @Test
+    void shouldCountCompleteWords() {
+        assertThat(new AbiReader("0x").wordCount()).isZero();
+        assertThat(new AbiReader("0x" + "0".repeat(64 * 2 + 10)).wordCount()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldNotReadOutOfData() {
+        final AbiReader reader = new AbiReader("0x" + "0".repeat(63) + "2");
+        assertThat(reader.readUint()).isEqualTo(2L);
+        assertThatThrownBy(reader::readUint).isInstanceOf(IndexOutOfBoundsException.class);
+        // length word announces 2 bytes which are missing
+        assertThatThrownBy(() -> reader.readDynamicBytes(0)).isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    @Test
+    void shouldNotReadNonAsciiDigits() {
+        final AbiReader reader = new AbiReader("0x" + "0".repeat(63) + "\u0661");
+        assertThatThrownBy(reader::readUint).isInstanceOf(NumberFormatException.class);
+    }
+}
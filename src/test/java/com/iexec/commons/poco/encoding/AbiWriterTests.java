@@ -0,0 +1,77 @@
+/*
+ * Copyright 2026 IEXEC BLOCKCHAIN TECH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.iexec.commons.poco.encoding;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AbiWriterTests {
+
+    private static final String SELECTOR = "0x12345678";
+
+    @Test
+    void shouldComputeDynamicBytesSize() {
+        assertThat(AbiWriter.dynamicBytesSize(0)).isEqualTo(32);
+        assertThat(AbiWriter.dynamicBytesSize(1)).isEqualTo(64);
+        assertThat(AbiWriter.dynamicBytesSize(32)).isEqualTo(64);
+        assertThat(AbiWriter.dynamicBytesSize(33)).isEqualTo(96);
+    }
+
+    @Test
+    void shouldWriteWordsRightAligned() {
+        final String payload = new AbiWriter(SELECTOR, 3 * 32)
+                .writeWord("0xAbC")
+                .writeWord("0x0000000000000000000000000000000000000000000000000000000000000000001")
+                .writeUint(256)
+                .toHexString();
+        assertThat(payload).isEqualTo(SELECTOR
+                + "0".repeat(61) + "abc"
+                + "0".repeat(63) + "1"
+                + "0".repeat(61) + "100");
+    }
+
+    @Test
+    void shouldWriteOddLengthHexBytesLeftPadded() {
+        assertThat(new AbiWriter(SELECTOR, 64).writeBytes("0xabc").toHexString())
+                .isEqualTo(SELECTOR + "0".repeat(63) + "2" + "0abc" + "0".repeat(60));
+    }
+
+    @Test
+    void shouldNotWriteWordLargerThan32Bytes() {
+        final AbiWriter writer = new AbiWriter(SELECTOR, 32);
+        final String value = "0x1" + "0".repeat(64);
+        assertThatThrownBy(() -> writer.writeWord(value))
+                .isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    void shouldNotWriteInvalidHexString() {
+        final AbiWriter writer = new AbiWriter(SELECTOR, 32);
+        assertThatThrownBy(() -> writer.writeWord("0x")).isInstanceOf(NumberFormatException.class);
+        assertThatThrownBy(() -> writer.writeWord("0xzz")).isInstanceOf(NumberFormatException.class);
+        // non-ASCII digits are rejected
+        assertThatThrownBy(() -> writer.writeWord("0x\u0661")).isInstanceOf(NumberFormatException.class);
+    }
+
+    @Test
+    void shouldNotReturnIncompletePayload() {
+        final AbiWriter writer = new AbiWriter(SELECTOR, 64).writeUint(1);
+        assertThatThrownBy(writer::toHexString).isInstanceOf(IllegalStateException.class);
+    }
+}
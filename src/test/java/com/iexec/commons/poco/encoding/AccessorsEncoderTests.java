@@ -1,5 +1,5 @@
 /*
- * Copyright 2025 IEXEC BLOCKCHAIN TECH
+ * Copyright 2025-2026 IEXEC BLOCKCHAIN TECH
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -17,7 +17,17 @@
 package com.iexec.commons.poco.encoding;
 
 import org.junit.jupiter.api.Test;
+import org.web3j.abi.FunctionEncoder;
+import org.web3j.abi.datatypes.Address;
+import org.web3j.abi.datatypes.Function;
+import org.web3j.abi.datatypes.Type;
+import org.web3j.abi.datatypes.generated.Bytes32;
+import org.web3j.abi.datatypes.generated.Uint256;
 import org.web3j.crypto.Hash;
+import org.web3j.utils.Numeric;
+
+import java.math.BigInteger;
+import java.util.List;
 
 import static com.iexec.commons.poco.encoding.AccessorsEncoder.*;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -40,5 +50,28 @@ class AccessorsEncoderTests {
         assertThat(getSelector("viewScore(address)")).isEqualTo(VIEW_SCORE_SELECTOR);
         assertThat(getSelector("viewApp(address)")).isEqualTo(VIEW_APP_SELECTOR);
         assertThat(getSelector("viewDataset(address)")).isEqualTo(VIEW_DATASET_SELECTOR);
+        assertThat(getSelector("viewDeal(bytes32)")).isEqualTo(VIEW_DEAL_SELECTOR);
+        assertThat(getSelector("viewTaskABILegacy(bytes32)")).isEqualTo(VIEW_TASK_ABI_LEGACY_SELECTOR);
+    }
+
+    @Test
+    void shouldEncodeViewPayloads() {
+        final String address = "0x1e5A1D0B87c3A4d6B48Ef5E1B5E1C7b0A1C5f2D3";
+        final String chainTaskId = "0x5125c4ca7176e40d8c5386072a6f262029609a5d3a896fbf592cd965e65098d9";
+        assertThat(encodeViewAccount(address)).isEqualTo(encode("viewAccount", new Address(address)));
+        assertThat(encodeViewApp(address)).isEqualTo(encode("viewApp", new Address(address)));
+        assertThat(encodeViewCategory(5)).isEqualTo(encode("viewCategory", new Uint256(BigInteger.valueOf(5))));
+        assertThat(encodeViewContribution(chainTaskId, address)).isEqualTo(encode("viewContribution",
+                new Bytes32(Numeric.hexStringToByteArray(chainTaskId)), new Address(address)));
+        assertThat(encodeViewDataset(address)).isEqualTo(encode("viewDataset", new Address(address)));
+        assertThat(encodeViewDeal(chainTaskId)).isEqualTo(encode("viewDeal",
+                new Bytes32(Numeric.hexStringToByteArray(chainTaskId))));
+        assertThat(encodeViewScore(address)).isEqualTo(encode("viewScore", new Address(address)));
+        assertThat(encodeViewTaskABILegacy(chainTaskId)).isEqualTo(encode("viewTaskABILegacy",
+                new Bytes32(Numeric.hexStringToByteArray(chainTaskId))));
+    }
+
+    private String encode(final String name, final Type<?>... inputs) {
+        return FunctionEncoder.encode(new Function(name, List.of(inputs), List.of()));
     }
 }
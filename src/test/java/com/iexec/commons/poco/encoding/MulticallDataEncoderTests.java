@@ -0,0 +1,92 @@
+/*
+ * Copyright 2026 IEXEC BLOCKCHAIN TECH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.iexec.commons.poco.encoding;
+
+import com.iexec.commons.poco.chain.CallResult;
+import org.junit.jupiter.api.Test;
+import org.web3j.abi.FunctionEncoder;
+import org.web3j.abi.datatypes.*;
+import org.web3j.crypto.Hash;
+import org.web3j.utils.Numeric;
+
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MulticallDataEncoderTests {
+
+    private static final String HUB_ADDRESS = "0x3eca1B216A7DF1C7689aEb259fFB83ADFB894E7f";
+    private static final String APP_ADDRESS = "0x1e5A1D0B87c3A4d6B48Ef5E1B5E1C7b0A1C5f2D3";
+
+    @Test
+    void checkSelectorValue() {
+        final String encoded = MulticallDataEncoder.encodeAggregate3(List.of(), List.of());
+        assertThat(encoded).startsWith(Hash.sha3String("aggregate3((address,bool,bytes)[])").substring(0, 10));
+    }
+
+    @Test
+    void shouldEncodeAggregate3LikeWeb3j() {
+        final List<String> payloads = List.of(
+                AccessorsEncoder.encodeViewCategory(0),
+                AccessorsEncoder.encodeViewApp(APP_ADDRESS),
+                AccessorsEncoder.CALLBACKGAS_SELECTOR);
+        final String expected = FunctionEncoder.encode(new Function("aggregate3",
+                List.of(new DynamicArray<>(DynamicStruct.class, payloads.stream()
+                        .map(payload -> new DynamicStruct(
+                                new Address(HUB_ADDRESS),
+                                new Bool(true),
+                                new DynamicBytes(Numeric.hexStringToByteArray(payload))))
+                        .toList())),
+                List.of()));
+        assertThat(MulticallDataEncoder.encodeAggregate3(List.of(HUB_ADDRESS, HUB_ADDRESS, HUB_ADDRESS), payloads))
+                .isEqualTo(expected);
+    }
+
+    @Test
+    void shouldNotEncodeAggregate3WhenSizesDiffer() {
+        final List<String> targets = List.of(HUB_ADDRESS);
+        final List<String> payloads = List.of();
+        assertThatThrownBy(() -> MulticallDataEncoder.encodeAggregate3(targets, payloads))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void shouldDecodeAggregate3Results() {
+        final String value = Numeric.toHexStringWithPrefixZeroPadded(BigInteger.valueOf(42), 64);
+        final String revertData = FunctionEncoder.encode(new Function("Error",
+                List.of(new Utf8String("boom")), List.of()));
+        final String rawData = FunctionEncoder.encodeConstructor(List.of(
+                new DynamicArray<>(DynamicStruct.class,
+                        new DynamicStruct(new Bool(true), new DynamicBytes(Numeric.hexStringToByteArray(value))),
+                        new DynamicStruct(new Bool(false), new DynamicBytes(Numeric.hexStringToByteArray(revertData))),
+                        new DynamicStruct(new Bool(false), new DynamicBytes(new byte[0])),
+                        new DynamicStruct(new Bool(true), new DynamicBytes("abc".getBytes(StandardCharsets.UTF_8))))));
+
+        final List<CallResult> results = MulticallDataEncoder.decodeAggregate3("0x" + rawData);
+
+        assertThat(results).hasSize(4);
+        assertThat(results.get(0)).isEqualTo(CallResult.success(value));
+        assertThat(results.get(1).isSuccess()).isFalse();
+        assertThat(results.get(1).getError().getMessage()).isEqualTo("boom");
+        assertThat(results.get(2).isSuccess()).isFalse();
+        assertThat(results.get(2).getError().getMessage()).isEqualTo("execution reverted");
+        assertThat(results.get(3)).isEqualTo(CallResult.success("0x616263"));
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2025 IEXEC BLOCKCHAIN TECH
+ * Copyright 2025-2026 IEXEC BLOCKCHAIN TECH
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -17,13 +17,95 @@
 package com.iexec.commons.poco.encoding;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.web3j.abi.FunctionEncoder;
+import org.web3j.abi.datatypes.Address;
+import org.web3j.abi.datatypes.DynamicBytes;
+import org.web3j.abi.datatypes.Function;
+import org.web3j.abi.datatypes.Type;
+import org.web3j.abi.datatypes.generated.Bytes32;
+import org.web3j.abi.datatypes.generated.Uint256;
+import org.web3j.utils.Numeric;
 
 import java.math.BigInteger;
+import java.util.List;
+import java.util.Random;
 
 import static com.iexec.commons.poco.encoding.PoCoDataEncoder.GAS_LIMIT_CAP;
 import static org.assertj.core.api.Assertions.assertThat;
 
 class PoCoDataEncoderTests {
+
+    private static final String CHAIN_TASK_ID = "0x5125c4ca7176e40d8c5386072a6f262029609a5d3a896fbf592cd965e65098d9";
+    private static final String DEAL_ID = "0x00000000000000000000000000000000000000000000000000000000000000ff";
+    private static final String RESULT_DIGEST = "0x0000000000000000000000000000000000000000000000000000000000000001";
+    private static final String RESULT_HASH = "0xd51d2a3e1ca0df7b4b9ed3e4ab0ea5ad0f0a4f4cfc1b7a7a0efb5d0f0f1e9a3c";
+    private static final String RESULT_SEAL = "0x1e3e5f0aFC3d7d3b2dF6A4d2cF0E0B1a2c3d4e5f60718293a4b5c6d7e8f90a1b";
+    private static final String ENCLAVE_CHALLENGE = "0x3eca1B216A7DF1C7689aEb259fFB83ADFB894E7f";
+    private static final String SIGNATURE = "0x1b0dca3a5ce3fa0b5d9fd2cc6a3e1c7cd58b4bd9a1c2d9c0d5f3a0e8b58b7b7e5c3a4ac4b57e3ae0fae9c4e7a86e8e7b3e6ee3c5e5c3dd4a1bc1dc2a25c8e9d1c";
+
+    // region golden payloads
+    private static byte[] randomBytes(final int length) {
+        final byte[] bytes = new byte[length];
+        new Random(length).nextBytes(bytes);
+        return bytes;
+    }
+
+    private static String encode(final String name, final Type<?>... inputs) {
+        return FunctionEncoder.encode(new Function(name, List.of(inputs), List.of()));
+    }
+
+    private static Bytes32 bytes32(final String value) {
+        return new Bytes32(Numeric.toBytesPadded(Numeric.toBigInt(value), 32));
+    }
+
+    private static DynamicBytes dynamicBytes(final String value) {
+        return new DynamicBytes(Numeric.hexStringToByteArray(value));
+    }
+
+    @Test
+    void shouldEncodeInitialize() {
+        assertThat(PoCoDataEncoder.encodeInitialize(DEAL_ID, 3))
+                .isEqualTo(encode("initialize", bytes32(DEAL_ID), new Uint256(3)));
+    }
+
+    @Test
+    void shouldEncodeReveal() {
+        assertThat(PoCoDataEncoder.encodeReveal(CHAIN_TASK_ID, RESULT_DIGEST))
+                .isEqualTo(encode("reveal", bytes32(CHAIN_TASK_ID), bytes32(RESULT_DIGEST)));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"0x", "0xabc", SIGNATURE})
+    void shouldEncodeContribute(final String enclaveSign) {
+        assertThat(PoCoDataEncoder.encodeContribute(CHAIN_TASK_ID, RESULT_HASH, RESULT_SEAL, ENCLAVE_CHALLENGE, enclaveSign, SIGNATURE))
+                .isEqualTo(encode("contribute", bytes32(CHAIN_TASK_ID), bytes32(RESULT_HASH), bytes32(RESULT_SEAL),
+                        new Address(ENCLAVE_CHALLENGE), dynamicBytes(enclaveSign), dynamicBytes(SIGNATURE)));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, 31, 32, 33, 100_000})
+    void shouldEncodeFinalize(final int resultsLength) {
+        final byte[] results = randomBytes(resultsLength);
+        final byte[] resultsCallback = randomBytes(resultsLength / 2);
+        assertThat(PoCoDataEncoder.encodeFinalize(CHAIN_TASK_ID, results, resultsCallback))
+                .isEqualTo(encode("finalize", bytes32(CHAIN_TASK_ID), new DynamicBytes(results), new DynamicBytes(resultsCallback)));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, 31, 32, 33, 100_000})
+    void shouldEncodeContributeAndFinalize(final int resultsLength) {
+        final byte[] results = randomBytes(resultsLength);
+        final byte[] resultsCallback = randomBytes(resultsLength / 2);
+        assertThat(PoCoDataEncoder.encodeContributeAndFinalize(CHAIN_TASK_ID, RESULT_DIGEST, results, resultsCallback,
+                ENCLAVE_CHALLENGE, SIGNATURE, SIGNATURE))
+                .isEqualTo(encode("contributeAndFinalize", bytes32(CHAIN_TASK_ID), bytes32(RESULT_DIGEST),
+                        new DynamicBytes(results), new DynamicBytes(resultsCallback), new Address(ENCLAVE_CHALLENGE),
+                        dynamicBytes(SIGNATURE), dynamicBytes(SIGNATURE)));
+    }
+    // endregion
+
     @Test
     void getGasLimitForFunction() {
         assertThat(PoCoDataEncoder.getGasLimitForFunction("initialize"))
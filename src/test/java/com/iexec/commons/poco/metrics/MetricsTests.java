@@ -0,0 +1,79 @@
+/*
+ * Copyright 2026 IEXEC BLOCKCHAIN TECH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.iexec.commons.poco.metrics;
+
+import com.iexec.commons.poco.utils.Retryer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MetricsTests {
+
+    @AfterEach
+    void resetListener() {
+        Metrics.setListener(null);
+    }
+
+    @Test
+    void shouldBeDisabledByDefault() {
+        assertThat(Metrics.getListener()).isSameAs(MetricsListener.NOOP);
+        assertThat(Metrics.isEnabled()).isFalse();
+    }
+
+    @Test
+    void shouldRegisterAndUnregisterListener() {
+        final MetricsListener listener = new MetricsListener() {
+        };
+        Metrics.setListener(listener);
+        assertThat(Metrics.getListener()).isSameAs(listener);
+        assertThat(Metrics.isEnabled()).isTrue();
+        Metrics.setListener(null);
+        assertThat(Metrics.getListener()).isSameAs(MetricsListener.NOOP);
+    }
+
+    @Test
+    void shouldExtractSelector() {
+        assertThat(Metrics.selector("0x5b36c66b" + "0".repeat(64))).isEqualTo("0x5b36c66b");
+        assertThat(Metrics.selector("0x5b36c66b")).isEqualTo("0x5b36c66b");
+        assertThat(Metrics.selector("0x5b36")).isNull();
+        assertThat(Metrics.selector(null)).isNull();
+    }
+
+    @Test
+    void shouldNotifyRetriesAndGiveUp() {
+        final List<String> events = new CopyOnWriteArrayList<>();
+        Metrics.setListener(new MetricsListener() {
+            @Override
+            public void onRetry(final String context, final int attempt) {
+                events.add("retry " + context + " " + attempt);
+            }
+
+            @Override
+            public void onRetriesExceeded(final String context, final int attempts) {
+                events.add("exceeded " + context + " " + attempts);
+            }
+        });
+        final String result = new Retryer<String>()
+                .repeatCall(() -> null, Objects::isNull, 1, 2, "getOwner");
+        assertThat(result).isNull();
+        assertThat(events).containsExactly("retry getOwner 1", "retry getOwner 2", "exceeded getOwner 3");
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright 2026 IEXEC BLOCKCHAIN TECH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.iexec.commons.poco.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MicrometerMetricsListenerTests {
+
+    private MeterRegistry registry;
+    private MicrometerMetricsListener listener;
+
+    @BeforeEach
+    void init() {
+        registry = new SimpleMeterRegistry();
+        listener = new MicrometerMetricsListener(registry);
+    }
+
+    // region onRpcCall
+    @Test
+    void shouldRecordRpcCallsByMethodSelectorAndOutcome() {
+        listener.onRpcCall("eth_call", "0x5b36c66b", TimeUnit.MILLISECONDS.toNanos(5), false);
+        listener.onRpcCall("eth_call", "0x5b36c66b", TimeUnit.MILLISECONDS.toNanos(7), false);
+        listener.onRpcCall("eth_call", "0x5b36c66b", TimeUnit.MILLISECONDS.toNanos(9), true);
+
+        final Timer success = registry.get("iexec.poco.rpc")
+                .tags("method", "eth_call", "selector", "0x5b36c66b", "outcome", "success")
+                .timer();
+        assertThat(success.count()).isEqualTo(2);
+        assertThat(success.totalTime(TimeUnit.MILLISECONDS)).isEqualTo(12.0);
+        assertThat(registry.get("iexec.poco.rpc")
+                .tags("method", "eth_call", "selector", "0x5b36c66b", "outcome", "failure")
+                .timer().count()).isOne();
+        assertThat(registry.get("iexec.poco.rpc.errors")
+                .tags("method", "eth_call", "selector", "0x5b36c66b")
+                .counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void shouldTagRpcCallWithoutSelectorAsNone() {
+        listener.onRpcCall("eth_blockNumber", null, 1L, false);
+        assertThat(registry.get("iexec.poco.rpc")
+                .tags("method", "eth_blockNumber", "selector", "none", "outcome", "success")
+                .timer().count()).isOne();
+    }
+
+    @Test
+    void shouldReuseMetersOfSameTags() {
+        listener.onRpcCall("eth_call", "0x5b36c66b", 1L, false);
+        final int meterCount = registry.getMeters().size();
+        for (int i = 0; i < 10; i++) {
+            listener.onRpcCall("eth_call", "0x5b36c66b", 1L, i % 2 == 0);
+        }
+        assertThat(registry.getMeters()).hasSize(meterCount);
+        listener.onRpcCall("eth_call", "0x12345678", 1L, false);
+        assertThat(registry.getMeters()).hasSizeGreaterThan(meterCount);
+    }
+    // endregion
+
+    @Test
+    void shouldCountCacheHitsAndMisses() {
+        listener.onCacheAccess("deals", true);
+        listener.onCacheAccess("deals", true);
+        listener.onCacheAccess("deals", false);
+        assertThat(registry.get("iexec.poco.cache.access").tags("cache", "deals", "result", "hit")
+                .counter().count()).isEqualTo(2.0);
+        assertThat(registry.get("iexec.poco.cache.access").tags("cache", "deals", "result", "miss")
+                .counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void shouldTagRetriesWithOperationOnly() {
+        listener.onRetry("getChainTask() [chainTaskId:0x1]", 1);
+        listener.onRetry("getChainTask() [chainTaskId:0x2]", 1);
+        listener.onRetriesExceeded("getChainTask() [chainTaskId:0x2]", 3);
+        assertThat(registry.get("iexec.poco.retry.attempts").tag("operation", "getChainTask()")
+                .counter().count()).isEqualTo(2.0);
+        assertThat(registry.get("iexec.poco.retry.exhausted").tag("operation", "getChainTask()")
+                .counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void shouldRecordSigningAndReceipts() {
+        listener.onSigning("signMessageHash", 1L);
+        listener.onTransactionReceipt(1L, true);
+        listener.onTransactionReceipt(1L, false);
+        assertThat(registry.get("iexec.poco.signing").tag("operation", "signMessageHash").timer().count()).isOne();
+        assertThat(registry.get("iexec.poco.tx.receipt").tag("outcome", "mined").timer().count()).isOne();
+        assertThat(registry.get("iexec.poco.tx.receipt").tag("outcome", "lost").timer().count()).isOne();
+    }
+
+    @Test
+    void shouldExtractOperationFromContext() {
+        assertThat(MicrometerMetricsListener.operationOf("getOwner [address:0x1]")).isEqualTo("getOwner");
+        assertThat(MicrometerMetricsListener.operationOf("getOwner")).isEqualTo("getOwner");
+        assertThat(MicrometerMetricsListener.operationOf(null)).isEqualTo("none");
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright 2026 IEXEC BLOCKCHAIN TECH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.iexec.commons.poco.order;
+
+import com.iexec.commons.poco.eip712.EIP712Domain;
+import com.iexec.commons.poco.utils.BytesUtils;
+import org.junit.jupiter.api.Test;
+import org.web3j.crypto.Credentials;
+import org.web3j.crypto.Keys;
+
+import java.math.BigInteger;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OrderBatchVerifierTests {
+
+    private static final EIP712Domain DOMAIN = new EIP712Domain(133, "0x3eca1B216A7DF1C7689aEb259fFB83ADFB894E7f");
+    private static final Credentials CREDENTIALS = createCredentials();
+
+    private static Credentials createCredentials() {
+        try {
+            return Credentials.create(Keys.createEcKeyPair());
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static AppOrder appOrder(final String app, final long price) {
+        return AppOrder.builder()
+                .app(app)
+                .appprice(BigInteger.valueOf(price))
+                .volume(BigInteger.ONE)
+                .tag(OrderTag.STANDARD.getValue())
+                .datasetrestrict(BytesUtils.EMPTY_ADDRESS)
+                .workerpoolrestrict(BytesUtils.EMPTY_ADDRESS)
+                .requesterrestrict(BytesUtils.EMPTY_ADDRESS)
+                .salt(BytesUtils.toByte32HexString(price))
+                .build();
+    }
+
+    private static AppOrder signedAppOrder(final long price) {
+        final AppOrder order = appOrder("0x6709CAe77CDa2cbA8Cb90A4F5a4eFfb5c8Fe8367", price);
+        return order.withSignature(order.sign(CREDENTIALS.getEcKeyPair(), DOMAIN));
+    }
+
+    @Test
+    void shouldRecoverSignersInInputOrder() {
+        final List<AppOrder> orders = IntStream.range(0, 50).mapToObj(OrderBatchVerifierTests::signedAppOrder).toList();
+        final ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            final List<OrderBatchVerifier.Result> results = OrderBatchVerifier.verify(pool, orders, DOMAIN, order -> CREDENTIALS.getAddress());
+            assertThat(results).hasSize(orders.size());
+            for (int i = 0; i < orders.size(); i++) {
+                final OrderBatchVerifier.Result result = results.get(i);
+                assertThat(result.getOrder()).isSameAs(orders.get(i));
+                assertThat(result.isValid()).isTrue();
+                assertThat(result.getHash()).isEqualTo(orders.get(i).computeHash(DOMAIN));
+                assertThat(result.getSigner()).isEqualTo(CREDENTIALS.getAddress());
+                assertThat(result.getError()).isNull();
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void shouldSeparateMalformedOrdersFromInvalidSignatures() {
+        final AppOrder valid = signedAppOrder(1);
+        final AppOrder unsigned = appOrder("0x6709CAe77CDa2cbA8Cb90A4F5a4eFfb5c8Fe8367", 2);
+        final AppOrder badField = appOrder("0xnotanaddress", 3).withSignature(valid.getSign());
+        final String sign = valid.getSign();
+        final AppOrder badRecoveryId = valid.withSignature(sign.substring(0, sign.length() - 2) + "1d");
+        final AppOrder otherSigner = signedAppOrder(4).withSignature(valid.getSign());
+
+        final List<OrderBatchVerifier.Result> results = OrderBatchVerifier.verify(
+                List.of(valid, unsigned, badField, badRecoveryId, otherSigner), DOMAIN);
+
+        assertThat(results).extracting(OrderBatchVerifier.Result::getStatus).containsExactly(
+                OrderBatchVerifier.Status.RECOVERED,
+                OrderBatchVerifier.Status.MALFORMED,
+                OrderBatchVerifier.Status.MALFORMED,
+                OrderBatchVerifier.Status.INVALID_SIGNATURE,
+                OrderBatchVerifier.Status.RECOVERED);
+        assertThat(results).noneMatch(OrderBatchVerifier.Result::isValid);
+        assertThat(results.get(2).getHash()).isNull();
+        assertThat(results.get(3).getHash()).isNotNull();
+        // signature of another order recovers another address
+        assertThat(results.get(4).getSigner()).isNotEqualTo(CREDENTIALS.getAddress());
+    }
+
+    @Test
+    void shouldRejectUnexpectedSigner() {
+        final OrderBatchVerifier.Result result = OrderBatchVerifier.verify(
+                List.of(signedAppOrder(1)), DOMAIN, order -> BytesUtils.EMPTY_ADDRESS).get(0);
+        assertThat(result.getStatus()).isEqualTo(OrderBatchVerifier.Status.INVALID_SIGNATURE);
+        assertThat(result.getSigner()).isEqualTo(CREDENTIALS.getAddress());
+        assertThat(result.getError()).contains(BytesUtils.EMPTY_ADDRESS);
+    }
+}
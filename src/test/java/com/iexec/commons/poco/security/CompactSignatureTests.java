@@ -0,0 +1,86 @@
+/*
+ * Copyright 2026 IEXEC BLOCKCHAIN TECH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.iexec.commons.poco.security;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.exc.ValueInstantiationException;
+import org.junit.jupiter.api.Test;
+import org.web3j.crypto.Sign;
+import org.web3j.utils.Numeric;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CompactSignatureTests {
+
+    private static final String VALUE = "0x1b0b90d9f17a30d42492c8a2f98a24374600729a98d4e0b663a44ed48b589cab0e445eec300245e590150c7d88340d902c27e0d8673f3257cb8393f647d6c75c1b";
+    private static final ObjectMapper mapper = new ObjectMapper();
+
+    @Test
+    void shouldMatchSignatureViews() {
+        final Signature signature = new Signature(VALUE);
+        final CompactSignature compactSignature = CompactSignature.from(signature);
+        assertThat(compactSignature.getR()).isEqualTo(signature.getR());
+        assertThat(compactSignature.getS()).isEqualTo(signature.getS());
+        assertThat(compactSignature.getV()).isEqualTo(signature.getV()[0]);
+        assertThat(compactSignature.toBytes()).isEqualTo(Numeric.hexStringToByteArray(VALUE));
+        assertThat(compactSignature.getValue()).isEqualTo(VALUE);
+        assertThat(compactSignature.toSignature()).isEqualTo(signature);
+        assertThat(CompactSignature.of(compactSignature.toBytes())).isEqualTo(compactSignature);
+    }
+
+    @Test
+    void shouldCopyArraysToSignatureData() {
+        final CompactSignature compactSignature = CompactSignature.fromHexString(VALUE);
+        final Sign.SignatureData signatureData = compactSignature.toSignatureData();
+        assertThat(CompactSignature.of(signatureData)).isEqualTo(compactSignature);
+        final int hashCode = compactSignature.hashCode();
+        signatureData.getR()[0] = 0;
+        signatureData.getS()[0] = 0;
+        assertThat(compactSignature.getValue()).isEqualTo(VALUE);
+        assertThat(compactSignature.hashCode()).isEqualTo(hashCode);
+    }
+
+    @Test
+    void shouldNotExposeInternalArrays() {
+        final CompactSignature compactSignature = CompactSignature.fromHexString(VALUE);
+        compactSignature.getR()[0] = 0;
+        compactSignature.getS()[0] = 0;
+        assertThat(compactSignature.getValue()).isEqualTo(VALUE);
+    }
+
+    @Test
+    void shouldUseSignatureJsonFormat() throws JsonProcessingException {
+        final String json = mapper.writeValueAsString(new Signature(VALUE));
+        final CompactSignature compactSignature = mapper.readValue(json, CompactSignature.class);
+        assertThat(compactSignature.getValue()).isEqualTo(VALUE);
+        assertThat(mapper.writeValueAsString(compactSignature)).isEqualTo(json);
+        assertThat(mapper.readValue(mapper.writeValueAsString(compactSignature), Signature.class))
+                .isEqualTo(new Signature(VALUE));
+    }
+
+    @Test
+    void shouldRejectMalformedSignature() {
+        assertThatThrownBy(() -> CompactSignature.fromHexString("0xsignature"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> CompactSignature.of(new byte[64]))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> mapper.readValue("{\"value\":\"0x1234\"}", CompactSignature.class))
+                .isInstanceOf(ValueInstantiationException.class);
+    }
+}
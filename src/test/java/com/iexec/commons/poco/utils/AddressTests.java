@@ -0,0 +1,82 @@
+/*
+ * Copyright 2026 IEXEC BLOCKCHAIN TECH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.iexec.commons.poco.utils;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.NullSource;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.web3j.utils.Numeric;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AddressTests {
+
+    private static final String CHECKSUM_ADDRESS = "0x3eca1B216A7DF1C7689aEb259fFB83ADFB894E7f";
+    private static final ObjectMapper mapper = new ObjectMapper();
+
+    @Test
+    void shouldRoundTripHexAndBytes() {
+        final Address address = Address.fromHexString(CHECKSUM_ADDRESS);
+        assertThat(address.toHexString()).isEqualTo(CHECKSUM_ADDRESS.toLowerCase());
+        assertThat(address.toChecksumHexString()).isEqualTo(CHECKSUM_ADDRESS);
+        assertThat(address.toBytes()).isEqualTo(Numeric.hexStringToByteArray(CHECKSUM_ADDRESS));
+        assertThat(Address.of(address.toBytes())).isEqualTo(address);
+        assertThat(address.isZero()).isFalse();
+        assertThat(Address.fromHexString(BytesUtils.EMPTY_ADDRESS)).isEqualTo(Address.ZERO);
+        assertThat(Address.ZERO.isZero()).isTrue();
+    }
+
+    @Test
+    void shouldHandleHighBitsInLowestWord() {
+        final String value = "0x00000000000000000000000000000000ffffffff";
+        final Address address = Address.fromHexString(value);
+        assertThat(address.toHexString()).isEqualTo(value);
+        assertThat(address.isZero()).isFalse();
+    }
+
+    @Test
+    void shouldIgnoreCase() {
+        final Address lowerCase = Address.fromHexString(CHECKSUM_ADDRESS.toLowerCase());
+        final Address mixedCase = Address.fromHexString(CHECKSUM_ADDRESS);
+        assertThat(mixedCase).isEqualTo(lowerCase).hasSameHashCodeAs(lowerCase);
+    }
+
+    @Test
+    void shouldUseHexStringInJson() throws JsonProcessingException {
+        final Address address = Address.fromHexString(CHECKSUM_ADDRESS);
+        assertThat(mapper.writeValueAsString(address)).isEqualTo("\"" + CHECKSUM_ADDRESS.toLowerCase() + "\"");
+        assertThat(mapper.readValue("\"" + CHECKSUM_ADDRESS + "\"", Address.class)).isEqualTo(address);
+    }
+
+    @ParameterizedTest
+    @NullSource
+    @ValueSource(strings = {"", "0x", "0x1234", "3eca1B216A7DF1C7689aEb259fFB83ADFB894E7f00",
+            "0x3eca1B216A7DF1C7689aEb259fFB83ADFB894E7f00", "0xgeca1B216A7DF1C7689aEb259fFB83ADFB894E7f"})
+    void shouldRejectInvalidValue(final String hexString) {
+        assertThatThrownBy(() -> Address.fromHexString(hexString)).isInstanceOf(IllegalArgumentException.class);
+        assertThat(Address.fromHexStringOrNull(hexString)).isNull();
+    }
+
+    @Test
+    void shouldParseValidValueWithoutThrowing() {
+        assertThat(Address.fromHexStringOrNull(CHECKSUM_ADDRESS)).isEqualTo(Address.fromHexString(CHECKSUM_ADDRESS));
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright 2026 IEXEC BLOCKCHAIN TECH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.iexec.commons.poco.utils;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.NullSource;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.web3j.utils.Numeric;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class Bytes32Tests {
+
+    private static final String VALUE = "0x9ef8fbe2f5c0e5d4a0bd6fa2b7c5aa8d1e5f9f6d1c2a0e3f4b5c6d7e8f9a0b1c";
+    private static final ObjectMapper mapper = new ObjectMapper();
+
+    @Test
+    void shouldRoundTripHexAndBytes() {
+        final Bytes32 value = Bytes32.fromHexString(VALUE);
+        assertThat(value.toHexString()).isEqualTo(VALUE);
+        assertThat(value).hasToString(VALUE);
+        assertThat(value.toBytes()).isEqualTo(Numeric.hexStringToByteArray(VALUE));
+        assertThat(Bytes32.of(value.toBytes())).isEqualTo(value);
+        assertThat(value.isZero()).isFalse();
+        assertThat(Bytes32.fromHexString(BytesUtils.EMPTY_HEX_STRING_32)).isEqualTo(Bytes32.ZERO);
+        assertThat(Bytes32.ZERO.isZero()).isTrue();
+    }
+
+    @Test
+    void shouldIgnoreCase() {
+        final Bytes32 lowerCase = Bytes32.fromHexString(VALUE);
+        final Bytes32 upperCase = Bytes32.fromHexString("0x" + VALUE.substring(2).toUpperCase());
+        assertThat(upperCase).isEqualTo(lowerCase).hasSameHashCodeAs(lowerCase);
+        assertThat(upperCase.toHexString()).isEqualTo(VALUE);
+    }
+
+    @Test
+    void shouldUseHexStringInJson() throws JsonProcessingException {
+        final Bytes32 value = Bytes32.fromHexString(VALUE);
+        assertThat(mapper.writeValueAsString(value)).isEqualTo("\"" + VALUE + "\"");
+        assertThat(mapper.readValue("\"" + VALUE + "\"", Bytes32.class)).isEqualTo(value);
+    }
+
+    @ParameterizedTest
+    @NullSource
+    @ValueSource(strings = {"", "0x", "0x1234", VALUE + "00",
+            "9ef8fbe2f5c0e5d4a0bd6fa2b7c5aa8d1e5f9f6d1c2a0e3f4b5c6d7e8f9a0b1c00",
+            "0xzef8fbe2f5c0e5d4a0bd6fa2b7c5aa8d1e5f9f6d1c2a0e3f4b5c6d7e8f9a0b1c"})
+    void shouldRejectInvalidValue(final String hexString) {
+        assertThatThrownBy(() -> Bytes32.fromHexString(hexString)).isInstanceOf(IllegalArgumentException.class);
+        assertThat(Bytes32.fromHexStringOrNull(hexString)).isNull();
+    }
+
+    @Test
+    void shouldParseValidValueWithoutThrowing() {
+        assertThat(Bytes32.fromHexStringOrNull(VALUE)).isEqualTo(Bytes32.fromHexString(VALUE));
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2020-2023 IEXEC BLOCKCHAIN TECH
+ * Copyright 2020-2026 IEXEC BLOCKCHAIN TECH
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -18,6 +18,13 @@ package com.iexec.commons.poco.utils;
 
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.web3j.utils.Numeric;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.regex.Pattern;
 
 import static com.iexec.commons.poco.utils.BytesUtils.*;
 import static org.junit.jupiter.api.Assertions.*;
@@ -177,4 +184,31 @@ class BytesUtilsTests {
         Assertions.assertEquals("0x0000000000000000000000000000000000000000000000000000000000000001",
                 BytesUtils.toByte32HexString(1));
     }
+
+    // region regex equivalence
+    private static final Pattern HEX_PATTERN = Pattern.compile("(?i)^(0x)?\\p{XDigit}+$");
+    private static final Pattern HEX_WITH_PREFIX_PATTERN = Pattern.compile("^0x\\p{XDigit}+$");
+
+    static List<String> hexStrings() {
+        return Arrays.asList(null, "", "0", "x", "0x", "0X", "00", "0x0", "0X0", "0x00", "0xg", "0x0g", "g0",
+                "0xAbCdEf", "0XabcDEF", "abcdef", "0x0x00", " 0x00", "0x00 ", "0x00\n", "0x\uff10", "0x\u0661",
+                "0x" + "0".repeat(63), "0x" + "0".repeat(63) + "1", "0x" + "0".repeat(64), "0x" + "0".repeat(64) + "1",
+                "0x" + "0".repeat(65), "0x1" + "0".repeat(64), "0x" + "F".repeat(64), "0X" + "f".repeat(64));
+    }
+
+    @ParameterizedTest
+    @MethodSource("hexStrings")
+    void shouldValidateLikeRegex(String hexString) {
+        assertEquals(hexString != null && HEX_PATTERN.matcher(hexString).matches(), isHexString(hexString));
+        final boolean hasPrefix = hexString != null && HEX_WITH_PREFIX_PATTERN.matcher(hexString).matches();
+        assertEquals(hasPrefix, isHexStringWithPrefix(hexString));
+        for (int size : List.of(0, 1, 31, 32, 33)) {
+            final boolean hasProperSize = size > 0 && hasPrefix
+                    && Numeric.hexStringToByteArray(hexString).length == size;
+            assertEquals(hasProperSize, isHexStringWithPrefixAndProperBytesSize(hexString, size));
+            assertEquals(hasProperSize && !Arrays.equals(Numeric.hexStringToByteArray(hexString), new byte[size]),
+                    isNonZeroedHexStringWithPrefixAndProperBytesSize(hexString, size));
+        }
+    }
+    // endregion
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright 2021-2024 IEXEC BLOCKCHAIN TECH
+ * Copyright 2021-2026 IEXEC BLOCKCHAIN TECH
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,8 +16,18 @@
 
 package com.iexec.commons.poco.utils;
 
+import org.apache.commons.lang3.StringUtils;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.web3j.crypto.Keys;
 
+import java.security.GeneralSecurityException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -47,4 +57,58 @@ class EthAddressTests {
         // invalid checksum address
         assertFalse(EthAddress.validate(VALID_CHECKSUM_ADDRESS.replace('E', 'e')));
     }
+
+    // region regex equivalence
+    private static boolean validateWithRegex(String address) {
+        if (StringUtils.isEmpty(address)
+                || !Pattern.compile("(?i)^(0x)?[0-9a-f]{40}$").matcher(address).find()) {
+            return false;
+        }
+        if (Pattern.compile("^(0x)?[0-9a-f]{40}$").matcher(address).find()
+                || Pattern.compile("^(0x)?[0-9A-F]{40}$").matcher(address).find()) {
+            return true;
+        }
+        return Keys.toChecksumAddress(address).equals(address);
+    }
+
+    static List<String> addresses() {
+        final String lowerCase = VALID_CHECKSUM_ADDRESS.toLowerCase();
+        final String upperCase = lowerCase.toUpperCase().replace("0X", "0x");
+        final List<String> bodies = List.of(lowerCase.substring(2), upperCase.substring(2),
+                VALID_CHECKSUM_ADDRESS.substring(2), VALID_CHECKSUM_ADDRESS.substring(2).replace('E', 'e'),
+                Keys.toChecksumAddress("0x" + "ab".repeat(20)).substring(2), "0".repeat(40));
+        final List<String> addresses = new ArrayList<>(List.of("0", "0x", "0X", "x", lowerCase.substring(0, 41),
+                lowerCase + "0", " " + lowerCase, lowerCase + " ", lowerCase.replace('e', 'g'),
+                lowerCase.replace('e', '\uff45'), "\n" + lowerCase, lowerCase + "\n\n"));
+        for (String body : bodies) {
+            for (String prefix : List.of("", "0x", "0X")) {
+                for (String suffix : List.of("", "\n", "\r", "\r\n", "\u0085", "\u2028", "\u2029", "\t")) {
+                    addresses.add(prefix + body + suffix);
+                }
+            }
+        }
+        return addresses;
+    }
+
+    @ParameterizedTest
+    @MethodSource("addresses")
+    void shouldValidateLikeRegex(String address) {
+        assertThat(EthAddress.validate(address)).isEqualTo(validateWithRegex(address));
+    }
+
+    @Test
+    void shouldValidateChecksumAddressesLikeWeb3j() throws GeneralSecurityException {
+        for (int i = 0; i < 100; i++) {
+            final String address = Keys.toChecksumAddress(Keys.getAddress(Keys.createEcKeyPair().getPublicKey()));
+            assertTrue(EthAddress.validate(address));
+            final int letter = StringUtils.indexOfAny(address.substring(2), "abcdefABCDEF") + 2;
+            if (letter > 1) {
+                final char c = address.charAt(letter);
+                final char swapped = Character.isUpperCase(c) ? Character.toLowerCase(c) : Character.toUpperCase(c);
+                final String invalid = address.substring(0, letter) + swapped + address.substring(letter + 1);
+                assertThat(EthAddress.validate(invalid)).isEqualTo(validateWithRegex(invalid));
+            }
+        }
+    }
+    // endregion
 }
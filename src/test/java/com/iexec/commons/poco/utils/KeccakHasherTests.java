@@ -0,0 +1,85 @@
+/*
+ * Copyright 2026 IEXEC BLOCKCHAIN TECH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.iexec.commons.poco.utils;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.web3j.crypto.Hash;
+import org.web3j.utils.Numeric;
+
+import java.math.BigInteger;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class KeccakHasherTests {
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", "0x", "0xa", "abc", "0x748e091bf16048cb5103E0E10F9D5a8b7fBDd860"})
+    void shouldHashHexLikeWeb3j(final String hexString) {
+        assertThat(new KeccakHasher().updateHex(hexString).digest())
+                .isEqualTo(Hash.sha3(Numeric.hexStringToByteArray(hexString)));
+    }
+
+    @Test
+    void shouldNotDecodeNonAsciiDigits() {
+        assertThat(new KeccakHasher().updateHex("0x\u0661\u0662").digest())
+                .isNotEqualTo(new KeccakHasher().updateHex("0x12").digest());
+    }
+
+    @Test
+    void shouldHashHexLargerThanBuffer() {
+        final String hexString = "0x" + "0123456789abcdef".repeat(40);
+        assertThat(new KeccakHasher().updateHex(hexString).digest())
+                .isEqualTo(Hash.sha3(Numeric.hexStringToByteArray(hexString)));
+    }
+
+    @Test
+    void shouldHashIncrementallyLikeConcatenatedInput() {
+        final byte[] word = Numeric.toBytesPadded(BigInteger.valueOf(133), 32);
+        final byte[] expected = Hash.sha3(Numeric.hexStringToByteArray("0x1234" + Numeric.toHexStringNoPrefix(word) + "ff"));
+        final KeccakHasher hasher = new KeccakHasher();
+        assertThat(hasher.updateHex("0x1234").updateUint(133).update(new byte[]{(byte) 0xff}).digest())
+                .isEqualTo(expected);
+        // hasher is reset after digest
+        assertThat(hasher.updateHex("0x1234").update(word).update(new byte[]{0, (byte) 0xff}, 1, 1).digest())
+                .isEqualTo(expected);
+    }
+
+    @Test
+    void shouldWriteDigestIntoCallerBuffer() {
+        final byte[] output = new byte[40];
+        new KeccakHasher().update(new byte[]{1, 2, 3}).digest(output, 8);
+        final byte[] digest = new byte[KeccakHasher.DIGEST_SIZE];
+        System.arraycopy(output, 8, digest, 0, digest.length);
+        assertThat(digest).isEqualTo(Hash.sha3(new byte[]{1, 2, 3}));
+    }
+
+    @Test
+    void shouldResetThreadConfinedHasher() {
+        KeccakHasher.current().updateHex("0xdeadbeef");
+        assertThat(KeccakHasher.keccak256(new byte[0])).isEqualTo(Hash.sha3(new byte[0]));
+    }
+
+    @Test
+    void shouldConfineHasherToThread() {
+        final KeccakHasher hasher = KeccakHasher.current();
+        assertThat(KeccakHasher.current()).isSameAs(hasher);
+        assertThat(CompletableFuture.supplyAsync(KeccakHasher::current).join()).isNotSameAs(hasher);
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2020-2025 IEXEC BLOCKCHAIN TECH
+ * Copyright 2020-2026 IEXEC BLOCKCHAIN TECH
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -19,6 +19,9 @@ package com.iexec.commons.poco.utils;
 import com.iexec.commons.poco.security.Signature;
 import org.junit.jupiter.api.Test;
 import org.web3j.crypto.Credentials;
+import org.web3j.crypto.Keys;
+import org.web3j.crypto.Sign;
+import org.web3j.utils.Numeric;
 
 import static com.iexec.commons.poco.utils.SignatureUtils.isExpectedSignerOnSignedMessageHash;
 import static com.iexec.commons.poco.utils.SignatureUtils.signMessageHashAndGetSignature;
@@ -58,4 +61,42 @@ class SignatureUtilsTests {
                 .isTrue();
     }
 
+    // region signer recovery
+    private static final String PRIVATE_KEY = "0x6dacd24b3d49d0c50c555aa728c60a57aa08beb363e3a90cce2e4e5d327c6ee2";
+    private static final String HASH = "0xf0cea2ffdb802c106aef2a032b01c7d271a454473709016c2e2c406097acdfd3";
+
+    @Test
+    void shouldRecoverSignerFromHashAndCacheIt() {
+        final Credentials credentials = Credentials.create(PRIVATE_KEY);
+        final Signature signature = new Signature(SignatureUtils.signAsString(HASH, credentials.getEcKeyPair()));
+        SignatureUtils.RECOVERED_SIGNERS.invalidateAll();
+
+        assertThat(SignatureUtils.recoverSigner(HASH, signature)).isEqualTo(credentials.getAddress());
+        assertThat(SignatureUtils.doesSignatureMatchesAddress(signature, HASH, Keys.toChecksumAddress(credentials.getAddress())))
+                .isTrue();
+        assertThat(SignatureUtils.doesSignatureMatchesAddress(signature.getR(), signature.getS(), HASH, credentials.getAddress()))
+                .isTrue();
+        assertThat(SignatureUtils.RECOVERED_SIGNERS.estimatedSize()).isOne();
+    }
+
+    @Test
+    void shouldRecoverSignerWithZeroBasedRecoveryId() {
+        final Credentials credentials = Credentials.create(PRIVATE_KEY);
+        final Sign.SignatureData data = Sign.signMessage(Numeric.hexStringToByteArray(HASH), credentials.getEcKeyPair(), false);
+        final Signature signature = new Signature(data.getR(), data.getS(), new byte[]{(byte) (data.getV()[0] - 27)});
+        assertThat(SignatureUtils.recoverSigner(HASH, signature)).isEqualTo(credentials.getAddress());
+    }
+
+    @Test
+    void shouldNotRecoverSignerFromInvalidSignature() {
+        final Credentials credentials = Credentials.create(PRIVATE_KEY);
+        final String sign = SignatureUtils.signAsString(HASH, credentials.getEcKeyPair());
+        SignatureUtils.RECOVERED_SIGNERS.invalidateAll();
+        assertThat(SignatureUtils.recoverSigner(HASH, new Signature(sign.substring(0, sign.length() - 2) + "2f"))).isEmpty();
+        assertThat(SignatureUtils.recoverSigner(HASH, new Signature("0x1234"))).isEmpty();
+        assertThat(SignatureUtils.recoverSigner(HASH, new Signature())).isEmpty();
+        assertThat(SignatureUtils.RECOVERED_SIGNERS.estimatedSize()).isZero();
+    }
+    // endregion
+
 }
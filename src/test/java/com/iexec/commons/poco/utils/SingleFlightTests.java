@@ -0,0 +1,119 @@
+/*
+ * Copyright 2026 IEXEC BLOCKCHAIN TECH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.iexec.commons.poco.utils;
+
+import org.awaitility.Awaitility;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SingleFlightTests {
+
+    private final SingleFlight<String, String> singleFlight = new SingleFlight<>();
+
+    @Test
+    void shouldShareInProgressLoad() throws Exception {
+        final AtomicInteger loads = new AtomicInteger();
+        final CountDownLatch loadStarted = new CountDownLatch(1);
+        final CountDownLatch releaseLoad = new CountDownLatch(1);
+        final CompletableFuture<String> leader = CompletableFuture.supplyAsync(() -> singleFlight.load("key", () -> {
+            loads.incrementAndGet();
+            loadStarted.countDown();
+            await(releaseLoad);
+            return "value";
+        }));
+        assertThat(loadStarted.await(5, TimeUnit.SECONDS)).isTrue();
+        final CompletableFuture<String> follower = new CompletableFuture<>();
+        final Thread followerThread = startFollower(follower, () -> {
+            loads.incrementAndGet();
+            return "other";
+        });
+        // follower must be waiting for the leader before the load completes
+        Awaitility.await().atMost(5, TimeUnit.SECONDS).until(() -> followerThread.getState() == Thread.State.WAITING);
+        releaseLoad.countDown();
+
+        assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo("value");
+        assertThat(follower.get(5, TimeUnit.SECONDS)).isEqualTo("value");
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void shouldReleaseWaitersWhenLoaderThrowsError() throws Exception {
+        final CountDownLatch loadStarted = new CountDownLatch(1);
+        final CountDownLatch releaseLoad = new CountDownLatch(1);
+        final CompletableFuture<String> leader = CompletableFuture.supplyAsync(() -> singleFlight.load("key", () -> {
+            loadStarted.countDown();
+            await(releaseLoad);
+            throw new AssertionError("failure");
+        }));
+        assertThat(loadStarted.await(5, TimeUnit.SECONDS)).isTrue();
+        final CompletableFuture<String> follower = new CompletableFuture<>();
+        final Thread followerThread = startFollower(follower, () -> "other");
+        Awaitility.await().atMost(5, TimeUnit.SECONDS).until(() -> followerThread.getState() == Thread.State.WAITING);
+        releaseLoad.countDown();
+
+        assertThat(leader).failsWithin(5, TimeUnit.SECONDS)
+                .withThrowableOfType(ExecutionException.class)
+                .withCauseInstanceOf(AssertionError.class);
+        assertThat(follower).failsWithin(5, TimeUnit.SECONDS)
+                .withThrowableOfType(ExecutionException.class)
+                .withCauseInstanceOf(AssertionError.class);
+    }
+
+    private Thread startFollower(final CompletableFuture<String> result, final Supplier<String> loader) {
+        final Thread thread = new Thread(() -> {
+            try {
+                result.complete(singleFlight.load("key", loader));
+            } catch (Throwable t) {
+                result.completeExceptionally(t);
+            }
+        });
+        thread.setDaemon(true);
+        thread.start();
+        return thread;
+    }
+
+    @Test
+    void shouldLoadAgainOnceLoadCompleted() {
+        assertThat(singleFlight.load("key", () -> null)).isNull();
+        assertThat(singleFlight.load("key", () -> "value")).isEqualTo("value");
+    }
+
+    @Test
+    void shouldPropagateLoaderException() {
+        assertThatThrownBy(() -> singleFlight.load("key", () -> {
+            throw new IllegalStateException("failure");
+        })).isInstanceOf(IllegalStateException.class);
+        assertThat(singleFlight.load("key", () -> "value")).isEqualTo("value");
+    }
+
+    private void await(final CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}